@@ -12,11 +12,14 @@ package firefighting.aircraft;
 
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jade.core.Agent;
 import jade.core.behaviours.Behaviour;
@@ -29,14 +32,30 @@ import jade.domain.FIPANames;
 import jade.domain.FIPAAgentManagement.NotUnderstoodException;
 import jade.domain.FIPAAgentManagement.RefuseException;
 import jade.domain.FIPAAgentManagement.FailureException;
-import firefighting.aircraft.behaviours.DetectEnoughWaterQty;
+import firefighting.aircraft.behaviours.RefillWaterBehaviour;
+import firefighting.aircraft.behaviours.RepositionBehaviour;
+import firefighting.aircraft.utils.CooperativePathfinder;
+import firefighting.aircraft.utils.MissionPlanner;
+import firefighting.aircraft.utils.TourPlanner;
+import firefighting.aircraft.utils.TourStop;
 import firefighting.aircraft.utils.QItem;
 import firefighting.nature.Fire;
 import firefighting.nature.WaterResource;
 import firefighting.ui.GUI;
 import firefighting.utils.AircraftMetricsStats;
 import firefighting.utils.Config;
+import firefighting.utils.PathfindingMetricsStats;
+import firefighting.utils.SimulationRandom;
+import firefighting.utils.events.FireLifecycleEvent;
+import firefighting.utils.events.PathfindingEvent;
 import firefighting.world.*;
+import firefighting.world.utils.GridPath;
+import firefighting.world.utils.GridPathfinder;
+import firefighting.world.utils.OccupancyGrid;
+import firefighting.world.utils.PathCache;
+import firefighting.world.utils.ReservationTable;
+import firefighting.world.utils.WorldGrid;
+import firefighting.world.utils.WorldObjectType;
 
 
 /**
@@ -52,14 +71,24 @@ public class AircraftAgent extends Agent {
 	private static final long serialVersionUID = 1L;
 	
 	/**
-	 * The maximum water tank's capacity of the aircraft agent.
+	 * The time, in milliseconds, that the aircraft agent takes to fly each cell to a fire.
 	 */
-	private static int maxWaterTankCapacity;
+	private static final long FIRE_FLIGHT_CELL_DURATION = 2000;
 	
 	/**
-	 * The maximum fuel tank's capacity of the aircraft agent.
+	 * The time, in milliseconds, that the aircraft agent takes to fly each cell to refill its tanks.
+	 */
+	private static final long REFILL_FLIGHT_CELL_DURATION = 1000;
+	
+	/**
+	 * The result of a flight where the aircraft agent crashed.
+	 */
+	private static final int FLIGHT_CRASHED = -1;
+	
+	/**
+	 * The result of a flight to an unreachable goal (e.g., a fire boxed in by other fires), not reached.
 	 */
-	private static int maxFuelTankCapacity;
+	private static final int FLIGHT_UNREACHABLE = -2;
 	
 	
 	
@@ -75,6 +104,16 @@ public class AircraftAgent extends Agent {
 	 */
 	private WorldObject worldObject;
 
+	/**
+	 * The maximum water tank's capacity of the aircraft agent.
+	 */
+	private int maxWaterTankCapacity;
+	
+	/**
+	 * The maximum fuel tank's capacity of the aircraft agent.
+	 */
+	private int maxFuelTankCapacity;
+	
 	/**
 	 * The water tank's quantity of the aircraft agent.
 	 */
@@ -98,6 +137,15 @@ public class AircraftAgent extends Agent {
 	
 	public boolean attendindWater = false;
 	
+	public boolean attendindFuel = false;
+	
+	/**
+	 * The boolean value to keep the information about if
+	 * a refill mission of the aircraft agent is already enqueued
+	 * (set by the threads of the aircraft agent and of the world agent).
+	 */
+	private final AtomicBoolean waterRefillRequested = new AtomicBoolean(false);
+	
 	/**
 	 * 
 	 * TODO
@@ -110,26 +158,59 @@ public class AircraftAgent extends Agent {
 	 */
 	private boolean crashed;
 
-	/**
-	 * Auxiliary variable for saving Paths
-	 */
-	private ArrayList<Point> auxPath = new ArrayList<Point>();
-
 	/**
 	 * The execution metrics stats of the aircraft agent.
 	 */
 	private AircraftMetricsStats aircraftMetricsStats;
 	
+	/**
+	 * The planner of the range of the missions of the aircraft agent.
+	 */
+	private MissionPlanner missionPlanner;
+	
+	/**
+	 * The planner of the multi-stop tours of the missions of the aircraft agent.
+	 */
+	private TourPlanner tourPlanner;
+	
+	/**
+	 * The cooperative pathfinder of the aircraft agent, routing on top of the world's space-time reservation table.
+	 */
+	private CooperativePathfinder cooperativePathfinder;
+	
+	/**
+	 * The stops of the tour of the current mission of the aircraft agent.
+	 */
+	private ArrayList<TourStop> currentTour = new ArrayList<TourStop>();
+	
+	/**
+	 * The position toward which the aircraft agent moves while idle, or null, if there's none.
+	 */
+	private volatile Point repositioningTarget;
+	
+	/**
+	 * The boolean value to keep the information about if
+	 * a repositioning of the aircraft agent is already enqueued
+	 * (set by the threads of the aircraft agent and of the world agent).
+	 */
+	private final AtomicBoolean repositioningRequested = new AtomicBoolean(false);
+	
 
 	private Map<Long, Thread> sleepingThreads;
 	
+	/**
+	 * The timestamp of the last proposal sent by the aircraft agent.
+	 */
+	private long lastProposalTimestamp;
+	
 
 	// Constructors:
 	
 	/**
 	 * Constructor #1 of the aircraft agent.
 	 * 
-	 * Creates a new aircraft agent, initialising its id, its world's object and its tank capacity.
+	 * Creates a new aircraft agent, initialising its id, its world's object and its tanks' capacities
+	 * (starting with an empty water tank and a full fuel tank).
 	 * 
 	 * @param id the aircraft agent's id
 	 * @param worldObject the aircraft agent's world object
@@ -140,13 +221,15 @@ public class AircraftAgent extends Agent {
 	
 		this.worldAgent = worldAgent;
 		
-		Random randomObject = new Random();
+		SplittableRandom randomObject = SimulationRandom.split("AircraftAgent" + id);
 		
 		this.waterTankQuantity = 0;
-		AircraftAgent.maxWaterTankCapacity = randomObject.nextInt(Config.AIRCRAFT_MAX_WATER_TANK_CAPACITY) + 1;
+		this.maxWaterTankCapacity = randomObject.nextInt(Config.AIRCRAFT_MAX_WATER_TANK_CAPACITY) + 1;
 
-		this.fuelTankQuantity = 0;
-		AircraftAgent.maxWaterTankCapacity = randomObject.nextInt(Config.AIRCRAFT_MAX_INITIAL_FUEL_TANK_CAPACITY) + 1;
+		// The fuel tank's capacity, from the number of cells it can fly without wind
+		this.maxFuelTankCapacity = randomObject.nextInt(Config.AIRCRAFT_MAX_INITIAL_FUEL_TANK_CAPACITY, Config.AIRCRAFT_MAX_FINAL_FUEL_TANK_CAPACITY + 1) *
+								   Config.AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_NO_WIND;
+		this.fuelTankQuantity = this.maxFuelTankCapacity;
 		
 		this.attendindFire = false;
 		this.currentAttendindFire = null;
@@ -154,6 +237,10 @@ public class AircraftAgent extends Agent {
 		this.crashed = false;
 		
 		this.aircraftMetricsStats = new AircraftMetricsStats();
+		
+		this.missionPlanner = new MissionPlanner(worldAgent);
+		this.tourPlanner = new TourPlanner(this.missionPlanner, worldAgent.getWaterResources());
+		this.cooperativePathfinder = new CooperativePathfinder(worldAgent);
 
 		this.sleepingThreads = new ConcurrentHashMap<>();
 	}
@@ -193,8 +280,110 @@ public class AircraftAgent extends Agent {
 		this.waterTankQuantity++;
 	}
 	
-	public void decreaseWaterQuantity() {
-		this.waterTankQuantity--;
+	/**
+	 * Decreases the water tank's quantity of the aircraft agent by a given number of units,
+	 * enqueuing a refill mission, if it crosses the low-water watermark.
+	 * 
+	 * @param units the number of units of water
+	 */
+	public void decreaseWaterQuantity(int units) {
+		int previousWaterTankQuantity = this.waterTankQuantity;
+		
+		this.waterTankQuantity -= units;
+		
+		this.onWaterTankDecreased(previousWaterTankQuantity);
+	}
+	
+	/**
+	 * Returns the low-water watermark of the aircraft agent, under which its water tank's quantity
+	 * triggers a refill of the water tank (given by Config.AIRCRAFT_LOW_WATER_WATERMARK).
+	 * 
+	 * @return the low-water watermark of the aircraft agent
+	 */
+	public int getLowWaterWatermark() {
+		return (int) Math.ceil(this.getMaxWaterTankCapacity() * Config.AIRCRAFT_LOW_WATER_WATERMARK);
+	}
+	
+	/**
+	 * Enqueues a refill mission, if the water tank's quantity crossed the low-water watermark
+	 * with its last decrease (from a given previous quantity).
+	 * 
+	 * @param previousWaterTankQuantity the water tank's quantity before its last decrease
+	 */
+	private void onWaterTankDecreased(int previousWaterTankQuantity) {
+		int lowWaterWatermark = this.getLowWaterWatermark();
+		
+		if(previousWaterTankQuantity >= lowWaterWatermark && this.waterTankQuantity < lowWaterWatermark) {
+			this.requestWaterRefill();
+		}
+	}
+	
+	/**
+	 * Enqueues a refill mission, if the water tank's quantity is under the low-water watermark
+	 * or the aircraft agent's range isn't enough to fly to a water resource and back to the fire station
+	 * (also checked by the world agent, for the idle aircraft agents, when a new weather epoch changes the fuel consumption).
+	 */
+	public void requestWaterRefillIfNeeded() {
+		if(this.waterTankQuantity < this.getLowWaterWatermark() ||
+		   !this.missionPlanner.canRefillWater(this.fuelTankQuantity, this.worldObject.getPos())) {
+			
+			this.requestWaterRefill();
+		}
+	}
+	
+	/**
+	 * Enqueues a refill mission of the aircraft agent, if there's none enqueued yet.
+	 */
+	private void requestWaterRefill() {
+		if(this.crashed || !this.waterRefillRequested.compareAndSet(false, true)) {
+			return;
+		}
+		
+		this.addBehaviour(new RefillWaterBehaviour(this));
+	}
+	
+	/**
+	 * Retries the refill of the water tank, after the unreserved water capacity of any water resource increased,
+	 * if it's still under the low-water watermark (notified by the world agent, to its waiting aircraft agents).
+	 */
+	public void onWaterCapacityIncreased() {
+		if(this.waterTankQuantity < this.getLowWaterWatermark()) {
+			this.requestWaterRefill();
+		}
+	}
+	
+	/**
+	 * Performs the enqueued refill mission of the aircraft agent: refuels, if its range isn't enough
+	 * to fly to a water resource and back to the fire station, and refills its water tank, if it's still
+	 * under the low-water watermark (retrying when the unreserved water capacity of any water resource increases,
+	 * if all the water resources are depleted or reserved).
+	 */
+	public void refillWater() {
+		this.waterRefillRequested.set(false);
+		
+		// A fire's mission is in course, whose tour plans its own water stops (checked again at its end)
+		if(this.crashed || this.attendindFire) {
+			return;
+		}
+		
+		if(!this.missionPlanner.canRefillWater(this.fuelTankQuantity, this.worldObject.getPos())) {
+			this.goToFireStation();
+		}
+		
+		if(!this.crashed && this.waterTankQuantity < this.getLowWaterWatermark()) {
+			
+			// Waits for the unreserved water capacity of any water resource to increase, before the search,
+			// so an increase during the search (by other aircraft agents) isn't lost
+			this.worldAgent.waitForWaterCapacity(this);
+			
+			this.goToNearestWaterResource();
+			
+			// Refilled, so it doesn't wait anymore (otherwise, all the water resources were depleted or reserved
+			// by other aircraft agents, and it keeps waiting, to retry)
+			if(this.crashed || this.waterTankQuantity >= this.getLowWaterWatermark()) {
+				this.worldAgent.stopWaitingForWaterCapacity(this);
+			}
+		}
 	}
 
 	/**
@@ -207,7 +396,7 @@ public class AircraftAgent extends Agent {
 	}
 
 	public boolean haveFullWaterTank() {
-		return this.getWaterTankQuantity() == Config.AIRCRAFT_MAX_WATER_TANK_CAPACITY;
+		return this.getWaterTankQuantity() >= this.getMaxWaterTankCapacity();
 	}
 	
 	/**
@@ -216,7 +405,7 @@ public class AircraftAgent extends Agent {
 	 * @return the maximum water tank's capacity of the aircraft agent
 	 */
 	public int getMaxWaterTankCapacity() {
-		return AircraftAgent.maxWaterTankCapacity;
+		return this.maxWaterTankCapacity;
 	}
 	
 	/**
@@ -237,15 +426,36 @@ public class AircraftAgent extends Agent {
 		return this.getFuelTankQuantity() == 0;
 	}
 	
+	/**
+	 * Returns true if the aircraft agent have its fuel tank full and false, otherwise.
+	 * 
+	 * @return true if the aircraft agent have its fuel tank full and false, otherwise
+	 */
+	public boolean haveFullFuelTank() {
+		return this.getFuelTankQuantity() >= this.getMaxFuelTankCapacity();
+	}
+	
 	/**
 	 * Returns true if the aircraft agent have enough fuel in the tank to fly to
 	 * some destination and false, otherwise.
 	 * 
+	 * @param numPositions the number of positions (cells) to the destination
+	 * 
 	 * @return true if the aircraft agent have enough fuel in the tank to fly to
 	 * 		   some destination and false, otherwise
 	 */
 	public boolean haveEnoughFuelToDest(int numPositions) {
-		return this.getFuelTankQuantity() > numPositions;
+		return this.getFuelTankQuantity() >= this.missionPlanner.getFuelNeeded(numPositions);
+	}
+	
+	/**
+	 * Consumes the fuel to fly over a cell, accordingly with the current type of wind,
+	 * suffering an accident crash if the fuel tank becomes empty.
+	 */
+	private void consumeFuel() {
+		this.fuelTankQuantity = Math.max(this.fuelTankQuantity - this.worldAgent.getWindType().getAircraftFuelConsumptionPerCell(), 0);
+		
+		this.accidentCrash();
 	}
 	
 	/**
@@ -253,11 +463,27 @@ public class AircraftAgent extends Agent {
 	 * it suffer an accident crash and become indefinitely inactive.
 	 */
 	public void accidentCrash() {
-		if(this.haveEmptyWaterTank()) {
+		if(this.haveEmptyFuelTank()) {
 			this.crashed = true;
-			this.takeDown();
+			
+			// The crashed aircraft agent stays indefinitely where it crashed
+			Point pos = this.worldObject.getPos();
+			
+			this.worldAgent.getReservationTable().release(this);
+			this.worldAgent.getReservationTable().park(this, pos.x, pos.y, this.worldAgent.getCurrentReservationStep());
+			
+			this.doDelete();
 		}
 	}
+	
+	/**
+	 * Returns the planner of the range of the missions of the aircraft agent.
+	 * 
+	 * @return the planner of the range of the missions of the aircraft agent
+	 */
+	public MissionPlanner getMissionPlanner() {
+		return this.missionPlanner;
+	}
 
 	/**
 	 * Returns the maximum fuel tank's capacity of the aircraft agent.
@@ -265,7 +491,7 @@ public class AircraftAgent extends Agent {
 	 * @return the maximum fuel tank's capacity of the aircraft agent
 	 */
 	public int getMaxFuelTankCapacity() {
-		return AircraftAgent.maxFuelTankCapacity;
+		return this.maxFuelTankCapacity;
 	}
 	
 	/**
@@ -295,6 +521,65 @@ public class AircraftAgent extends Agent {
 		this.attendindFire = false;
 	}
 	
+	/**
+	 * Returns true if the aircraft agent isn't attending any fire, water resource or fire station, nor crashed,
+	 * at the current moment, and false, otherwise.
+	 * 
+	 * @return true if the aircraft agent is idle, at the current moment, and false, otherwise
+	 */
+	public boolean isIdle() {
+		return !this.attendindFire && !this.attendindWater && !this.attendindFuel && !this.crashed;
+	}
+	
+	/**
+	 * Returns the position toward which the aircraft agent moves while idle, or null, if there's none.
+	 * 
+	 * @return the position toward which the aircraft agent moves while idle, or null, if there's none
+	 */
+	public Point getRepositioningTarget() {
+		return this.repositioningTarget;
+	}
+	
+	/**
+	 * Sets the position toward which the aircraft agent moves while idle.
+	 * 
+	 * @param repositioningTarget the position toward which the aircraft agent moves while idle, or null, if there's none
+	 */
+	public void setRepositioningTarget(Point repositioningTarget) {
+		this.repositioningTarget = repositioningTarget;
+	}
+	
+	/**
+	 * Returns true if the aircraft agent is at its repositioning target (or has none) and false, otherwise.
+	 * 
+	 * @return true if the aircraft agent is at its repositioning target (or has none) and false, otherwise
+	 */
+	public boolean hasReachedRepositioningTarget() {
+		Point target = this.repositioningTarget;
+		
+		return target == null || target.equals(this.worldObject.getPos());
+	}
+	
+	/**
+	 * Enqueues a repositioning of the aircraft agent toward its repositioning target,
+	 * if it's still unreached and there's no repositioning enqueued yet (called by the world agent, for each assigned target).
+	 */
+	public void requestRepositioning() {
+		if(this.crashed || this.hasReachedRepositioningTarget() || !this.repositioningRequested.compareAndSet(false, true)) {
+			return;
+		}
+		
+		this.addBehaviour(new RepositionBehaviour(this));
+	}
+	
+	/**
+	 * Marks the enqueued repositioning of the aircraft agent as stopped (target reached, or the aircraft agent
+	 * not idle or blocked), so the next assigned target enqueues a new one.
+	 */
+	public void onRepositioningStopped() {
+		this.repositioningRequested.set(false);
+	}
+	
 	/**
 	 * Returns the boolean value that keeps the information about if
 	 * the aircraft agent crashed or not.
@@ -323,9 +608,9 @@ public class AircraftAgent extends Agent {
 	
 	protected void setup() {
 		
-		//verify if has enough water
-		addBehaviour(new DetectEnoughWaterQty(this, 1000));
-			
+		// The water tank starts under the low-water watermark, so the first refill mission is enqueued directly
+		this.requestWaterRefillIfNeeded();
+		
 		if(GUI.isActive()) {
 			GUI.log("Agent responder " + getLocalName() + " waiting for CFP Messages...\n");
 		}
@@ -345,9 +630,11 @@ public class AircraftAgent extends Agent {
 				else {
 					System.out.print("Agent "+getLocalName()+": CFP received from "+cfp.getSender().getName()+". Action is "+cfp.getContent() + "\n");
 				}
+				long cfpTimestamp = cfp.getPostTimeStamp() > 0 ? cfp.getPostTimeStamp() : System.currentTimeMillis();
+				
 				int proposal = evaluateAction(cfp.getContent());
 				
-				if (!attendindFire && proposal < Integer.MAX_VALUE) {
+				if (!attendindFire && !crashed && proposal < Integer.MAX_VALUE) {
 					// We provide a proposal
 					
 					if(GUI.isActive()) {
@@ -361,6 +648,9 @@ public class AircraftAgent extends Agent {
 					propose.setContent(String.valueOf(proposal));
 			
 					aircraftMetricsStats.incNumTotalMessagesSentByThisAircraft();
+					aircraftMetricsStats.recordCfpToProposalTime(cfpTimestamp);
+					
+					lastProposalTimestamp = System.currentTimeMillis();
 					
 					return propose;
 				}
@@ -383,6 +673,8 @@ public class AircraftAgent extends Agent {
 				else {
 					System.out.print("Agent "+getLocalName()+": Proposal accepted\n");
 				}
+				aircraftMetricsStats.recordProposalToAcceptTime(lastProposalTimestamp);
+				
 				attendindFire = true;
 	
 				if (performAction()) {
@@ -420,13 +712,7 @@ public class AircraftAgent extends Agent {
 	}
 	
 	public Fire getthisFire(int x, int y) {
-		Fire currentFire = null ;
-		
-		for(int pos = 0; pos < this.worldAgent.getCurrentFires().size() ; pos++)
-			if(this.worldAgent.getCurrentFires().get(pos).getWorldObject().getPos().getX() == x && this.worldAgent.getCurrentFires().get(pos).getWorldObject().getPos().getY() == y)
-				currentFire = this.worldAgent.getCurrentFires().get(pos);	
-		
-		return currentFire;
+		return this.worldAgent.getFireStore().get(x, y);
 	}
 
 	public int evaluateAction(String message) {
@@ -442,151 +728,484 @@ public class AircraftAgent extends Agent {
 		
 		int totalDistanceToMake = 0;
 		
-		int fireIntensity = Integer.parseInt(tokens[2]);
 		
 		Point firePos = new Point(Integer.parseInt(tokens[4]), Integer.parseInt(tokens[5]));
 		
 		this.currentAttendindFire = getthisFire(Integer.parseInt(tokens[4]), Integer.parseInt(tokens[5]));
 		
-		ArrayList<Point> pathToFire = this.pathToFire(firePos);
-		
-		int distanceToFire = pathToFire.size();
+		int distanceToFire = this.distanceToFire(firePos);
 		
-		this.auxPath.clear();
-		
-		this.auxPath.addAll(this.pathToFire(firePos));
+		// Refuses the fires unreachable (e.g., boxed in by other fires), instead of bidding the best distance
+		if(distanceToFire < 0)
+			return Integer.MAX_VALUE;
 
 		totalDistanceToMake = distanceToFire;
-			
-		if(waterTankQuantity > fireIntensity/2)
-			totalDistanceToMake = distanceToFire; 
-		else	
+		
+		if(this.currentAttendindFire == null)
+			return Integer.MAX_VALUE;
+		
+		// Plans the tour of the mission (the fire, other nearby open fires and the water resources' stops between them),
+		// trimmed to the missions whose round trip (fires, water resource and fire station) doesn't exceed the remaining range
+		this.currentTour = this.tourPlanner.plan(this.worldObject.getPos(), this.waterTankQuantity, this.maxWaterTankCapacity,
+												 this.fuelTankQuantity, this.currentAttendindFire, this.worldAgent.getCurrentFires());
+		
+		if(this.currentTour.isEmpty())
 			return Integer.MAX_VALUE;
 		
+		// Without water enough, the tour starts by a water resource (bid with the same pathfinder's distances of the fires)
+		if(!this.currentTour.get(0).isFire()) {
+			totalDistanceToMake = this.distanceToFirstFire(this.currentTour);
+			
+			if(totalDistanceToMake < 0)
+				return Integer.MAX_VALUE;
+		}
+		
 		return totalDistanceToMake;
 	}
 
 	@SuppressWarnings("static-access")
 	public boolean performAction() {
 		if(this.currentAttendindFire != null) {
-			this.currentAttendindFire.attended = true;
 			
-			long startFireAttendTravelTime = System.currentTimeMillis();
+			this.aircraftMetricsStats.incNumTotalMissionsByThisAircraft();
 			
-			// Simulate action execution by generating a random number
-			for(int i = 0; i < this.auxPath.size(); i++) {
-				try {
-					this.sleepingThreads.put(Thread.currentThread().getId(), Thread.currentThread());
-					Thread.sleep(2000);
-				}
-				catch (InterruptedException e) {
-					//e.printStackTrace();
-				}
+			// Claims all the fires of the tour, dropping the ones already claimed by other aircraft agents
+			// (after the evaluation of the tour)
+			for(Iterator<TourStop> tourStops = this.currentTour.iterator(); tourStops.hasNext(); ) {
+				TourStop tourStop = tourStops.next();
 				
-				this.worldObject.setPos((int)this.auxPath.get(i).getX(), (int)this.auxPath.get(i).getY());
+				if(tourStop.isFire()) {
+					Fire fire = tourStop.getFire();
+					
+					if(!fire.tryClaim(this)) {
+						tourStops.remove();
+						
+						continue;
+					}
+					
+					FireLifecycleEvent.commit(FireLifecycleEvent.CLAIMED, fire.getWorldObject().getPos().x,
+							fire.getWorldObject().getPos().y, fire.getCurrentIntensity(), this.getLocalName());
+				}
 			}
 			
-			this.aircraftMetricsStats.incNumTotalTravelsByThisAircraft();
-			this.aircraftMetricsStats.incTotalTimeInTravelsByThisAircraft(startFireAttendTravelTime);
-			
-			
-			long startPutOutFireTime = System.currentTimeMillis();
-			
-			while(this.waterTankQuantity > 0) {
-				try {
-					this.sleepingThreads.put(Thread.currentThread().getId(), Thread.currentThread());
-					Thread.sleep(1000);
-				}
-				catch (InterruptedException e) {
-					//e.printStackTrace();
-				}
-				
-				// Water decrement
-				this.waterTankQuantity--;
-				this.currentAttendindFire.decreaseIntensity(1);
+			for(int s = 0; s < this.currentTour.size(); s++) {
+				TourStop tourStop = this.currentTour.get(s);
 				
-				if(this.currentAttendindFire.getCurrentIntensity() == 0) {
-					this.worldAgent.removeFire((int)this.currentAttendindFire.getWorldObject().getPos().getX(), (int)this.currentAttendindFire.getWorldObject().getPos().getY());
-					this.currentAttendindFire = null;
+				// Refills the water tank, in the tour's water resource (or the nearest one with enough unreserved capacity,
+				// if the tour's water resource was depleted or reserved by other aircraft agents, meanwhile)
+				if(!tourStop.isFire()) {
+					if(tourStop.getWaterResource().getUnreservedCapacity() > 0)
+						this.goToWaterResource(tourStop.getWaterResource());
+					else
+						this.goToNearestWaterResource();
 					
-					this.aircraftMetricsStats.incNumTotalFiresExtinguishedByThisAircraft();
-					this.aircraftMetricsStats.incTotalTimeToExtinguishFiresByThisAircraft(startPutOutFireTime);
+					if(this.crashed)
+						break;
 					
-					break;
+					continue;
 				}
+				
+				Fire fire = tourStop.getFire();
+				
+				// The fire was already extinguished (e.g., by the rain)
+				if(!fire.isActive())
+					continue;
+				
+				int numTravelCells = this.flyToFire(fire.getWorldObject().getPos());
+				
+				if(numTravelCells == FLIGHT_CRASHED)
+					break;
+				
+				// The fire is unreachable (e.g., boxed in by other fires), so it's released with the fires not extinguished
+				if(numTravelCells == FLIGHT_UNREACHABLE)
+					continue;
+				
+				this.putOutFire(fire);
 			}
 			
-			this.aircraftMetricsStats.incNumTotalFiresAttendedByThisAircraft();
-			this.aircraftMetricsStats.incTotalTimeToAttendFiresByThisAircraft(startPutOutFireTime);
-
-			if(this.worldAgent.getCurrentFires().contains(this.currentAttendindFire))
-				this.currentAttendindFire.attended = false;
-				
+			// Releases the fires of the tour (all claimed by this aircraft agent) not extinguished
+			for(TourStop tourStop : this.currentTour) {
+				if(tourStop.isFire() && tourStop.getFire().isActive())
+					tourStop.getFire().release(this);
+			}
+			
+			this.currentAttendindFire = null;
+			this.currentTour = new ArrayList<TourStop>();
+			
 			this.attendindFire = false;
-			this.auxPath.clear();
 			
-			return true;
+			// Refuels or refills the water tank after the mission, if the water or the range left by it are low
+			this.requestWaterRefillIfNeeded();
+			
+			return !this.crashed;
 		}
 		
 		this.attendindFire = false;
 		
 		return true;
 	}
+	
+	/**
+	 * Flies the aircraft agent, through a cooperative path, to a fire in a given position.
+	 * 
+	 * @param firePos the position of the fire
+	 * 
+	 * @return the number of cells flown, or FLIGHT_CRASHED, if the aircraft agent crashed,
+	 * 		   or FLIGHT_UNREACHABLE, if it didn't reach the fire
+	 */
+	private int flyToFire(Point firePos) {
+		long startFireAttendTravelTime = System.currentTimeMillis();
+		
+		int numTravelCells = this.flyTo(firePos, FIRE_FLIGHT_CELL_DURATION);
+		
+		if(numTravelCells < 0) {
+			return numTravelCells;
+		}
+		
+		this.aircraftMetricsStats.incNumTotalTravelsByThisAircraft();
+		this.aircraftMetricsStats.incTotalTimeInTravelsByThisAircraft(startFireAttendTravelTime);
+		this.aircraftMetricsStats.incNumTotalTravelCellsInMissionsByThisAircraft(numTravelCells);
+		
+		return numTravelCells;
+	}
+	
+	/**
+	 * Flies the aircraft agent to a given goal (or next to it, if it's occupied), through the cooperative path
+	 * searched and reserved in the world's space-time reservation table, keeping the schedule of its reservations.
+	 * 
+	 * @param goal the goal
+	 * @param cellDuration the time, in milliseconds, that the aircraft agent takes to fly each cell
+	 * 
+	 * @return the number of cells flown, or FLIGHT_CRASHED, if the aircraft agent crashed,
+	 * 		   or FLIGHT_UNREACHABLE, if it didn't reach the goal (e.g., boxed in by other fires)
+	 */
+	private int flyTo(Point goal, long cellDuration) {
+		int stepsPerMove = (int) Math.max(cellDuration / Config.AIRCRAFT_RESERVATION_STEP_DURATION, 1);
+		int startStep = this.worldAgent.getCurrentReservationStep();
+		
+		int goalDistance = this.cooperativePathfinder.getGoalDistance(goal);
+		
+		GridPath timedPath = this.cooperativePathTo(goal, startStep, stepsPerMove);
+		
+		Point currentPos = this.worldObject.getPos();
+		
+		int numCells = 0;
+		
+		GridPath.Cursor cursor = timedPath.cursor();
+		
+		while(cursor.next()) {
+			
+			// Waits until the time step of the next position, where it's reserved
+			this.sleep(((startStep + cursor.getIndex() + 1) * Config.AIRCRAFT_RESERVATION_STEP_DURATION) - this.worldAgent.getSimulationTime());
+			
+			int x = cursor.getX();
+			int y = cursor.getY();
+			
+			// Waiting for other aircraft agents, or still flying to the next cell
+			if(x == currentPos.x && y == currentPos.y) {
+				continue;
+			}
+			
+			this.worldAgent.moveAircraft(this, x, y);
+			
+			currentPos = this.worldObject.getPos();
+			this.consumeFuel();
+			
+			numCells++;
+			
+			if(this.crashed) {
+				return FLIGHT_CRASHED;
+			}
+		}
+		
+		// The path was empty or stopped short of the goal, so the aircraft agent can't act on it from here
+		if(MissionPlanner.getDistance(this.worldObject.getPos(), goal) > goalDistance) {
+			return FLIGHT_UNREACHABLE;
+		}
+		
+		return numCells;
+	}
+	
+	/**
+	 * Returns/Calculates, and reserves, the cooperative path to a given goal, in a compact path with the position
+	 * of the aircraft agent in each time step, after a given start time step.
+	 * 
+	 * @param goal the goal
+	 * @param startStep the start time step
+	 * @param stepsPerMove the number of time steps taken by each move to a neighbour cell
+	 * 
+	 * @return the cooperative path to a given goal, with the position of the aircraft agent in each time step
+	 */
+	private GridPath cooperativePathTo(Point goal, int startStep, int stepsPerMove) {
+		PathfindingEvent pathfindingEvent = new PathfindingEvent();
+		pathfindingEvent.begin();
+		
+		long startTimeNanos = System.nanoTime();
+		long startAllocatedBytes = PathfindingMetricsStats.currentThreadAllocatedBytes();
+		
+		GridPath timedPath = this.cooperativePathfinder.findAndReservePath(this, goal, startStep, stepsPerMove);
+		
+		// The empty path is either next to the goal (already reached) or without any path to it
+		boolean found = !timedPath.isEmpty() ||
+						MissionPlanner.getDistance(this.worldObject.getPos(), goal) <= this.cooperativePathfinder.getGoalDistance(goal);
+		
+		this.finishPathSearch(pathfindingEvent, "cooperativePathTo", this.cooperativePathfinder.getLastNumNodesExpanded(),
+							  this.cooperativePathfinder.getLastFrontierSize(), timedPath.size(), found, startTimeNanos, startAllocatedBytes);
+		
+		return timedPath;
+	}
+	
+	/**
+	 * Drops the water of the water tank above a given fire, until it's extinguished or the water tank is empty.
+	 * 
+	 * @param fire the fire
+	 */
+	private void putOutFire(Fire fire) {
+		long startPutOutFireTime = System.currentTimeMillis();
+		
+		while(this.waterTankQuantity > 0) {
+			
+			// Drops the water needed by the fire's current intensity, as a single timed transaction
+			int dropQuantity = Math.max(Math.min(this.waterTankQuantity, fire.getCurrentIntensity()), 1);
+			
+			this.sleep(dropQuantity * Config.AIRCRAFT_WATER_DROP_TIME_PER_UNIT);
+			
+			// Water decrement
+			this.decreaseWaterQuantity(dropQuantity);
+			fire.decreaseIntensity(dropQuantity);
+			
+			if(fire.getCurrentIntensity() == 0) {
+				FireLifecycleEvent.commit(FireLifecycleEvent.EXTINGUISHED, fire.getWorldObject().getPos().x,
+						fire.getWorldObject().getPos().y, 0, this.getLocalName());
+				
+				this.worldAgent.removeFire((int)fire.getWorldObject().getPos().getX(), (int)fire.getWorldObject().getPos().getY());
+				
+				this.aircraftMetricsStats.incNumTotalFiresExtinguishedByThisAircraft();
+				this.aircraftMetricsStats.incTotalTimeToExtinguishFiresByThisAircraft(startPutOutFireTime);
+				
+				break;
+			}
+		}
+		
+		this.aircraftMetricsStats.incNumTotalFiresAttendedByThisAircraft();
+		this.aircraftMetricsStats.incTotalTimeToAttendFiresByThisAircraft(startPutOutFireTime);
+	}
 
 	/**
 	 * Returns/Calculates the path to a fire in a given location,
-	 * in an array list with the path of points from the aircraft agent to the fire location.
+	 * in a compact path with the path of points from the aircraft agent to the fire location.
 	 * 
 	 * @param fireLocation location of the fire
 	 * 
 	 * @return the path to a fire in a given location,
-	 * 		   in an array list with the path of points from the aircraft agent to
+	 * 		   in a compact path with the path of points from the aircraft agent to
 	 * 		   the fire location.
 	 * 
 	 */
-	@SuppressWarnings("unchecked")
-	private ArrayList<Point> pathToFire(Point fireLocation) {
+	private GridPath pathToFire(Point fireLocation) {
+		PathfindingEvent pathfindingEvent = new PathfindingEvent();
+		pathfindingEvent.begin();
+		
+		long startTimeNanos = System.nanoTime();
+		long startAllocatedBytes = PathfindingMetricsStats.currentThreadAllocatedBytes();
+		
+		GridPathfinder gridPathfinder = this.worldAgent.getGridPathfinder();
+		
+		// With a pathfinder over the occupancy grid (in the large grids, the hierarchical one), given by the pathfinding mode
+		if(gridPathfinder != null) {
+			return this.findGridPath(gridPathfinder, fireLocation, true, pathfindingEvent, "pathToFire", startTimeNanos, startAllocatedBytes);
+		}
+		
         Point s = this.worldObject.getPos();
         Point d = fireLocation;
         
+        GridPath pathToFire = new GridPath(Config.GRID_HEIGHT);
+        boolean found = false;
+        int nodesExpanded = 0;
+        int frontierSize = 1;
+        
         // To keep track of visited QItems. Marking blocked cells as visited
         boolean[][] visited = initialiseVisitedMatrix(d);
         
         // Applying BFS on matrix cells starting from source
         Queue<QItem> q = new LinkedList<QItem>();
-        q.add(new QItem((int) s.getX(),(int) s.getY(),0, new ArrayList<Point>()));
+        q.add(new QItem((int) s.getX(),(int) s.getY(),0, null));
         visited[(int) s.getX()][(int) s.getY()] = true;
         while (!q.isEmpty()) {
             QItem p = q.remove();
+            nodesExpanded++;
             
             // Destination found
             if (p.row == d.getX() && p.col == d.getY()) {
-                ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
+                pathToFire = p.getPath(Config.GRID_HEIGHT);
+                pathToFire.removeLast();
+                found = true;
                 
-                if(path.size() == 0) {
-                    return new ArrayList<Point>();
-                }
-                else {
-                    path.remove(path.size()-1);
-                    return path;
-                }
+                break;
             }
             
             processCellPathToFire(visited, q, p);
+            frontierSize = Math.max(frontierSize, q.size());
         }
         
-        return new ArrayList<Point>();
+        this.finishPathSearch(pathfindingEvent, "pathToFire", nodesExpanded, frontierSize, pathToFire.size(), found, startTimeNanos, startAllocatedBytes);
+        
+        return pathToFire;
     }
 	
 	
-	public ArrayList<Point> pathToNearestWaterResource() {
+	/**
+	 * Returns/Calculates the number of cells of the path to a fire in a given location
+	 * (with the hierarchical pathfinder, without refining the path of the abstract graph).
+	 * 
+	 * @param fireLocation location of the fire
+	 * 
+	 * @return the number of cells of the path to a fire in a given location, or -1, if the fire is unreachable
+	 */
+	private int distanceToFire(Point fireLocation) {
+		GridPathfinder gridPathfinder = this.worldAgent.getGridPathfinder();
+		
+		if(gridPathfinder == null) {
+			GridPath pathToFire = this.pathToFire(fireLocation);
+			
+			// The empty path is either next to the fire or without any path to it
+			if(pathToFire.isEmpty() && MissionPlanner.getDistance(this.worldObject.getPos(), fireLocation) > 1) {
+				return -1;
+			}
+			
+			return pathToFire.size();
+		}
+		
+		PathfindingEvent pathfindingEvent = new PathfindingEvent();
+		pathfindingEvent.begin();
+		
+		long startTimeNanos = System.nanoTime();
+		long startAllocatedBytes = PathfindingMetricsStats.currentThreadAllocatedBytes();
+		
+		// The distance in 4-connected cells, as the flights (the 8-connected JPS counts each diagonal move as a single cell)
+		GridPathfinder distancePathfinder = this.worldAgent.getDistancePathfinder();
+		
+		int distance = distancePathfinder.getDistance(this.worldObject.getPos(), fireLocation);
+		
+		// The path stops next to the fire (or there's none)
+		int distanceToFire = (distance < 0) ? -1 : Math.max(distance - 1, 0);
+		
+		this.finishPathSearch(pathfindingEvent, "distanceToFire", distancePathfinder.getLastNumNodesExpanded(),
+							  distancePathfinder.getLastFrontierSize(), Math.max(distanceToFire, 0), distanceToFire >= 0, startTimeNanos, startAllocatedBytes);
+		
+		return distanceToFire;
+	}
+	
+	/**
+	 * Returns/Calculates the number of cells of a given tour, from the aircraft agent until its first fire,
+	 * by the pathfinder of the static distances of the world (stopping next to each stop of the tour,
+	 * as the flights do, and leaving each water resource from its nearest free neighbour to the next stop).
+	 * 
+	 * @param tour the tour
+	 * 
+	 * @return the number of cells of a given tour until its first fire, or -1, if any of its stops is unreachable
+	 */
+	private int distanceToFirstFire(List<TourStop> tour) {
+		GridPathfinder distancePathfinder = this.worldAgent.getDistancePathfinder();
+		OccupancyGrid occupancyGrid = this.worldAgent.getOccupancyGrid();
+		
+		int distanceToFirstFire = 0;
+		
+		Point previousStopPos = null;
+		
+		for(TourStop stop : tour) {
+			Point stopPos = stop.getPos();
+			
+			int distance = -1;
+			
+			if(previousStopPos == null) {
+				distance = distancePathfinder.getDistance(this.worldObject.getPos(), stopPos);
+			}
+			else {
+				
+				// The stops are static obstacles, so the next leg starts from the free neighbours of the previous stop
+				for(int move = 0; move < 4; move++) {
+					int nx = previousStopPos.x + ((move == 0) ? -1 : (move == 1) ? 1 : 0);
+					int ny = previousStopPos.y + ((move == 2) ? -1 : (move == 3) ? 1 : 0);
+					
+					if(nx < 0 || nx >= Config.GRID_WIDTH || ny < 0 || ny >= Config.GRID_HEIGHT || occupancyGrid.isBlocked(nx, ny)) {
+						continue;
+					}
+					
+					int neighbourDistance = distancePathfinder.getDistance(new Point(nx, ny), stopPos);
+					
+					if(neighbourDistance >= 0 && (distance < 0 || neighbourDistance < distance)) {
+						distance = neighbourDistance;
+					}
+				}
+			}
+			
+			if(distance < 0) {
+				return -1;
+			}
+			
+			// The path stops next to the stop
+			distanceToFirstFire += Math.max(distance - 1, 0);
+			
+			if(stop.isFire()) {
+				break;
+			}
+			
+			previousStopPos = stopPos;
+		}
+		
+		return distanceToFirstFire;
+	}
+	
+	/**
+	 * Returns/Calculates the path to the nearest water resource with enough unreserved capacity to refill
+	 * a given quantity of water or, if there's none, to the nearest one with some unreserved capacity,
+	 * in a compact path with the path of points from the aircraft agent to the water resource location
+	 * (empty, if all the water resources are depleted or reserved).
+	 * 
+	 * @param waterQuantityNeeded the quantity of water needed to fill the water tank
+	 * 
+	 * @return the path to the nearest water resource with enough unreserved capacity
+	 */
+	public GridPath pathToNearestWaterResource(int waterQuantityNeeded) {
+	  PathfindingEvent pathfindingEvent = new PathfindingEvent();
+	  pathfindingEvent.begin();
+	  
+	  long startTimeNanos = System.nanoTime();
+	  long startAllocatedBytes = PathfindingMetricsStats.currentThreadAllocatedBytes();
+		
 	  Point s = this.worldObject.getPos();
+	  
+	  GridPathfinder gridPathfinder = this.worldAgent.getGridPathfinder();
+	  
+	  // With a pathfinder over the occupancy grid, the water resources are compared by its distances
+	  if(gridPathfinder != null) {
+	    Point nearestWaterResourcePos = this.nearestWaterResourcePos(gridPathfinder, waterQuantityNeeded);
+	    
+	    if(nearestWaterResourcePos == null) {
+	      this.finishPathSearch(pathfindingEvent, "pathToNearestWaterResource", gridPathfinder.getLastNumNodesExpanded(),
+	      						gridPathfinder.getLastFrontierSize(), 0, false, startTimeNanos, startAllocatedBytes);
+	      
+	      return new GridPath(Config.GRID_HEIGHT);
+	    }
+	    
+	    return this.findGridPath(gridPathfinder, nearestWaterResourcePos, false, pathfindingEvent, "pathToNearestWaterResource",
+	    						 startTimeNanos, startAllocatedBytes);
+	  }
+	  
+	  GridPath pathToNearestWaterResource = new GridPath(Config.GRID_HEIGHT);
+	  GridPath pathToNearestPartialWaterResource = null;
+	  int nodesExpanded = 0;
+	  int frontierSize = 1;
+
+	  WorldGrid worldGrid = worldAgent.getWorldGrid();
+	  WaterResource[] waterResources = worldAgent.getWaterResources();
 
 	  // To keep track of visited QItems. Marking blocked cells as visited
 	  boolean[][] visited = new boolean[Config.GRID_WIDTH][Config.GRID_HEIGHT];
 	  for (int i = 0; i < Config.GRID_WIDTH; i++) {
 	    for (int j = 0; j < Config.GRID_HEIGHT; j++) {
-	      if(worldAgent.getWorldMap()[i][j] == null || worldAgent.getWorldMap()[i][j] instanceof WaterResource)
+	      if(worldGrid.isEmpty(i, j) || worldGrid.is(i, j, WorldObjectType.WATER_RESOURCE))
 	        visited[i][j] = false;
 	      else
 	        visited[i][j] = true;
@@ -595,21 +1214,166 @@ public class AircraftAgent extends Agent {
 
 	  // Applying BFS on matrix cells starting from source
 	  Queue<QItem> q = new LinkedList<QItem>();
-	  q.add(new QItem((int) s.getX(),(int) s.getY(),0, new ArrayList<Point>()));
+	  q.add(new QItem((int) s.getX(),(int) s.getY(),0, null));
 	  visited[(int) s.getX()][(int) s.getY()] = true;
 	  while (!q.isEmpty()) {
 	    QItem p = q.remove();
+	    nodesExpanded++;
 
-	    // Destination found
-	    if (worldAgent.getWorldMap()[p.row][p.col] != null && worldAgent.getWorldMap()[p.row][p.col] instanceof WaterResource) {
-	      ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
-	      return path;
+	    // Destination found (with enough unreserved capacity, or the nearest one with some, as fallback)
+	    if (worldGrid.is(p.row, p.col, WorldObjectType.WATER_RESOURCE)) {
+	      int unreservedCapacity = waterResources[worldGrid.getIndex(p.row, p.col)].getUnreservedCapacity();
+	      
+	      if(unreservedCapacity >= waterQuantityNeeded) {
+	        pathToNearestWaterResource = p.getPath(Config.GRID_HEIGHT);
+	        pathToNearestPartialWaterResource = null;
+	        break;
+	      }
+	      
+	      if(unreservedCapacity > 0 && pathToNearestPartialWaterResource == null) {
+	        pathToNearestPartialWaterResource = p.getPath(Config.GRID_HEIGHT);
+	      }
 	    }
 
 	    processCellPathToFire(visited, q, p);
+	    frontierSize = Math.max(frontierSize, q.size());
+	  }
+	  
+	  if(pathToNearestPartialWaterResource != null) {
+	    pathToNearestWaterResource = pathToNearestPartialWaterResource;
 	  }
 
-	  return new ArrayList<Point>();
+	  // The path ends in the water resource, so it's only empty if none was found
+	  this.finishPathSearch(pathfindingEvent, "pathToNearestWaterResource", nodesExpanded, frontierSize, pathToNearestWaterResource.size(),
+	  						!pathToNearestWaterResource.isEmpty(), startTimeNanos, startAllocatedBytes);
+	  
+	  return pathToNearestWaterResource;
+	}
+	
+	/**
+	 * Returns/Calculates, through the distances of the pathfinder over the occupancy grid, the position of the nearest
+	 * water resource with enough unreserved capacity to refill a given quantity of water or, if there's none, of the nearest
+	 * one with some unreserved capacity (null, if all the water resources are depleted or reserved).
+	 * 
+	 * @param gridPathfinder the pathfinder over the occupancy grid of the world
+	 * @param waterQuantityNeeded the quantity of water needed to fill the water tank
+	 * 
+	 * @return the position of the nearest water resource with enough unreserved capacity, or null
+	 */
+	private Point nearestWaterResourcePos(GridPathfinder gridPathfinder, int waterQuantityNeeded) {
+		Point pos = this.worldObject.getPos();
+		
+		WaterResource nearestWaterResource = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		boolean nearestHasEnoughCapacity = false;
+		
+		for(WaterResource waterResource : this.worldAgent.getWaterResources()) {
+			int unreservedCapacity = waterResource.getUnreservedCapacity();
+			
+			if(unreservedCapacity <= 0) {
+				continue;
+			}
+			
+			boolean hasEnoughCapacity = unreservedCapacity >= waterQuantityNeeded;
+			
+			if(nearestHasEnoughCapacity && !hasEnoughCapacity) {
+				continue;
+			}
+			
+			int distance = gridPathfinder.getDistance(pos, waterResource.getWorldObject().getPos());
+			
+			if(distance < 0) {
+				continue;
+			}
+			
+			if((hasEnoughCapacity && !nearestHasEnoughCapacity) || distance < nearestDistance) {
+				nearestWaterResource = waterResource;
+				nearestDistance = distance;
+				nearestHasEnoughCapacity = hasEnoughCapacity;
+			}
+		}
+		
+		return (nearestWaterResource == null) ? null : nearestWaterResource.getWorldObject().getPos();
+	}
+	
+	/**
+	 * Returns/Calculates the path to a given goal from the path cache shared by all the aircraft agents or, if it's a miss,
+	 * through the pathfinder over the occupancy grid (caching it), and records the metrics of the path search.
+	 * 
+	 * @param gridPathfinder the pathfinder over the occupancy grid of the world
+	 * @param goal the goal
+	 * @param stopNextToGoal true if the path stops next to the goal (e.g., a fire) and false, if it ends in the goal
+	 * @param pathfindingEvent the flight recorder event of the path search
+	 * @param search the kind of the path search
+	 * @param startTimeNanos the start time of the path search, in nanoseconds
+	 * @param startAllocatedBytes the bytes allocated by the current thread at the start of the path search
+	 * 
+	 * @return the path to a given goal, in a compact path with the positions after the aircraft agent's position
+	 */
+	private GridPath findGridPath(GridPathfinder gridPathfinder, Point goal, boolean stopNextToGoal,
+								  PathfindingEvent pathfindingEvent, String search, long startTimeNanos, long startAllocatedBytes) {
+		
+		PathCache pathCache = this.worldAgent.getPathCache();
+		
+		Point pos = this.worldObject.getPos();
+		int mapVersion = this.worldAgent.getMapVersion();
+		
+		GridPath path = pathCache.get(pos, goal, mapVersion);
+		
+		int nodesExpanded = 0;
+		int frontierSize = 0;
+		
+		this.aircraftMetricsStats.getPathfindingMetricsStats().recordPathCacheLookup(path != null);
+		
+		if(path == null) {
+			path = gridPathfinder.findPath(pos, goal);
+			
+			nodesExpanded = gridPathfinder.getLastNumNodesExpanded();
+			frontierSize = gridPathfinder.getLastFrontierSize();
+			
+			pathCache.put(pos, goal, mapVersion, path);
+		}
+		
+		// Checked before stopping next to the goal, which empties the paths to an adjacent goal
+		boolean found = !path.isEmpty() || pos.equals(goal);
+		
+		if(stopNextToGoal) {
+			path.removeLast();
+		}
+		
+		this.finishPathSearch(pathfindingEvent, search, nodesExpanded, frontierSize, path.size(), found, startTimeNanos, startAllocatedBytes);
+		
+		return path;
+	}
+	
+	/**
+	 * Records the metrics of a finished path search and commits its flight recorder event, if it's enabled.
+	 * 
+	 * @param pathfindingEvent the flight recorder event of the path search
+	 * @param search the kind of the path search
+	 * @param nodesExpanded the number of nodes expanded by the path search
+	 * @param frontierSize the peak size of the frontier (queue) of the path search
+	 * @param pathLength the length of the path found
+	 * @param found true if the path search found a path (even an empty one, next to its goal) and false, otherwise
+	 * @param startTimeNanos the start time of the path search, in nanoseconds
+	 * @param startAllocatedBytes the bytes allocated by the current thread at the start of the path search
+	 */
+	private void finishPathSearch(PathfindingEvent pathfindingEvent, String search, int nodesExpanded, int frontierSize, int pathLength,
+								  boolean found, long startTimeNanos, long startAllocatedBytes) {
+		
+		this.aircraftMetricsStats.getPathfindingMetricsStats().recordSearch(nodesExpanded, frontierSize, pathLength, found, startTimeNanos, startAllocatedBytes);
+		
+		if(pathfindingEvent.shouldCommit()) {
+			pathfindingEvent.search = search;
+			pathfindingEvent.aircraft = this.getLocalName();
+			pathfindingEvent.gridWidth = Config.GRID_WIDTH;
+			pathfindingEvent.gridHeight = Config.GRID_HEIGHT;
+			pathfindingEvent.nodesExpanded = nodesExpanded;
+			pathfindingEvent.pathLength = pathLength;
+			pathfindingEvent.found = found;
+			
+			pathfindingEvent.commit();
+		}
 	}
 		
 	/**
@@ -621,33 +1385,25 @@ public class AircraftAgent extends Agent {
 	private void processCellPathToFire(boolean[][] visited, Queue<QItem> q, QItem p) {
 		// Moving up
 		if (p.row - 1 >= 0 && visited[p.row - 1][p.col] == false) {
-		    ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
-		    path.add(new Point(p.row - 1, p.col));
-		    q.add(new QItem(p.row - 1, p.col, p.dist + 1, path));
+		    q.add(new QItem(p.row - 1, p.col, p.dist + 1, p));
 		    visited[p.row - 1][p.col] = true; 
 		}
 		
 		// Moving down
 		if (p.row + 1 < Config.GRID_WIDTH && visited[p.row + 1][p.col] == false) {
-		    ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
-		    path.add(new Point(p.row + 1, p.col));
-		    q.add(new QItem(p.row + 1, p.col, p.dist + 1, path));
+		    q.add(new QItem(p.row + 1, p.col, p.dist + 1, p));
 		    visited[p.row + 1][p.col] = true; 
 		}
 		
 		// Moving left
 		if (p.col - 1 >= 0 && visited[p.row][p.col - 1] == false) {
-		    ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
-		    path.add(new Point(p.row, p.col - 1));
-		    q.add(new QItem(p.row, p.col - 1, p.dist + 1, path));
+		    q.add(new QItem(p.row, p.col - 1, p.dist + 1, p));
 		    visited[p.row][p.col - 1] = true;
 		}
 		
 		// Moving right
 		if (p.col + 1 < Config.GRID_HEIGHT && visited[p.row][p.col + 1] == false) {
-		    ArrayList<Point> path = (ArrayList<Point>) p.path.clone();
-		    path.add(new Point(p.row, p.col + 1));
-		    q.add(new QItem(p.row, p.col + 1, p.dist + 1, path));
+		    q.add(new QItem(p.row, p.col + 1, p.dist + 1, p));
 		    visited[p.row][p.col + 1] = true;
 		}
 	}
@@ -659,10 +1415,12 @@ public class AircraftAgent extends Agent {
 	 * @return visited matrix
 	 */
 	private boolean[][] initialiseVisitedMatrix(Point d) {
+		WorldGrid worldGrid = worldAgent.getWorldGrid();
+		
 		boolean[][] visited = new boolean[Config.GRID_WIDTH][Config.GRID_HEIGHT];
         for (int i = 0; i < Config.GRID_WIDTH; i++) {
             for (int j = 0; j < Config.GRID_HEIGHT; j++) {
-                if(worldAgent.getWorldMap()[i][j] == null || (i == d.getX() && j == d.getY()))
+                if(worldGrid.isEmpty(i, j) || (i == d.getX() && j == d.getY()))
                     visited[i][j] = false;
                 else
                     visited[i][j] = true;
@@ -685,23 +1443,49 @@ public class AircraftAgent extends Agent {
 		
 		this.attendindWater = true;
 		
-		ArrayList<Point> pathToNearestWaterResource = this.pathToNearestWaterResource();
+		int waterQuantityNeeded = this.getMaxWaterTankCapacity() - this.getWaterTankQuantity();
 		
-		long startWaterRefillTravelTime = System.currentTimeMillis();
+		GridPath pathToNearestWaterResource = this.pathToNearestWaterResource(waterQuantityNeeded);
+		
+		// All the water resources are depleted or reserved by other aircraft agents
+		if(pathToNearestWaterResource.isEmpty()) {
+			this.attendindWater = false;
+			
+			return;
+		}
 		
+		Point waterResourcePos = pathToNearestWaterResource.getPoint(pathToNearestWaterResource.size() - 1);
 		
-		for(int i = 0; i < pathToNearestWaterResource.size(); i++) {
+		this.goToWaterResource(this.worldAgent.getWaterResources()[this.worldAgent.getWorldGrid().getIndex(waterResourcePos.x, waterResourcePos.y)]);
+	}
+	
+	/**
+	 * Flies the aircraft agent to a given water resource and refills its water tank there,
+	 * with the water reserved before the travel.
+	 * 
+	 * @param waterResource the water resource
+	 */
+	public void goToWaterResource(WaterResource waterResource) {
+		
+		this.attendindWater = true;
+		
+		int waterQuantityNeeded = this.getMaxWaterTankCapacity() - this.getWaterTankQuantity();
+		Point waterResourcePos = waterResource.getWorldObject().getPos();
+		
+		// Reserves the water to refill, before the travel, so other aircraft agents don't choose the same water
+		int reservedWaterQuantity = waterResource.reserve(waterQuantityNeeded);
+		
+		long startWaterRefillTravelTime = System.currentTimeMillis();
+		
+		// Flies through a cooperative path, next to the water resource (releasing the water, if it crashed or the water resource is unreachable)
+		if(this.flyTo(waterResourcePos, REFILL_FLIGHT_CELL_DURATION) < 0) {
+			waterResource.release(reservedWaterQuantity);
 			
-			try {
-				this.sleepingThreads.put(Thread.currentThread().getId(), Thread.currentThread());
-				Thread.sleep(1000);
-			}
-			catch (InterruptedException e) {
-				//e.printStackTrace();
-			}
+			this.worldAgent.notifyWaterCapacityIncreased(this);
+			
+			this.attendindWater = false;
 			
-			if(this.worldAgent.getWorldMap()[(int)pathToNearestWaterResource.get(i).getX()][(int)pathToNearestWaterResource.get(i).getY()] == null)
-				this.worldObject.setPos((int)pathToNearestWaterResource.get(i).getX(), (int)pathToNearestWaterResource.get(i).getY());			
+			return;
 		}
 
 		this.aircraftMetricsStats.incNumTotalTravelsByThisAircraft();
@@ -710,24 +1494,127 @@ public class AircraftAgent extends Agent {
 		
 		long startWaterRefillTime = System.currentTimeMillis();
 		
-		while(!this.haveFullWaterTank()) {
-			try {
-				this.sleepingThreads.put(Thread.currentThread().getId(), Thread.currentThread());
-				Thread.sleep(1000);
-			}
-			catch (InterruptedException e) {
-				//e.printStackTrace();
-			}
-			
-			this.increaseWaterQuantity();
-		}		
+		// Refills the reserved water, as a single timed transaction
+		// (the reserved water may have been partially lost in a drought)
+		this.sleep(reservedWaterQuantity * Config.AIRCRAFT_WATER_REFILL_TIME_PER_UNIT);
 		
+		this.waterTankQuantity = Math.min(this.waterTankQuantity + waterResource.commit(reservedWaterQuantity), this.getMaxWaterTankCapacity());
+		
+		this.worldAgent.getWorldMetricsStats().incNumWaterResourcesCapacityDecreasedByAircraftsWaterTankRefill();
 		this.aircraftMetricsStats.incNumTotalWaterRefillsByThisAircraft();
 		this.aircraftMetricsStats.incTotalTimeInWaterRefillsByThisAircraft(startWaterRefillTime);
 		
 		this.attendindWater = false;
 	}
 	
+	/**
+	 * Flies the aircraft agent to the fire station and refills its fuel tank there.
+	 */
+	public void goToFireStation() {
+		
+		this.attendindFuel = true;
+		
+		long startFuelRefillTravelTime = System.currentTimeMillis();
+		
+		// Flies through a cooperative path, next to the fire station (without refuelling, if it crashed or the fire station is unreachable)
+		if(this.flyTo(this.worldAgent.getFireStationAgent().getWorldObject().getPos(), REFILL_FLIGHT_CELL_DURATION) < 0) {
+			this.attendindFuel = false;
+			
+			return;
+		}
+		
+		this.aircraftMetricsStats.incNumTotalTravelsByThisAircraft();
+		this.aircraftMetricsStats.incTotalTimeInTravelsByThisAircraft(startFuelRefillTravelTime);
+		
+		
+		long startFuelRefillTime = System.currentTimeMillis();
+		
+		// Refills the fuel tank, as a single timed transaction
+		int fuelQuantityNeeded = this.maxFuelTankCapacity - this.fuelTankQuantity;
+		
+		this.sleep((long) Math.ceil(fuelQuantityNeeded / (double) Config.AIRCRAFT_FUEL_REFILL_PER_SECOND) * 1000L);
+		
+		this.fuelTankQuantity = this.maxFuelTankCapacity;
+		
+		this.aircraftMetricsStats.incNumTotalFuelRefillsByThisAircraft();
+		this.aircraftMetricsStats.incTotalTimeInFuelRefillsByThisAircraft(startFuelRefillTime);
+		
+		this.attendindFuel = false;
+	}
+	
+	/**
+	 * Moves the aircraft agent, while idle, one cell toward its repositioning target,
+	 * if its range is enough to fly to a water resource and back to the fire station after the move.
+	 * 
+	 * @return true if the aircraft agent moved and false, otherwise
+	 */
+	public boolean repositionStep() {
+		Point target = this.repositioningTarget;
+		Point pos = this.worldObject.getPos();
+		
+		if(target == null || !this.isIdle() || pos.equals(target)) {
+			return false;
+		}
+		
+		int[][] moves = { {Integer.signum(target.x - pos.x), 0}, {0, Integer.signum(target.y - pos.y)} };
+		
+		for(int[] move : moves) {
+			if(move[0] == 0 && move[1] == 0) {
+				continue;
+			}
+			
+			Point next = new Point(pos.x + move[0], pos.y + move[1]);
+			
+			// Only moves to free cells, keeping the range to refill water and fly back to the fire station
+			if(!this.worldAgent.getWorldGrid().isEmpty(next.x, next.y) || !this.worldAgent.getFreeCellSampler().isFree(next.x, next.y) ||
+			   !this.missionPlanner.canRefillWater(this.fuelTankQuantity - this.worldAgent.getWindType().getAircraftFuelConsumptionPerCell(), next)) {
+				continue;
+			}
+			
+			ReservationTable reservationTable = this.worldAgent.getReservationTable();
+			
+			// Only moves to cells not reserved by other aircraft agents, parking there
+			synchronized(reservationTable) {
+				int step = this.worldAgent.getCurrentReservationStep();
+				
+				if(!reservationTable.isFree(next.x, next.y, step, Config.AIRCRAFT_RESERVATION_MAX_WAIT_STEPS, this)) {
+					continue;
+				}
+				
+				reservationTable.park(this, next.x, next.y, step);
+			}
+			
+			this.worldAgent.moveAircraft(this, next.x, next.y);
+			this.consumeFuel();
+			
+			this.aircraftMetricsStats.incNumTotalRepositioningCellsByThisAircraft();
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sleeps the current thread of the aircraft agent during a given time,
+	 * registering it as a sleeping thread of the aircraft agent.
+	 * 
+	 * @param millis the time to sleep, in milliseconds
+	 */
+	private void sleep(long millis) {
+		if(millis <= 0) {
+			return;
+		}
+		
+		try {
+			this.sleepingThreads.put(Thread.currentThread().getId(), Thread.currentThread());
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			//e.printStackTrace();
+		}
+	}
+	
 	public Map<Long, Thread> getSleepingThreads() {
 		return this.sleepingThreads;
 	}
@@ -1,7 +1,7 @@
 /**
  * Agents and Distributed Artificial Intelligence
  * Project 1 - Fire Fighting
- * 
+ *
  * Authors:
  * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
  * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
@@ -10,80 +10,70 @@
 
 package firefighting.aircraft.behaviours;
 
-import java.awt.Point;
-import java.util.ArrayList;
-
 import firefighting.aircraft.AircraftAgent;
-import firefighting.utils.Config;
-import jade.core.behaviours.TickerBehaviour;
+import jade.core.behaviours.WakerBehaviour;
 
-public class DetectEnoughWaterQty extends TickerBehaviour { // TODO - TickerBehaviour ou Behaviour simples????
+/**
+ * Behaviour responsible for the refill mission of an aircraft agent, enqueued when its water tank's quantity
+ * crosses the low-water watermark (or its range isn't enough to refill water), instead of polling its water tank.
+ *
+ * The behaviour runs in the thread of the aircraft agent, between the negotiations of its ContractNetResponder,
+ * so it never overlaps a fire's mission (whose tour already plans its own water stops).
+ */
+public class RefillWaterBehaviour extends WakerBehaviour {
 
 	// Constants:
 	/**
 	 * The default serial version ID to the selected type.
 	 */
 	private static final long serialVersionUID = 1L;
-	
-	
-	
+
+
+
 	// Global Instance Variables:
-	
+
 	/**
 	 * The aircraft agent responsible for this behaviour.
 	 */
 	AircraftAgent aircraftAgent;
-	
-	
-	
+
+
+
 	// Constructors:
-	
+
 	/**
-	 * Constructor #1 of the detection of the empty water tank by an aircraft agent.
-	 * 
+	 * Constructor #1 of the refill mission of an aircraft agent.
+	 *
 	 * @param aircraftAgent the aircraft agent responsible for the behaviour
-	 * @param period
 	 */
-	public DetectEnoughWaterQty(AircraftAgent aircraftAgent, long period) {
-		super(aircraftAgent, period);
-	
+	public RefillWaterBehaviour(AircraftAgent aircraftAgent) {
+		super(aircraftAgent, 0);
+
 		this.aircraftAgent = aircraftAgent;
-		
-		
 	}
-	
-	
-	
+
+
+
 	// Basic methods:
-	
+
 	/**
 	 * Returns the aircraft agent responsible for the behaviour.
-	 * 
+	 *
 	 * @return the aircraft agent responsible for the behaviour
 	 */
 	public AircraftAgent getAircraftAgent() {
 		return this.aircraftAgent;
 	}
-	
 
-	
+
+
 	// Behaviour methods:
-	
-	/**
-	 * 
-	 */
+
 	@Override
-	protected void onTick() {
+	protected void onWake() {
 
 		AircraftAgent aircraftAgent = this.getAircraftAgent();
-		
-		if(aircraftAgent.getWaterTankQuantity() < (Config.AIRCRAFT_MAX_WATER_TANK_CAPACITY/2) && !this.aircraftAgent.isAttendingFire() ) {
-			
-			this.aircraftAgent.goToNearestWaterResource();
-		}
-		
-	}
 
-
-
-}
\ No newline at end of file
+		aircraftAgent.refillWater();
+	}
+}
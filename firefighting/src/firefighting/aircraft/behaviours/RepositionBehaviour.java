@@ -0,0 +1,87 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ * 
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.aircraft.behaviours;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.utils.Config;
+import jade.core.behaviours.WakerBehaviour;
+
+/**
+ * Behaviour responsible for moving an idle aircraft agent, one cell per wake-up, toward its repositioning target,
+ * enqueued by the world agent for each target it assigns (from the fire heatmap), so the aircraft agent stays
+ * responsive to new CFPs and no timer runs while it has no target to reach.
+ * 
+ * The behaviour re-arms itself (after Config.AIRCRAFT_REPOSITIONING_STEP_PERIOD) only while the target is unreached.
+ */
+public class RepositionBehaviour extends WakerBehaviour {
+
+	// Constants:
+	/**
+	 * The default serial version ID to the selected type.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	
+	
+	// Global Instance Variables:
+	
+	/**
+	 * The aircraft agent responsible for this behaviour.
+	 */
+	AircraftAgent aircraftAgent;
+	
+	
+	
+	// Constructors:
+	
+	/**
+	 * Constructor #1 of the repositioning of an idle aircraft agent.
+	 * 
+	 * @param aircraftAgent the aircraft agent responsible for the behaviour
+	 */
+	public RepositionBehaviour(AircraftAgent aircraftAgent) {
+		super(aircraftAgent, 0);
+		
+		this.aircraftAgent = aircraftAgent;
+	}
+	
+	
+	
+	// Basic methods:
+	
+	/**
+	 * Returns the aircraft agent responsible for the behaviour.
+	 * 
+	 * @return the aircraft agent responsible for the behaviour
+	 */
+	public AircraftAgent getAircraftAgent() {
+		return this.aircraftAgent;
+	}
+	
+	
+	
+	// Behaviour methods:
+	
+	@Override
+	protected void onWake() {
+		
+		AircraftAgent aircraftAgent = this.getAircraftAgent();
+		
+		// Moved one cell, with the target still unreached, so the next cell is moved after a period
+		if(!aircraftAgent.isCrashed() && aircraftAgent.repositionStep() && !aircraftAgent.hasReachedRepositioningTarget()) {
+			this.reset(Config.AIRCRAFT_REPOSITIONING_STEP_PERIOD);
+			
+			return;
+		}
+		
+		aircraftAgent.onRepositioningStopped();
+	}
+}
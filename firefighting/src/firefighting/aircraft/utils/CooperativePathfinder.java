@@ -0,0 +1,438 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.aircraft.utils;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.utils.Config;
+import firefighting.world.WorldAgent;
+import firefighting.world.utils.FlowField;
+import firefighting.world.utils.FlowFieldPathfinder;
+import firefighting.world.utils.GridPath;
+import firefighting.world.utils.GridPathfinder;
+import firefighting.world.utils.HierarchicalPathfinder;
+import firefighting.world.utils.PathCache;
+import firefighting.world.utils.ReservationTable;
+import firefighting.world.utils.WorldGrid;
+import firefighting.world.utils.WorldObjectType;
+
+/**
+ * Class responsible for the cooperative A* routing of an aircraft agent, on top of the space-time reservation table
+ * shared by all the aircraft agents.
+ *
+ * The search is made in the space-time (cell, time step), where the aircraft agent can move to a neighbour cell
+ * (taking a given number of time steps) or wait in its cell (taking one time step), only through the cells free of
+ * static objects (the fire station, the water resources and the fires) and not reserved by other aircraft agents,
+ * neither swapping cells with another aircraft agent. The path found is reserved in the same atomic operation,
+ * so the aircraft agents planning after it route around it, instead of stalling or flying through each other.
+ *
+ * If there's no such path within the search horizon, the path ignoring the other aircraft agents is used instead,
+ * so the aircraft agents never deadlock waiting for each other. The goals unreachable even ignoring the other aircraft
+ * agents (e.g., a fire boxed in by other fires) are detected by their static distance, before any search in the space-time,
+ * and the search horizon is bounded by the static distance plus the maximum wait.
+ *
+ * With the flow fields mode, the distances of the flow field of the goal (shared by all the aircraft agents
+ * converging on it) are the heuristic, instead of the Manhattan distance, so the search only deviates from
+ * the flow field around the reservations of the other aircraft agents.
+ *
+ * In the large worlds (with the hierarchical pathfinder), the search is confined to a corridor of
+ * Config.PATHFINDING_CORRIDOR_RADIUS cells around the refined HPA* path (shared through the path cache),
+ * instead of the whole grid, so its cost follows the length of the path and not the size of the world.
+ */
+public class CooperativePathfinder {
+
+	// Constants:
+
+	/**
+	 * The moves to the neighbour cells (up, down, left and right) and the wait in the same cell.
+	 */
+	private static final int[][] MOVES = { {-1, 0}, {1, 0}, {0, -1}, {0, 1}, {0, 0} };
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The world agent, where the paths are searched.
+	 */
+	private final WorldAgent worldAgent;
+
+	/**
+	 * The number of nodes expanded by the last search.
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The peak size of the frontier (open set) of the last search.
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the cooperative pathfinder.
+	 *
+	 * @param worldAgent the world agent, where the paths are searched
+	 */
+	public CooperativePathfinder(WorldAgent worldAgent) {
+		this.worldAgent = worldAgent;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the number of nodes expanded by the last search (including the one ignoring the reservations, if any).
+	 *
+	 * @return the number of nodes expanded by the last search
+	 */
+	public int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	/**
+	 * Returns the peak size of the frontier (open set) of the last search.
+	 *
+	 * @return the peak size of the frontier (open set) of the last search
+	 */
+	public int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	/**
+	 * Searches and reserves, atomically, the timed path of a given aircraft agent from its position to a given goal.
+	 *
+	 * The goal is reached in the goal's cell or, if it's occupied by a static object (e.g., a fire or a water resource),
+	 * in any of its neighbour cells, where the aircraft agent can stay (it parks there, after the path).
+	 *
+	 * @param aircraftAgent the aircraft agent
+	 * @param goal the goal
+	 * @param startStep the time step when the path starts
+	 * @param stepsPerMove the number of time steps taken by each move to a neighbour cell
+	 *
+	 * @return the position of the aircraft agent in each time step after the start time step
+	 *         (empty, if the goal is unreachable or already reached)
+	 */
+	public GridPath findAndReservePath(AircraftAgent aircraftAgent, Point goal, int startStep, int stepsPerMove) {
+		ReservationTable reservationTable = this.worldAgent.getReservationTable();
+		Point start = aircraftAgent.getWorldObject().getPos();
+
+		this.lastNumNodesExpanded = 0;
+		this.lastFrontierSize = 1;
+
+		GridPathfinder gridPathfinder = this.worldAgent.getGridPathfinder();
+		FlowField flowField = (gridPathfinder instanceof FlowFieldPathfinder) ? ((FlowFieldPathfinder) gridPathfinder).getFlowField(goal) : null;
+
+		// The static distance to the goal (ignoring the other aircraft agents), outside the lock of the reservation table
+		int staticDistance;
+		int[] corridor = null;
+
+		if(flowField != null) {
+			staticDistance = flowField.getDistance(start.x, start.y);
+		}
+		else if(gridPathfinder instanceof HierarchicalPathfinder) {
+			GridPath staticPath = this.findStaticPath(gridPathfinder, start, goal);
+
+			staticDistance = (staticPath.isEmpty() && !start.equals(goal)) ? -1 : staticPath.size();
+			corridor = buildCorridor(start, staticPath, Config.PATHFINDING_CORRIDOR_RADIUS);
+		}
+		else {
+			staticDistance = this.worldAgent.getDistancePathfinder().getDistance(start, goal);
+		}
+
+		synchronized(reservationTable) {
+			GridPath timedPath = null;
+
+			// The goal unreachable even ignoring the other aircraft agents isn't searched in the space-time
+			if(staticDistance >= 0) {
+				timedPath = this.findPath(aircraftAgent, start, goal, startStep, stepsPerMove, staticDistance, corridor, flowField, true);
+
+				if(timedPath == null) {
+					timedPath = this.findPath(aircraftAgent, start, goal, startStep, stepsPerMove, staticDistance, corridor, flowField, false);
+				}
+			}
+
+			if(timedPath == null) {
+				timedPath = new GridPath(Config.GRID_HEIGHT);
+			}
+
+			reservationTable.reserve(aircraftAgent, start, timedPath, startStep);
+
+			return timedPath;
+		}
+	}
+
+	/**
+	 * Returns the static path (ignoring the other aircraft agents) from a given start position to a given goal,
+	 * from the path cache shared by all the aircraft agents or, if it's a miss, through a given pathfinder (caching it).
+	 */
+	private GridPath findStaticPath(GridPathfinder gridPathfinder, Point start, Point goal) {
+		PathCache pathCache = this.worldAgent.getPathCache();
+		int mapVersion = this.worldAgent.getMapVersion();
+
+		GridPath staticPath = pathCache.get(start, goal, mapVersion);
+
+		if(staticPath == null) {
+			staticPath = gridPathfinder.findPath(start, goal);
+
+			pathCache.put(start, goal, mapVersion, staticPath);
+		}
+
+		return staticPath;
+	}
+
+	/**
+	 * Returns the sorted cell ids of the corridor within a given radius (in the Manhattan distance)
+	 * of a given start position and of the cells of a given static path.
+	 */
+	private static int[] buildCorridor(Point start, GridPath staticPath, int radius) {
+		int width = Config.GRID_WIDTH;
+		int height = Config.GRID_HEIGHT;
+
+		int[] cells = new int[(staticPath.size() + 1) * (((2 * radius) + 1) * ((2 * radius) + 1))];
+		int numCells = 0;
+
+		for(int s = -1; s < staticPath.size(); s++) {
+			int centerX = (s < 0) ? start.x : staticPath.getX(s);
+			int centerY = (s < 0) ? start.y : staticPath.getY(s);
+
+			for(int dx = -radius; dx <= radius; dx++) {
+				for(int dy = -radius + Math.abs(dx); dy <= radius - Math.abs(dx); dy++) {
+					int x = centerX + dx;
+					int y = centerY + dy;
+
+					if(x >= 0 && x < width && y >= 0 && y < height) {
+						cells[numCells++] = (x * height) + y;
+					}
+				}
+			}
+		}
+
+		Arrays.sort(cells, 0, numCells);
+
+		// Drops the duplicated cells of the overlapping neighbourhoods
+		int numUniqueCells = 0;
+
+		for(int c = 0; c < numCells; c++) {
+			if(numUniqueCells == 0 || cells[c] != cells[numUniqueCells - 1]) {
+				cells[numUniqueCells++] = cells[c];
+			}
+		}
+
+		return Arrays.copyOf(cells, numUniqueCells);
+	}
+
+	/**
+	 * Returns the distance from a given goal where it's reached: 1, if it's occupied by a static object
+	 * (reached in any of its neighbour cells), and 0, otherwise.
+	 *
+	 * @param goal the goal
+	 *
+	 * @return the distance from a given goal where it's reached
+	 */
+	public int getGoalDistance(Point goal) {
+		return this.isStaticObstacle(goal.x, goal.y) ? 1 : 0;
+	}
+
+	/**
+	 * Returns true if a given cell is occupied by a static object (i.e., anything but an aircraft agent,
+	 * whose positions are given by the reservation table), and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell is occupied by a static object, and false, otherwise
+	 */
+	private boolean isStaticObstacle(int x, int y) {
+		WorldGrid worldGrid = this.worldAgent.getWorldGrid();
+
+		return !worldGrid.isEmpty(x, y) && !worldGrid.is(x, y, WorldObjectType.AIRCRAFT);
+	}
+
+	/**
+	 * Searches the timed path of a given aircraft agent from a given start position to a given goal, by A*
+	 * in the space-time, with the distances of the flow field of the goal (or the Manhattan distance) as heuristic.
+	 *
+	 * @param aircraftAgent the aircraft agent
+	 * @param start the start position
+	 * @param goal the goal
+	 * @param startStep the time step when the path starts
+	 * @param stepsPerMove the number of time steps taken by each move to a neighbour cell
+	 * @param staticDistance the static distance from the start position to the goal, ignoring the other aircraft agents
+	 * @param corridor the sorted cell ids of the corridor to which the search is confined, or null, if there's none
+	 * @param flowField the flow field of the goal, or null, if there's none
+	 * @param useReservations true if the reservations of the other aircraft agents are respected and false, otherwise
+	 *
+	 * @return the position of the aircraft agent in each time step after the start time step, or null, if there's no path
+	 */
+	private GridPath findPath(AircraftAgent aircraftAgent, Point start, Point goal, int startStep, int stepsPerMove,
+							  int staticDistance, int[] corridor, FlowField flowField, boolean useReservations) {
+
+		ReservationTable reservationTable = this.worldAgent.getReservationTable();
+
+		int width = Config.GRID_WIDTH;
+		int height = Config.GRID_HEIGHT;
+
+		int goalDistance = this.getGoalDistance(goal);
+
+		// The search horizon (in time steps), enough to follow the static path and to wait for the other aircraft agents
+		int horizon = (staticDistance * stepsPerMove) + Config.AIRCRAFT_RESERVATION_MAX_WAIT_STEPS;
+
+		PriorityQueue<Node> open = new PriorityQueue<Node>();
+		HashSet<Long> closed = new HashSet<Long>();
+
+		open.add(new Node(start.x, start.y, 0, heuristic(start.x, start.y, goal, goalDistance, stepsPerMove, flowField), null));
+
+		while(!open.isEmpty()) {
+			Node node = open.poll();
+
+			if(!closed.add((((long) node.step) << 32) | ((node.x * height) + node.y))) {
+				continue;
+			}
+
+			this.lastNumNodesExpanded++;
+
+			// Goal reached, where the aircraft agent can stay
+			if(MissionPlanner.getDistance(new Point(node.x, node.y), goal) == goalDistance &&
+			   (!useReservations || reservationTable.isFree(node.x, node.y, startStep + node.step, Config.AIRCRAFT_RESERVATION_MAX_WAIT_STEPS, aircraftAgent))) {
+				return toTimedPath(node, height);
+			}
+
+			for(int[] move : MOVES) {
+				int x = node.x + move[0];
+				int y = node.y + move[1];
+
+				boolean wait = (move[0] == 0 && move[1] == 0);
+				int step = node.step + (wait ? 1 : stepsPerMove);
+
+				if(x < 0 || x >= width || y < 0 || y >= height || step > horizon) {
+					continue;
+				}
+
+				if(!wait && this.isStaticObstacle(x, y)) {
+					continue;
+				}
+
+				if(!wait && corridor != null && Arrays.binarySearch(corridor, (x * height) + y) < 0) {
+					continue;
+				}
+
+				if(useReservations && !this.isMoveFree(reservationTable, aircraftAgent, node.x, node.y, x, y, startStep + node.step, startStep + step)) {
+					continue;
+				}
+
+				open.add(new Node(x, y, step, step + heuristic(x, y, goal, goalDistance, stepsPerMove, flowField), node));
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, open.size());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns true if a move (or a wait) between two given cells, during the given time steps, is free of
+	 * the reservations of the other aircraft agents, and false, otherwise.
+	 *
+	 * The aircraft agent stays in the cell it leaves until the end of the move, then it's in the cell it enters,
+	 * and it can't swap cells with another aircraft agent.
+	 */
+	private boolean isMoveFree(ReservationTable reservationTable, AircraftAgent aircraftAgent,
+							   int fromX, int fromY, int toX, int toY, int fromStep, int toStep) {
+
+		for(int step = fromStep + 1; step < toStep; step++) {
+			if(!reservationTable.isFree(fromX, fromY, step, aircraftAgent)) {
+				return false;
+			}
+		}
+
+		if(!reservationTable.isFree(toX, toY, toStep, aircraftAgent)) {
+			return false;
+		}
+
+		if(fromX != toX || fromY != toY) {
+			Object owner = reservationTable.getOwner(toX, toY, toStep - 1);
+
+			if(owner != null && owner != aircraftAgent && owner == reservationTable.getOwner(fromX, fromY, toStep)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the heuristic (the distance of the flow field of the goal or, if there's none or it's unreachable by it,
+	 * the Manhattan distance, in time steps) from a given cell to a given goal.
+	 */
+	private static int heuristic(int x, int y, Point goal, int goalDistance, int stepsPerMove, FlowField flowField) {
+		int distance = (flowField != null) ? flowField.getDistance(x, y) : -1;
+
+		if(distance < 0) {
+			distance = Math.abs(x - goal.x) + Math.abs(y - goal.y);
+		}
+
+		return Math.max(distance - goalDistance, 0) * stepsPerMove;
+	}
+
+	/**
+	 * Returns the timed path ending in a given node, with the position of the aircraft agent in each time step
+	 * after the start time step (staying in the cell it leaves until the end of each move).
+	 */
+	private static GridPath toTimedPath(Node node, int height) {
+		GridPath timedPath = new GridPath(height, node.step);
+
+		for(Node n = node; n.parent != null; n = n.parent) {
+			timedPath.add(n.x, n.y);
+
+			for(int step = n.parent.step + 1; step < n.step; step++) {
+				timedPath.add(n.parent.x, n.parent.y);
+			}
+		}
+
+		timedPath.reverse(0);
+
+		return timedPath;
+	}
+
+	/**
+	 * Class responsible for a node (cell, time step) of the cooperative A* search.
+	 */
+	private static class Node implements Comparable<Node> {
+
+		private final int x;
+		private final int y;
+		private final int step;
+		private final int f;
+		private final Node parent;
+
+		private Node(int x, int y, int step, int f, Node parent) {
+			this.x = x;
+			this.y = y;
+			this.step = step;
+			this.f = f;
+			this.parent = parent;
+		}
+
+		@Override
+		public int compareTo(Node node) {
+			// The smallest estimated cost first and, in ties, the nearest node to the goal (the largest time step)
+			return (this.f != node.f) ? Integer.compare(this.f, node.f) : Integer.compare(node.step, this.step);
+		}
+	}
+}
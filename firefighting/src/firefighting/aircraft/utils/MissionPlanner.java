@@ -0,0 +1,166 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.aircraft.utils;
+
+import java.awt.Point;
+
+import firefighting.nature.WaterResource;
+import firefighting.utils.Config;
+import firefighting.world.WorldAgent;
+
+/**
+ * Class responsible for planning the range of the missions of an aircraft agent.
+ *
+ * A mission is only accepted if the aircraft agent can fly to the fire, then to the nearest water resource
+ * of the fire (to refill its water tank) and then back to the fire station (to refill its fuel tank),
+ * with the fuel remaining in its tank, so the aircraft agents never run out of fuel in the middle of a mission.
+ * The distances after the fire are estimated by the Manhattan distance (the length of the paths without obstacles)
+ * and the fuel needed is increased by a reserve factor, covering the detours of the paths and the changes of wind.
+ */
+public class MissionPlanner {
+
+	// Global Instance Variables:
+
+	/**
+	 * The world agent, where the missions are performed.
+	 */
+	private final WorldAgent worldAgent;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the mission planner.
+	 *
+	 * @param worldAgent the world agent, where the missions are performed
+	 */
+	public MissionPlanner(WorldAgent worldAgent) {
+		this.worldAgent = worldAgent;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the Manhattan distance between two given positions, in number of cells.
+	 *
+	 * @param from the first position
+	 * @param to the second position
+	 *
+	 * @return the Manhattan distance between two given positions, in number of cells
+	 */
+	public static int getDistance(Point from, Point to) {
+		return Math.abs(from.x - to.x) + Math.abs(from.y - to.y);
+	}
+
+	/**
+	 * Returns the water resource nearest to a given position, with some unreserved capacity (or any, if all of them
+	 * are depleted or reserved), or null, if there are no water resources.
+	 *
+	 * @param pos the position
+	 *
+	 * @return the water resource nearest to a given position, with some unreserved capacity, or null, if there are no water resources
+	 */
+	public WaterResource getNearestWaterResource(Point pos) {
+		WaterResource nearestWaterResource = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		boolean nearestHasUnreservedCapacity = false;
+
+		for(WaterResource waterResource : this.worldAgent.getWaterResources()) {
+			int distance = getDistance(pos, waterResource.getWorldObject().getPos());
+			boolean hasUnreservedCapacity = waterResource.getUnreservedCapacity() > 0;
+
+			if((hasUnreservedCapacity && !nearestHasUnreservedCapacity) ||
+			   (hasUnreservedCapacity == nearestHasUnreservedCapacity && distance < nearestDistance)) {
+				nearestWaterResource = waterResource;
+				nearestDistance = distance;
+				nearestHasUnreservedCapacity = hasUnreservedCapacity;
+			}
+		}
+
+		return nearestWaterResource;
+	}
+
+	/**
+	 * Returns the fuel needed to fly over a given number of cells, accordingly with the current type of wind,
+	 * including the reserve of fuel.
+	 *
+	 * @param numCells the number of cells
+	 *
+	 * @return the fuel needed to fly over a given number of cells, including the reserve of fuel
+	 */
+	public int getFuelNeeded(int numCells) {
+		int fuelConsumptionPerCell = this.worldAgent.getWindType().getAircraftFuelConsumptionPerCell();
+
+		return (int) Math.ceil(numCells * fuelConsumptionPerCell * Config.AIRCRAFT_FUEL_RESERVE_FACTOR);
+	}
+
+	/**
+	 * Returns the number of cells from a given position to the fire station.
+	 *
+	 * @param pos the position
+	 *
+	 * @return the number of cells from a given position to the fire station
+	 */
+	public int getNumCellsToFireStation(Point pos) {
+		return getDistance(pos, this.worldAgent.getFireStationAgent().getWorldObject().getPos());
+	}
+
+	/**
+	 * Returns the number of cells from a given position to its nearest water resource and then to the fire station.
+	 *
+	 * @param pos the position
+	 *
+	 * @return the number of cells from a given position to its nearest water resource and then to the fire station
+	 */
+	public int getNumCellsToFireStationThroughWaterResource(Point pos) {
+		WaterResource nearestWaterResource = this.getNearestWaterResource(pos);
+
+		if(nearestWaterResource == null) {
+			return this.getNumCellsToFireStation(pos);
+		}
+
+		Point waterResourcePos = nearestWaterResource.getWorldObject().getPos();
+
+		return getDistance(pos, waterResourcePos) + this.getNumCellsToFireStation(waterResourcePos);
+	}
+
+	/**
+	 * Returns true if an aircraft agent, with a given quantity of fuel, can fly a given number of cells to a fire,
+	 * and then to the nearest water resource of the fire and back to the fire station, and false, otherwise.
+	 *
+	 * @param fuelTankQuantity the fuel tank's quantity of the aircraft agent
+	 * @param numCellsToFire the number of cells of the path from the aircraft agent to the fire
+	 * @param firePos the position of the fire
+	 *
+	 * @return true if an aircraft agent, with a given quantity of fuel, can perform the mission to a fire and false, otherwise
+	 */
+	public boolean canPerformMission(int fuelTankQuantity, int numCellsToFire, Point firePos) {
+		int numCellsMission = numCellsToFire + this.getNumCellsToFireStationThroughWaterResource(firePos);
+
+		return fuelTankQuantity >= this.getFuelNeeded(numCellsMission);
+	}
+
+	/**
+	 * Returns true if an aircraft agent, with a given quantity of fuel and in a given position, can fly to its nearest
+	 * water resource and then back to the fire station, and false, otherwise.
+	 *
+	 * @param fuelTankQuantity the fuel tank's quantity of the aircraft agent
+	 * @param pos the position of the aircraft agent
+	 *
+	 * @return true if an aircraft agent can refill its water tank and fly back to the fire station and false, otherwise
+	 */
+	public boolean canRefillWater(int fuelTankQuantity, Point pos) {
+		return fuelTankQuantity >= this.getFuelNeeded(this.getNumCellsToFireStationThroughWaterResource(pos));
+	}
+}
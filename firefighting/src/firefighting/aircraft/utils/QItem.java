@@ -10,8 +10,7 @@
 
 package firefighting.aircraft.utils;
 
-import java.awt.Point;
-import java.util.ArrayList;
+import firefighting.world.utils.GridPath;
 
 public class QItem {
 	
@@ -20,16 +19,35 @@ public class QItem {
 	
 	public int dist;
 	
-	public ArrayList<Point> path;
+	/**
+	 * The item from which this one was reached (null, in the source),
+	 * instead of a copy of the whole path by item.
+	 */
+	public QItem parent;
 
-	public QItem(int x, int y, int w, ArrayList<Point> s) {
+	public QItem(int x, int y, int w, QItem parent) {
 		row = x;
 		col = y;
 		dist = w; 
-		path = s;
+		this.parent = parent;
 	}
 	
-	ArrayList<Point> getPath() {
+	/**
+	 * Returns the path from the source until this item (the source excluded), following the parents' links.
+	 * 
+	 * @param height the height of the world's map/grid
+	 * 
+	 * @return the path from the source until this item
+	 */
+	public GridPath getPath(int height) {
+		GridPath path = new GridPath(height, dist);
+		
+		for(QItem q = this; q.parent != null; q = q.parent) {
+			path.add(q.row, q.col);
+		}
+		
+		path.reverse(0);
+		
 		return path;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,286 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.aircraft.utils;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import firefighting.nature.Fire;
+import firefighting.nature.WaterResource;
+import firefighting.utils.Config;
+
+/**
+ * Class responsible for planning the multi-stop tour of an aircraft agent, starting with the fire of a CFP
+ * and followed by other nearby open fires, with the water resources' stops needed to refill its water tank
+ * between them (e.g., fire, fire, water resource, fire).
+ *
+ * The order of the fires is built by cheapest insertion and improved by 2-opt (the first fire is fixed),
+ * then the water resources' stops are inserted wherever the water tank doesn't have enough water for the next fire,
+ * choosing the water resource with the smallest detour. The distances are estimated by the Manhattan distance,
+ * and the fires at the end of the tour are dropped while it exceeds the range of the aircraft agent.
+ */
+public class TourPlanner {
+
+	// Global Instance Variables:
+
+	/**
+	 * The planner of the range of the missions of the aircraft agent.
+	 */
+	private final MissionPlanner missionPlanner;
+
+	/**
+	 * The water resources of the world.
+	 */
+	private final WaterResource[] waterResources;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the tour planner.
+	 *
+	 * @param missionPlanner the planner of the range of the missions of the aircraft agent
+	 * @param waterResources the water resources of the world
+	 */
+	public TourPlanner(MissionPlanner missionPlanner, WaterResource[] waterResources) {
+		this.missionPlanner = missionPlanner;
+		this.waterResources = waterResources;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the length of a given tour, from a given start position, in number of cells.
+	 *
+	 * @param start the start position of the tour
+	 * @param tour the tour
+	 *
+	 * @return the length of a given tour, from a given start position, in number of cells
+	 */
+	public static int getLength(Point start, List<TourStop> tour) {
+		int length = 0;
+
+		Point pos = start;
+
+		for(TourStop stop : tour) {
+			length += MissionPlanner.getDistance(pos, stop.getPos());
+			pos = stop.getPos();
+		}
+
+		return length;
+	}
+
+	/**
+	 * Plans the tour of an aircraft agent, starting with a given fire and followed by up to
+	 * Config.AIRCRAFT_TOUR_MAX_FIRES - 1 other open fires near it, within the range of the aircraft agent.
+	 *
+	 * @param start the position of the aircraft agent
+	 * @param waterTankQuantity the water tank's quantity of the aircraft agent
+	 * @param maxWaterTankCapacity the maximum water tank's capacity of the aircraft agent
+	 * @param fuelTankQuantity the fuel tank's quantity of the aircraft agent
+	 * @param firstFire the fire of the CFP, always the first fire of the tour
+	 * @param fires the current fires of the world
+	 *
+	 * @return the stops of the tour, or an empty tour, if the aircraft agent can't reach the first fire
+	 */
+	public ArrayList<TourStop> plan(Point start, int waterTankQuantity, int maxWaterTankCapacity, int fuelTankQuantity,
+									Fire firstFire, List<Fire> fires) {
+
+		final Point firstFirePos = firstFire.getWorldObject().getPos();
+
+		// 1) The open fires (active and not attended) near the first fire, from the nearest one
+		ArrayList<Fire> candidateFires = new ArrayList<Fire>();
+
+		for(int f = 0; f < fires.size(); f++) {
+			Fire fire = fires.get(f);
+
+			if(fire != firstFire && fire.isActive() && !fire.isAttended() &&
+			   MissionPlanner.getDistance(firstFirePos, fire.getWorldObject().getPos()) <= Config.AIRCRAFT_TOUR_MAX_DISTANCE) {
+				candidateFires.add(fire);
+			}
+		}
+
+		Collections.sort(candidateFires, new Comparator<Fire>() {
+			@Override
+			public int compare(Fire fire1, Fire fire2) {
+				return Integer.compare(MissionPlanner.getDistance(firstFirePos, fire1.getWorldObject().getPos()),
+									   MissionPlanner.getDistance(firstFirePos, fire2.getWorldObject().getPos()));
+			}
+		});
+
+		// 2) The order of the fires, by cheapest insertion after the first fire
+		ArrayList<Point> order = new ArrayList<Point>();
+		ArrayList<Fire> orderFires = new ArrayList<Fire>();
+
+		order.add(firstFirePos);
+		orderFires.add(firstFire);
+
+		for(int c = 0; c < candidateFires.size() && orderFires.size() < Config.AIRCRAFT_TOUR_MAX_FIRES; c++) {
+			Fire fire = candidateFires.get(c);
+			Point firePos = fire.getWorldObject().getPos();
+
+			int bestIndex = order.size();
+			int bestCost = Integer.MAX_VALUE;
+
+			for(int i = 1; i <= order.size(); i++) {
+				Point prev = order.get(i - 1);
+
+				int cost = MissionPlanner.getDistance(prev, firePos);
+
+				if(i < order.size()) {
+					Point next = order.get(i);
+
+					cost += MissionPlanner.getDistance(firePos, next) - MissionPlanner.getDistance(prev, next);
+				}
+
+				if(cost < bestCost) {
+					bestCost = cost;
+					bestIndex = i;
+				}
+			}
+
+			order.add(bestIndex, firePos);
+			orderFires.add(bestIndex, fire);
+		}
+
+		// 3) The improvement of the order of the fires, by 2-opt (of an open path, with the first fire fixed)
+		improveByTwoOpt(order, orderFires);
+
+		// 4) The tour, with the water resources' stops, trimmed to the range of the aircraft agent
+		ArrayList<TourStop> tour = this.buildTour(start, waterTankQuantity, maxWaterTankCapacity, orderFires);
+
+		while(!tour.isEmpty() && !this.missionPlanner.canPerformMission(fuelTankQuantity, getLength(start, tour), tour.get(tour.size() - 1).getPos())) {
+			orderFires.remove(orderFires.size() - 1);
+
+			tour = this.buildTour(start, waterTankQuantity, maxWaterTankCapacity, orderFires);
+		}
+
+		return tour;
+	}
+
+	/**
+	 * Improves, in place, the order of the fires of a tour by 2-opt, reversing the segments
+	 * that shorten the (open) path, keeping the first fire fixed.
+	 *
+	 * @param order the positions of the fires
+	 * @param orderFires the fires, in the same order of the positions
+	 */
+	private static void improveByTwoOpt(ArrayList<Point> order, ArrayList<Fire> orderFires) {
+		int n = order.size();
+
+		boolean improved = true;
+
+		while(improved) {
+			improved = false;
+
+			for(int i = 1; i < n - 1; i++) {
+				for(int j = i + 1; j < n; j++) {
+					Point a = order.get(i - 1);
+					Point b = order.get(i);
+					Point c = order.get(j);
+
+					int delta = MissionPlanner.getDistance(a, c) - MissionPlanner.getDistance(a, b);
+
+					if(j + 1 < n) {
+						Point d = order.get(j + 1);
+
+						delta += MissionPlanner.getDistance(b, d) - MissionPlanner.getDistance(c, d);
+					}
+
+					if(delta < 0) {
+						Collections.reverse(order.subList(i, j + 1));
+						Collections.reverse(orderFires.subList(i, j + 1));
+
+						improved = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Builds the stops of a tour, for a given order of the fires, inserting a water resource's stop
+	 * before each fire whose intensity exceeds the water expected in the water tank.
+	 *
+	 * @param start the position of the aircraft agent
+	 * @param waterTankQuantity the water tank's quantity of the aircraft agent
+	 * @param maxWaterTankCapacity the maximum water tank's capacity of the aircraft agent
+	 * @param orderFires the fires, in the order of the tour
+	 *
+	 * @return the stops of a tour
+	 */
+	private ArrayList<TourStop> buildTour(Point start, int waterTankQuantity, int maxWaterTankCapacity, List<Fire> orderFires) {
+		ArrayList<TourStop> tour = new ArrayList<TourStop>();
+
+		Point pos = start;
+		int water = waterTankQuantity;
+
+		for(Fire fire : orderFires) {
+			Point firePos = fire.getWorldObject().getPos();
+			int fireIntensity = fire.getCurrentIntensity();
+
+			if(water < Math.min(Math.max(fireIntensity, 1), maxWaterTankCapacity)) {
+				WaterResource waterResource = this.getWaterResourceWithSmallestDetour(pos, firePos);
+
+				if(waterResource != null) {
+					tour.add(new TourStop(waterResource));
+
+					pos = waterResource.getWorldObject().getPos();
+					water = Math.max(water, Math.min(maxWaterTankCapacity, water + waterResource.getUnreservedCapacity()));
+				}
+			}
+
+			tour.add(new TourStop(fire));
+
+			pos = firePos;
+			water -= Math.min(water, fireIntensity);
+		}
+
+		return tour;
+	}
+
+	/**
+	 * Returns the water resource with some unreserved capacity with the smallest detour between two given positions,
+	 * or null, if all of them are depleted or reserved.
+	 *
+	 * @param from the position before the water resource
+	 * @param to the position after the water resource
+	 *
+	 * @return the water resource with the smallest detour between two given positions, or null
+	 */
+	private WaterResource getWaterResourceWithSmallestDetour(Point from, Point to) {
+		WaterResource bestWaterResource = null;
+		int bestDetour = Integer.MAX_VALUE;
+
+		for(WaterResource waterResource : this.waterResources) {
+			if(waterResource.getUnreservedCapacity() <= 0) {
+				continue;
+			}
+
+			Point waterResourcePos = waterResource.getWorldObject().getPos();
+
+			int detour = MissionPlanner.getDistance(from, waterResourcePos) + MissionPlanner.getDistance(waterResourcePos, to);
+
+			if(detour < bestDetour) {
+				bestDetour = detour;
+				bestWaterResource = waterResource;
+			}
+		}
+
+		return bestWaterResource;
+	}
+}
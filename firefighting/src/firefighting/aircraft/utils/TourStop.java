@@ -0,0 +1,100 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.aircraft.utils;
+
+import java.awt.Point;
+
+import firefighting.nature.Fire;
+import firefighting.nature.WaterResource;
+
+/**
+ * Class responsible for a stop of the tour of an aircraft agent: a fire, where it drops water,
+ * or a water resource, where it refills its water tank.
+ */
+public class TourStop {
+
+	// Global Instance Variables:
+
+	/**
+	 * The fire of the stop, or null, if it's a water resource's stop.
+	 */
+	private final Fire fire;
+
+	/**
+	 * The water resource of the stop, or null, if it's a fire's stop.
+	 */
+	private final WaterResource waterResource;
+
+	/**
+	 * The position of the stop.
+	 */
+	private final Point pos;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the tour's stop.
+	 *
+	 * Creates a new stop, where the aircraft agent drops water above a fire.
+	 *
+	 * @param fire the fire of the stop
+	 */
+	public TourStop(Fire fire) {
+		this.fire = fire;
+		this.waterResource = null;
+		this.pos = fire.getWorldObject().getPos();
+	}
+
+	/**
+	 * Constructor #2 of the tour's stop.
+	 *
+	 * Creates a new stop, where the aircraft agent refills its water tank in a water resource.
+	 *
+	 * @param waterResource the water resource of the stop
+	 */
+	public TourStop(WaterResource waterResource) {
+		this.fire = null;
+		this.waterResource = waterResource;
+		this.pos = waterResource.getWorldObject().getPos();
+	}
+
+
+
+	// Methods:
+
+	public Fire getFire() {
+		return this.fire;
+	}
+
+	public WaterResource getWaterResource() {
+		return this.waterResource;
+	}
+
+	public Point getPos() {
+		return this.pos;
+	}
+
+	/**
+	 * Returns true if it's a fire's stop and false, if it's a water resource's stop.
+	 *
+	 * @return true if it's a fire's stop and false, if it's a water resource's stop
+	 */
+	public boolean isFire() {
+		return this.fire != null;
+	}
+
+	@Override
+	public String toString() {
+		return (this.isFire() ? "F" : "W") + "(" + this.pos.x + ", " + this.pos.y + ")";
+	}
+}
@@ -15,6 +15,7 @@ import java.util.Vector;
 import firefighting.firestation.behaviours.DetectFiresBehaviour;
 import firefighting.firestation.messages.AlarmFireMessage;
 import firefighting.nature.Fire;
+import firefighting.utils.FireStationMetricsStats;
 import firefighting.world.*;
 
 import java.util.Enumeration;
@@ -36,6 +37,11 @@ public class FireStationAgent extends Agent {
 	
 	private WorldObject worldObject;
 	
+	/**
+	 * The execution metrics stats of the Fire Station Agent.
+	 */
+	private FireStationMetricsStats fireStationMetricsStats;
+	
 	
 	// Constructors:
 	/**
@@ -48,6 +54,8 @@ public class FireStationAgent extends Agent {
 	public FireStationAgent(WorldAgent worldAgent, WorldObject worldObject) {
 		this.worldAgent = worldAgent;
 		this.worldObject = worldObject;
+		
+		this.fireStationMetricsStats = new FireStationMetricsStats();
 	}
 
 	
@@ -65,6 +73,15 @@ public class FireStationAgent extends Agent {
 		return this.worldObject;
 	}
 
+	/**
+	 * Returns the execution metrics stats of the Fire Station Agent.
+	 * 
+	 * @return the execution metrics stats of the Fire Station Agent
+	 */
+	public FireStationMetricsStats getFireStationMetricsStats() {
+		return this.fireStationMetricsStats;
+	}
+
 	public static Object[] getAircraftAgentsNames(int numAircraftAgents) {
 		
 		Object[] aircraftAgentNames = new Object[numAircraftAgents];
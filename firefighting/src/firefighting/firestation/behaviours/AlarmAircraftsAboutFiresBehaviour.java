@@ -6,6 +6,8 @@ import java.util.Vector;
 import firefighting.firestation.FireStationAgent;
 import firefighting.ui.GUI;
 import firefighting.utils.Config;
+import firefighting.utils.FireStationMetricsStats;
+import firefighting.utils.events.ContractNetRoundEvent;
 import jade.core.AID;
 import jade.lang.acl.ACLMessage;
 import jade.proto.ContractNetInitiator;
@@ -21,11 +23,15 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 	
 	private ACLMessage helloAircraftCFPMsg;
 	
+	private FireStationMetricsStats fireStationMetricsStats;
+	
+	private ContractNetRoundEvent contractNetRoundEvent;
+	
 	
 	public AlarmAircraftsAboutFiresBehaviour(FireStationAgent fireStationAgent, ACLMessage helloAircraftCFPMsg) {
 		super(fireStationAgent, helloAircraftCFPMsg);
 		this.helloAircraftCFPMsg = helloAircraftCFPMsg;
-		
+		this.fireStationMetricsStats = fireStationAgent.getFireStationMetricsStats();
 	}
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -38,6 +44,11 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 		}
 		Vector v = new Vector();		
 
+		this.fireStationMetricsStats.incNumTotalContractNetRoundsStarted();
+		
+		this.contractNetRoundEvent = new ContractNetRoundEvent();
+		this.contractNetRoundEvent.begin();
+
 		v.add(this.helloAircraftCFPMsg);
 		
 		return v;
@@ -45,6 +56,8 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 	
 	@SuppressWarnings("rawtypes")
 	protected void handlePropose(ACLMessage propose, Vector acceptances) {
+		this.fireStationMetricsStats.incNumTotalProposalsReceived();
+		
 		if(GUI.isActive()) {
 			GUI.log("Agent " + propose.getSender().getName() + " proposed " + propose.getContent() +"\n");
 		}
@@ -54,6 +67,8 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
     }
      
 	protected void handleRefuse(ACLMessage refuse) {
+		this.fireStationMetricsStats.incNumTotalRefusesReceived();
+		
 		if(GUI.isActive()) {
 			GUI.log("Agent " + refuse.getSender().getName() + " refused!\n");
 		}
@@ -63,6 +78,7 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 	}
       
 	protected void handleFailure(ACLMessage failure) {
+		this.fireStationMetricsStats.incNumTotalFailuresReceived();
         
 		if (failure.getSender().equals(myAgent.getAMS())) {
 
@@ -113,6 +129,16 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 			}
 		}
     	  
+		if (this.contractNetRoundEvent != null && this.contractNetRoundEvent.shouldCommit()) {
+			this.contractNetRoundEvent.cfp = this.helloAircraftCFPMsg.getContent();
+			this.contractNetRoundEvent.numResponses = responses.size();
+			this.contractNetRoundEvent.numProposals = acceptances.size();
+			this.contractNetRoundEvent.bestProposal = bestProposal;
+			this.contractNetRoundEvent.bestProposer = bestProposer != null ? bestProposer.getLocalName() : null;
+			
+			this.contractNetRoundEvent.commit();
+		}
+		
 		// Accept the proposal of the best proposer
 		if (accept != null) {
 			if(GUI.isActive()) {
@@ -122,10 +148,14 @@ public class AlarmAircraftsAboutFiresBehaviour extends ContractNetInitiator {
 				System.out.println("Accepting proposal " + bestProposal + " from responder " + bestProposer.getName());
 			}
 			accept.setPerformative(ACLMessage.ACCEPT_PROPOSAL);
+			
+			this.fireStationMetricsStats.incNumTotalProposalsAccepted();
 		} 
 	}
       
 	protected void handleInform(ACLMessage inform) {
+		this.fireStationMetricsStats.incNumTotalInformsReceived();
+		
 		if(GUI.isActive()) {
 			GUI.log("Agent " + inform.getSender().getName() + " successfully performed the requested action!\n");
 		}
@@ -71,11 +71,7 @@ public class DetectFiresBehaviour extends TickerBehaviour {
 					    
 						AlarmAircraftsAboutFiresBehaviour alarmToExtinguishFire = new AlarmAircraftsAboutFiresBehaviour(fireStationAgent, alarmFireMsg.getACLMessage());
 						
-						int notOccupied = 0;
-						for(int nrAir = 0; nrAir < this.worldAgent.getAircraftAgents().length; nrAir++) {
-							if(this.worldAgent.getAircraftAgents()[nrAir].attendindFire == false && this.worldAgent.getAircraftAgents()[nrAir].attendindWater == false)
-								notOccupied++;
-						}
+						int notOccupied = this.worldAgent.getNumIdleAircraftAgents();
 						
 						if(notOccupied == 0)
 							break;
@@ -1,13 +1,18 @@
 package firefighting.nature;
 
 import java.awt.Point;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 import firefighting.utils.Config;
 import firefighting.world.*;
 
 /**
  * Class responsible for a Fire.
+ * 
+ * While the Fire is active in the world, its mutable state (intensity and intensity increases) is kept
+ * in a slot of the world's fire store and the Fire is only a view to it. When it's removed from the world,
+ * the Fire keeps its last state.
  */
 public class Fire {
 	
@@ -20,12 +25,12 @@ public class Fire {
 	/**
 	 * Fire's creation timestamp.
 	 */
-	private long creationTimestamp;
+	final long creationTimestamp;
 	
 	/**
-	 * Current intensity of the Fire.
+	 * Current intensity of the Fire (only used while it's not in a fire store).
 	 */
-	private int currentIntensity;
+	int currentIntensity;
 	
 	/**
 	 * Original intensity of the Fire.
@@ -35,15 +40,29 @@ public class Fire {
 	/**
 	 * Probability of Fire spreading.
 	 */
-	private float spreadProbability;
+	final float spreadProbability;
 	
 	private int numSpreads;
 	
-	private int numIntensityIncreases;
+	/**
+	 * Number of intensity increases of the Fire (only used while it's not in a fire store).
+	 */
+	int numIntensityIncreases;
+	
+	/**
+	 * The owner (the aircraft agent attending it) of the Fire, or null, if it's not attended.
+	 */
+	private final AtomicReference<Object> owner;
 	
-	private boolean active;
+	/**
+	 * The fire store keeping the state of the Fire, or null, if it's not in any fire store.
+	 */
+	FireStore fireStore;
 	
-	public boolean attended;
+	/**
+	 * The slot of the Fire in its fire store, or -1, if it's not in any fire store.
+	 */
+	int slot;
 	
 	
 	// Constructors:
@@ -52,12 +71,10 @@ public class Fire {
 	 * 
 	 * Creates a Fire, initialising its ID, its world object, its current and original intensity, and also, its spread probability.
 	 * 
-	 * @param the Fire's ID
 	 * @param the Fire's World Object
+	 * @param random the random numbers' generator of the Fire's intensity and spread probability
 	 */
-	public Fire(WorldObject worldObject) {
-		Random random = new Random();
-		
+	public Fire(WorldObject worldObject, SplittableRandom random) {
 		this.worldObject = worldObject;
 		
 		this.creationTimestamp = System.currentTimeMillis();
@@ -65,13 +82,15 @@ public class Fire {
 		this.currentIntensity = random.nextInt(Config.FIRE_MAX_INITIAL_INTENSITY) + 1;
 		this.originalIntensity = currentIntensity;
 		
-		this.spreadProbability = random.nextFloat();
+		this.spreadProbability = (float) random.nextDouble();
 		
 		this.numSpreads = 0;
 		this.numIntensityIncreases = 0;
 		
-		this.active = true;
-		this.attended = false;
+		this.owner = new AtomicReference<Object>();
+		
+		this.fireStore = null;
+		this.slot = -1;
 	}
 	
 	// Methods:
@@ -106,7 +125,9 @@ public class Fire {
 	 * @return the current intensity of the Fire
 	 */
 	public int getCurrentIntensity() {
-		return this.currentIntensity;
+		FireStore fireStore = this.fireStore;
+		
+		return fireStore == null ? this.currentIntensity : fireStore.getCurrentIntensity(this);
 	}
 	
 	/**
@@ -136,33 +157,71 @@ public class Fire {
 	}
 	
 	public int getNumIntensityIncreases() {
-		return this.numIntensityIncreases;
+		FireStore fireStore = this.fireStore;
+		
+		return fireStore == null ? this.numIntensityIncreases : fireStore.getNumIntensityIncreases(this);
 	}
 	
 	public void decreaseIntensity(int decreaseValue) {
+		FireStore fireStore = this.fireStore;
 		
-		this.currentIntensity = this.currentIntensity - decreaseValue;
+		if(fireStore == null) {
+			this.currentIntensity = Math.max(this.currentIntensity - decreaseValue, 0);
+		}
+		else {
+			fireStore.decreaseIntensity(this, decreaseValue);
+		}
 		
-		if(this.currentIntensity == 0) {
-			this.active = false;
-			this.attended = true;
+		// The extinguished Fire claims itself, if it's not attended, so it's never attended again
+		if(!this.isActive()) {
+			this.owner.compareAndSet(null, this);
 		}
-
 	}
 	
+	/**
+	 * Increases the intensity of the Fire, up to the maximum final intensity of a fire.
+	 * 
+	 * @param increaseValue the amount of intensity to increase
+	 */
 	public void increaseIntensity(int increaseValue) {
-		if((this.currentIntensity + increaseValue) > Config.FIRE_MAX_FINAL_INTENSITY) {
-			this.currentIntensity += increaseValue;
+		FireStore fireStore = this.fireStore;
+		
+		if(fireStore == null) {
+			this.currentIntensity = Math.min(this.currentIntensity + increaseValue, Config.FIRE_MAX_FINAL_INTENSITY);
 			this.numIntensityIncreases++;
 		}
+		else {
+			fireStore.increaseIntensity(this, increaseValue);
+		}
 	}
 	
 	public boolean isActive() {
-		return this.active;
+		return this.getCurrentIntensity() > 0;
 	}
 	
 	public boolean isAttended() {
-		return this.attended;
+		return this.owner.get() != null;
+	}
+	
+	/**
+	 * Claims, atomically, the Fire for a given owner (the aircraft agent attending it),
+	 * if it's not attended yet (or already claimed by the same owner).
+	 * 
+	 * @param owner the owner of the Fire
+	 * 
+	 * @return true if the Fire is claimed by the given owner and false, otherwise
+	 */
+	public boolean tryClaim(Object owner) {
+		return this.owner.compareAndSet(null, owner) || this.owner.get() == owner;
+	}
+	
+	/**
+	 * Releases, atomically, the Fire, if it's claimed by a given owner.
+	 * 
+	 * @param owner the owner of the Fire
+	 */
+	public void release(Object owner) {
+		this.owner.compareAndSet(owner, null);
 	}
 	
 	
@@ -183,6 +242,6 @@ public class Fire {
 	
 	@Override
 	public String toString() {
-		return "F" + this.currentIntensity;
+		return "F" + this.getCurrentIntensity();
 	}
 }
\ No newline at end of file
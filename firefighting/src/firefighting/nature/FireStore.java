@@ -0,0 +1,331 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.nature;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import firefighting.utils.Config;
+
+/**
+ * Class responsible for storing the state of all the active fires in the world, as a structure of arrays.
+ *
+ * Each active fire has a slot in the parallel arrays (intensity, creation timestamp, spread probability, position, ...)
+ * and the Fire objects are only lightweight views to their slots, so the environment behaviours
+ * update all the fires with bulk loops over primitive arrays.
+ * Removing a fire moves the last one to its slot (swap-remove), keeping the slots contiguous.
+ */
+public class FireStore {
+
+	// Constants:
+
+	/**
+	 * The initial capacity of the fire store.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The fires (views) of all the occupied slots, with the same order of the slots.
+	 */
+	private final ArrayList<Fire> fires;
+
+	/**
+	 * The current intensity of the fire of each slot.
+	 */
+	private int[] intensity;
+
+	/**
+	 * The number of intensity increases of the fire of each slot.
+	 */
+	private int[] numIntensityIncreases;
+
+	/**
+	 * The creation timestamp of the fire of each slot.
+	 */
+	private long[] createdAt;
+
+	/**
+	 * The spread probability of the fire of each slot.
+	 */
+	private float[] spreadProbability;
+
+	/**
+	 * The coordinate X of the fire of each slot.
+	 */
+	private short[] posX;
+
+	/**
+	 * The coordinate Y of the fire of each slot.
+	 */
+	private short[] posY;
+
+	/**
+	 * The scratch array of the random intensity penalties, used by the bulk intensity increases.
+	 */
+	private int[] intensityPenalties;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the fire store.
+	 *
+	 * Creates a new empty fire store.
+	 */
+	public FireStore() {
+		this.fires = new ArrayList<Fire>(INITIAL_CAPACITY);
+
+		this.intensity = new int[INITIAL_CAPACITY];
+		this.numIntensityIncreases = new int[INITIAL_CAPACITY];
+		this.createdAt = new long[INITIAL_CAPACITY];
+		this.spreadProbability = new float[INITIAL_CAPACITY];
+		this.posX = new short[INITIAL_CAPACITY];
+		this.posY = new short[INITIAL_CAPACITY];
+		this.intensityPenalties = new int[INITIAL_CAPACITY];
+	}
+
+
+
+	// Basic methods:
+
+	/**
+	 * Returns a snapshot (copy, taken atomically) of the fires (views) of all the occupied slots,
+	 * with the same order of the slots, so it can be iterated by any thread, while fires are added or removed.
+	 *
+	 * @return a snapshot of the fires (views) of all the occupied slots
+	 */
+	public synchronized ArrayList<Fire> getFiresSnapshot() {
+		return new ArrayList<Fire>(this.fires);
+	}
+
+	/**
+	 * Returns the number of fires in the store.
+	 *
+	 * @return the number of fires in the store
+	 */
+	public synchronized int size() {
+		return this.fires.size();
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if(minCapacity <= this.intensity.length) {
+			return;
+		}
+
+		int newCapacity = Math.max(minCapacity, this.intensity.length << 1);
+
+		this.intensity = Arrays.copyOf(this.intensity, newCapacity);
+		this.numIntensityIncreases = Arrays.copyOf(this.numIntensityIncreases, newCapacity);
+		this.createdAt = Arrays.copyOf(this.createdAt, newCapacity);
+		this.spreadProbability = Arrays.copyOf(this.spreadProbability, newCapacity);
+		this.posX = Arrays.copyOf(this.posX, newCapacity);
+		this.posY = Arrays.copyOf(this.posY, newCapacity);
+		this.intensityPenalties = new int[newCapacity];
+	}
+
+	/**
+	 * Adds a fire to the store, moving its state to a new slot.
+	 *
+	 * @param fire the fire to be added
+	 */
+	public synchronized void add(Fire fire) {
+		if(fire.fireStore != null) {
+			return;
+		}
+
+		int slot = this.fires.size();
+
+		this.ensureCapacity(slot + 1);
+
+		Point pos = fire.getWorldObject().getPos();
+
+		this.intensity[slot] = fire.currentIntensity;
+		this.numIntensityIncreases[slot] = fire.numIntensityIncreases;
+		this.createdAt[slot] = fire.creationTimestamp;
+		this.spreadProbability[slot] = fire.spreadProbability;
+		this.posX[slot] = (short) pos.getX();
+		this.posY[slot] = (short) pos.getY();
+
+		this.fires.add(fire);
+
+		fire.fireStore = this;
+		fire.slot = slot;
+	}
+
+	/**
+	 * Removes a fire from the store, keeping its last state in the fire itself
+	 * and moving the fire of the last slot to its slot.
+	 *
+	 * @param fire the fire to be removed
+	 *
+	 * @return true if the fire was in the store and false, otherwise
+	 */
+	public synchronized boolean remove(Fire fire) {
+		if(fire.fireStore != this) {
+			return false;
+		}
+
+		int slot = fire.slot;
+		int lastSlot = this.fires.size() - 1;
+
+		// Detaches the fire, keeping its last state
+		fire.currentIntensity = this.intensity[slot];
+		fire.numIntensityIncreases = this.numIntensityIncreases[slot];
+		fire.fireStore = null;
+		fire.slot = -1;
+
+		// Moves the fire of the last slot to the free slot
+		if(slot != lastSlot) {
+			Fire lastFire = this.fires.get(lastSlot);
+
+			this.intensity[slot] = this.intensity[lastSlot];
+			this.numIntensityIncreases[slot] = this.numIntensityIncreases[lastSlot];
+			this.createdAt[slot] = this.createdAt[lastSlot];
+			this.spreadProbability[slot] = this.spreadProbability[lastSlot];
+			this.posX[slot] = this.posX[lastSlot];
+			this.posY[slot] = this.posY[lastSlot];
+
+			this.fires.set(slot, lastFire);
+			lastFire.slot = slot;
+		}
+
+		this.fires.remove(lastSlot);
+
+		return true;
+	}
+
+	/**
+	 * Returns the fire in a given position of the world, or null, if there's none.
+	 *
+	 * @param firePosX the coordinate X of the world's map/grid
+	 * @param firePosY the coordinate Y of the world's map/grid
+	 *
+	 * @return the fire in a given position of the world, or null, if there's none
+	 */
+	public synchronized Fire get(int firePosX, int firePosY) {
+		for(int slot = 0, size = this.fires.size(); slot < size; slot++) {
+			if(this.posX[slot] == firePosX && this.posY[slot] == firePosY) {
+				return this.fires.get(slot);
+			}
+		}
+
+		return null;
+	}
+
+
+
+	// Views' methods (used by the fires while they're in the store):
+
+	synchronized int getCurrentIntensity(Fire fire) {
+		return fire.slot >= 0 ? this.intensity[fire.slot] : fire.currentIntensity;
+	}
+
+	synchronized int getNumIntensityIncreases(Fire fire) {
+		return fire.slot >= 0 ? this.numIntensityIncreases[fire.slot] : fire.numIntensityIncreases;
+	}
+
+	synchronized void decreaseIntensity(Fire fire, int decreaseValue) {
+		if(fire.slot >= 0) {
+			this.intensity[fire.slot] = Math.max(this.intensity[fire.slot] - decreaseValue, 0);
+		}
+		else {
+			fire.currentIntensity = Math.max(fire.currentIntensity - decreaseValue, 0);
+		}
+	}
+
+	synchronized void increaseIntensity(Fire fire, int increaseValue) {
+		if(fire.slot >= 0) {
+			this.intensity[fire.slot] = Math.min(this.intensity[fire.slot] + increaseValue, Config.FIRE_MAX_FINAL_INTENSITY);
+			this.numIntensityIncreases[fire.slot]++;
+		}
+		else {
+			fire.currentIntensity = Math.min(fire.currentIntensity + increaseValue, Config.FIRE_MAX_FINAL_INTENSITY);
+			fire.numIntensityIncreases++;
+		}
+	}
+
+
+
+	// Bulk methods:
+
+	/**
+	 * Increases the intensity of all the fires that are active for more time than their current timeout
+	 * (a factor of timeout for each number of intensity increases), by a random penalty,
+	 * up to the maximum final intensity of a fire.
+	 *
+	 * @param currentTime the current time, in milliseconds
+	 * @param random the random numbers' generator of the penalties
+	 *
+	 * @return the number of fires whose intensity was increased
+	 */
+	public synchronized int increaseIntensitiesByTimeout(long currentTime, SplittableRandom random) {
+		int size = this.fires.size();
+
+		int[] intensity = this.intensity;
+		int[] numIntensityIncreases = this.numIntensityIncreases;
+		long[] createdAt = this.createdAt;
+		int[] intensityPenalties = this.intensityPenalties;
+
+		for(int slot = 0; slot < size; slot++) {
+			intensityPenalties[slot] = random.nextInt(Config.FIRE_ACTIVE_INTENSITY_MAX_PENALTY);
+		}
+
+		int numIncreasedFires = 0;
+
+		// Branch-free loop over the primitive arrays
+		for(int slot = 0; slot < size; slot++) {
+			long timeoutFireIntensityIncrease = (numIntensityIncreases[slot] + 1) * Config.FIRE_ACTIVE_FACTOR_TIMEOUT;
+			int due = (int) ((timeoutFireIntensityIncrease - (currentTime - createdAt[slot])) >>> 63);
+
+			// Masked by the sign bit of -intensity, so the extinguished fires (intensity 0) aren't revived
+			due *= (-intensity[slot]) >>> 31;
+
+			intensity[slot] = Math.min(intensity[slot] + (due * intensityPenalties[slot]), Config.FIRE_MAX_FINAL_INTENSITY);
+			numIntensityIncreases[slot] += due;
+
+			numIncreasedFires += due;
+		}
+
+		return numIncreasedFires;
+	}
+
+	/**
+	 * Decreases the intensity of all the fires by a given amount (e.g., raining above them), down to 0.
+	 *
+	 * @param decreaseValue the amount of intensity to decrease
+	 *
+	 * @return the number of fires extinguished (with intensity 0)
+	 */
+	public synchronized int decreaseIntensities(int decreaseValue) {
+		int size = this.fires.size();
+
+		int[] intensity = this.intensity;
+
+		int numExtinguishedFires = 0;
+
+		// Branch-free loop over the primitive arrays
+		for(int slot = 0; slot < size; slot++) {
+			int newIntensity = Math.max(intensity[slot] - decreaseValue, 0);
+
+			intensity[slot] = newIntensity;
+
+			numExtinguishedFires += (newIntensity - 1) >>> 31;
+		}
+
+		return numExtinguishedFires;
+	}
+}
@@ -1,6 +1,6 @@
 package firefighting.nature;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import firefighting.utils.Config;
 import firefighting.world.*;
@@ -26,6 +26,12 @@ public class WaterResource {
 	 */
 	private int waterCapacity;
 	
+	/**
+	 * The units of the Filling Station's water capacity currently reserved by aircraft agents,
+	 * which are on their way to refill there.
+	 */
+	private int reservedCapacity;
+	
 	// Constructors:
 	/**
 	 * Constructor #1 of the Filling Station.
@@ -34,10 +40,9 @@ public class WaterResource {
 	 * 
 	 * @param the Filling Station's ID
 	 * @param the Filling Station's World Object
+	 * @param random the random numbers' generator of the Filling Station's initial capacity
 	 */
-	public WaterResource(byte id, WorldObject worldObject) {
-		Random random = new Random();
-		
+	public WaterResource(byte id, WorldObject worldObject, SplittableRandom random) {
 		this.id = id;
 		this.worldObject = worldObject;
 		this.waterCapacity = random.nextInt(Config.WATER_RESOURCE_INITIAL_MAX_CAPACITY) + 1;
@@ -62,23 +67,78 @@ public class WaterResource {
 		return this.worldObject;
 	}
 	
-	public int getWaterCapacity() {
+	public synchronized int getWaterCapacity() {
 		return this.waterCapacity;
 	}
 	
-	public void decreasingCapacity(int decreaseValue) {
-		
-		if((this.waterCapacity - decreaseValue) < 0) {
-			this.waterCapacity = 0;
-		}
-		
-		this.waterCapacity -= decreaseValue;
+	public synchronized void decreasingCapacity(int decreaseValue) {
+		this.waterCapacity = Math.max(this.waterCapacity - decreaseValue, 0);
 	}
 
-	public void increasingCapacity(int increaseValue) {
+	public synchronized void increasingCapacity(int increaseValue) {
 		this.waterCapacity += increaseValue;
 	}
 	
+	/**
+	 * Returns the units of the Filling Station's water capacity currently reserved by aircraft agents.
+	 * 
+	 * @return the units of the Filling Station's water capacity currently reserved by aircraft agents
+	 */
+	public synchronized int getReservedCapacity() {
+		return this.reservedCapacity;
+	}
+	
+	/**
+	 * Returns the units of the Filling Station's water capacity not reserved by any aircraft agent
+	 * (the capacity can become smaller than the reserved units, during droughts).
+	 * 
+	 * @return the units of the Filling Station's water capacity not reserved by any aircraft agent
+	 */
+	public synchronized int getUnreservedCapacity() {
+		return Math.max(this.waterCapacity - this.reservedCapacity, 0);
+	}
+	
+	/**
+	 * Reserves, atomically, up to a given number of units of the Filling Station's unreserved water capacity.
+	 * 
+	 * @param units the number of units to reserve
+	 * 
+	 * @return the number of units actually reserved
+	 */
+	public synchronized int reserve(int units) {
+		int reservedUnits = Math.min(Math.max(units, 0), this.getUnreservedCapacity());
+		
+		this.reservedCapacity += reservedUnits;
+		
+		return reservedUnits;
+	}
+	
+	/**
+	 * Commits, atomically, up to a given number of previously reserved units, removing them
+	 * from the Filling Station's water capacity.
+	 * 
+	 * @param units the number of reserved units to commit
+	 * 
+	 * @return the number of units actually removed from the water capacity
+	 */
+	public synchronized int commit(int units) {
+		int committedUnits = Math.min(Math.min(Math.max(units, 0), this.reservedCapacity), this.waterCapacity);
+		
+		this.waterCapacity -= committedUnits;
+		this.reservedCapacity -= Math.min(Math.max(units, 0), this.reservedCapacity);
+		
+		return committedUnits;
+	}
+	
+	/**
+	 * Releases, atomically, up to a given number of previously reserved units, without using them.
+	 * 
+	 * @param units the number of reserved units to release
+	 */
+	public synchronized void release(int units) {
+		this.reservedCapacity -= Math.min(Math.max(units, 0), this.reservedCapacity);
+	}
+	
 	@Override
 	public String toString() {
 		return "W";
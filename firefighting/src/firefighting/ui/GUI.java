@@ -11,12 +11,11 @@ import javax.swing.SwingConstants;
 import javax.swing.border.LineBorder;
 
 import firefighting.aircraft.AircraftAgent;
-import firefighting.firestation.FireStationAgent;
-import firefighting.nature.Fire;
-import firefighting.nature.WaterResource;
 import firefighting.utils.AircraftMetricsStats;
 import firefighting.utils.Config;
 import firefighting.world.WorldAgent;
+import firefighting.world.utils.WorldGrid;
+import firefighting.world.utils.WorldObjectType;
 import java.awt.BorderLayout;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
@@ -107,6 +106,8 @@ public class GUI {
 	 */
 	private void gridInitialize(WorldAgent worldAgent, JPanel panel) {
 		grid= new JLabel[Config.GRID_WIDTH][Config.GRID_HEIGHT];
+		Object[][] worldMap = worldAgent.getWorldMap();
+		WorldGrid worldGrid = worldAgent.getWorldGrid();
 	    for (int i = 0; i < Config.GRID_HEIGHT; i++){
 	        for (int j = 0; j < Config.GRID_WIDTH; j++){
 	            grid[j][i] = new JLabel();
@@ -115,7 +116,7 @@ public class GUI {
 	            grid[j][i].setVerticalAlignment(SwingConstants.CENTER);
 	            grid[j][i].setOpaque(true);
 	            
-	            setCell(worldAgent.getWorldMap()[j][i], grid[j][i]);
+	            setCell(worldGrid.getType(j, i), worldMap[j][i], grid[j][i]);
 	            panel.add(grid[j][i]);
 	        }
 	    }
@@ -165,32 +166,33 @@ public class GUI {
 	
 	/**
 	 * Sets a given cell of the GUI grid
-	 * @param worldCell cell of the worldMap being processed
+	 * @param worldCellType type of the cell of the worldGrid being processed
+	 * @param worldCell cell of the worldMap being processed (only read for its label)
 	 * @param gridCell cell of the grid being processed
 	 */
-	private static void setCell(Object worldCell, JLabel gridCell) {
-		if (worldCell != null) {
+	private static void setCell(byte worldCellType, Object worldCell, JLabel gridCell) {
+		if (worldCellType != WorldGrid.EMPTY && worldCell != null) {
 			
 			gridCell.setText(worldCell.toString());
         	gridCell.setHorizontalTextPosition(JLabel.CENTER);
     		gridCell.setVerticalTextPosition(JLabel.BOTTOM);
     		
-        	if (worldCell instanceof Fire) {
+        	if (worldCellType == WorldObjectType.FIRE.getID()) {
         		gridCell.setBackground(Color.orange);
         		gridCell.setIcon(new ImageIcon("imgs/fire.png"));
         	}
       
-        	if (worldCell instanceof AircraftAgent) {
+        	if (worldCellType == WorldObjectType.AIRCRAFT.getID()) {
         		gridCell.setBackground(Color.green);
         		gridCell.setIcon(new ImageIcon("imgs/aircraft.png"));
         	}
         	
-        	if (worldCell instanceof WaterResource) {
+        	if (worldCellType == WorldObjectType.WATER_RESOURCE.getID()) {
         		gridCell.setBackground(Color.cyan);
         		gridCell.setIcon(new ImageIcon("imgs/water-resource.png"));
         	}
       
-        	if (worldCell instanceof FireStationAgent) {
+        	if (worldCellType == WorldObjectType.FIRE_STATION.getID()) {
         		gridCell.setBackground(Color.gray);
         		gridCell.setIcon(new ImageIcon("imgs/fire-station.png"));
         	}
@@ -206,10 +208,13 @@ public class GUI {
 	 * Called on tick to fill the grid with the updated positions of the objects
 	 */
 	public static void fillGrid() {
+		Object[][] worldMap = worldAgent.getWorldMap();
+		WorldGrid worldGrid = worldAgent.getWorldGrid();
+		
 		for (int i = 0; i < Config.GRID_HEIGHT; i++){
 	        for (int j = 0; j < Config.GRID_WIDTH; j++){
 	            grid[j][i].setOpaque(true);
-	            setCell(worldAgent.getWorldMap()[j][i], grid[j][i]);
+	            setCell(worldGrid.getType(j, i), worldMap[j][i], grid[j][i]);
 	        }
 	    }
 	}
@@ -28,6 +28,12 @@ public class AircraftMetricsStats {
 	
 	public int numTotalTravelsByThisAircraft;
 	
+	public int numTotalMissionsByThisAircraft;
+	
+	public int numTotalTravelCellsInMissionsByThisAircraft;
+	
+	public int numTotalRepositioningCellsByThisAircraft;
+	
 	
 	
 	// 2) Time metrics:
@@ -57,6 +63,26 @@ public class AircraftMetricsStats {
 	public int numTotalFireAlertMessagesReceivedByThisAircraft;
 	
 	
+	
+	// 4) Latency histograms (in milliseconds) metrics:
+	
+	private final LatencyHistogram cfpToProposalLatencyHistogram;
+	
+	private final LatencyHistogram proposalToAcceptLatencyHistogram;
+	
+	private final LatencyHistogram travelLatencyHistogram;
+	
+	private final LatencyHistogram waterRefillLatencyHistogram;
+	
+	private final LatencyHistogram extinguishFireLatencyHistogram;
+	
+	
+	
+	// 5) Pathfinding metrics:
+	
+	private final PathfindingMetricsStats pathfindingMetricsStats;
+	
+	
 	/**
 	 * 
 	 */
@@ -76,6 +102,12 @@ public class AircraftMetricsStats {
 		
 		this.numTotalTravelsByThisAircraft = 0;
 		
+		this.numTotalMissionsByThisAircraft = 0;
+		
+		this.numTotalTravelCellsInMissionsByThisAircraft = 0;
+		
+		this.numTotalRepositioningCellsByThisAircraft = 0;
+		
 		
 		
 		// 2) Time metrics:
@@ -103,6 +135,26 @@ public class AircraftMetricsStats {
 		this.numTotalMessagesSentByThisAircraft = 0;
 		
 		this.numTotalFireAlertMessagesReceivedByThisAircraft = 0;
+		
+		
+		
+		// 4) Latency histograms (in milliseconds) metrics:
+		
+		this.cfpToProposalLatencyHistogram = new LatencyHistogram();
+		
+		this.proposalToAcceptLatencyHistogram = new LatencyHistogram();
+		
+		this.travelLatencyHistogram = new LatencyHistogram();
+		
+		this.waterRefillLatencyHistogram = new LatencyHistogram();
+		
+		this.extinguishFireLatencyHistogram = new LatencyHistogram();
+		
+		
+		
+		// 5) Pathfinding metrics:
+		
+		this.pathfindingMetricsStats = new PathfindingMetricsStats();
 	}
 	
 	
@@ -159,6 +211,30 @@ public class AircraftMetricsStats {
 		this.numTotalTravelsByThisAircraft++;
 	}
 	
+	public int getNumTotalMissionsByThisAircraft() {
+		return this.numTotalMissionsByThisAircraft;
+	}
+	
+	public void incNumTotalMissionsByThisAircraft() {
+		this.numTotalMissionsByThisAircraft++;
+	}
+	
+	public int getNumTotalTravelCellsInMissionsByThisAircraft() {
+		return this.numTotalTravelCellsInMissionsByThisAircraft;
+	}
+	
+	public void incNumTotalTravelCellsInMissionsByThisAircraft(int numTravelCells) {
+		this.numTotalTravelCellsInMissionsByThisAircraft += numTravelCells;
+	}
+	
+	public int getNumTotalRepositioningCellsByThisAircraft() {
+		return this.numTotalRepositioningCellsByThisAircraft;
+	}
+	
+	public void incNumTotalRepositioningCellsByThisAircraft() {
+		this.numTotalRepositioningCellsByThisAircraft++;
+	}
+	
 	
 	
 	// 2) Time metrics:
@@ -180,7 +256,8 @@ public class AircraftMetricsStats {
 	public void incTotalTimeToExtinguishFiresByThisAircraft(long startTime) {
 		long extinguishFireTime = System.currentTimeMillis() - startTime;
 		
-		this.totalTimeToWaterRefillsByThisAircraft += extinguishFireTime;
+		this.totalTimeToExtinguishFiresByThisAircraft += extinguishFireTime;
+		this.extinguishFireLatencyHistogram.recordValue(extinguishFireTime);
 	}
 	
 	public long getTotalTimeToRefillsByThisAircraft() {
@@ -199,6 +276,7 @@ public class AircraftMetricsStats {
 		long waterRefillTime = System.currentTimeMillis() - startTime;
 		
 		this.totalTimeToWaterRefillsByThisAircraft += waterRefillTime;
+		this.waterRefillLatencyHistogram.recordValue(waterRefillTime);
 	}
 	
 	public long getTotalTimeToFuelRefillsByThisAircraft() {
@@ -209,6 +287,12 @@ public class AircraftMetricsStats {
 		this.totalTimeToFuelRefillsByThisAircraft++;
 	}
 	
+	public void incTotalTimeInFuelRefillsByThisAircraft(long startTime) {
+		long fuelRefillTime = System.currentTimeMillis() - startTime;
+		
+		this.totalTimeToFuelRefillsByThisAircraft += fuelRefillTime;
+	}
+	
 	public long getTotalTimeInTravelsByThisAircraft() {
 		return this.totalTimeInTravelsByThisAircraft;
 	}
@@ -216,7 +300,8 @@ public class AircraftMetricsStats {
 	public void incTotalTimeInTravelsByThisAircraft(long startTime) {
 		long travelTime = System.currentTimeMillis() - startTime;
 		
-		this.totalTimeInTravelsByThisAircraft += travelTime;	
+		this.totalTimeInTravelsByThisAircraft += travelTime;
+		this.travelLatencyHistogram.recordValue(travelTime);
 	}
 	
 	
@@ -247,6 +332,11 @@ public class AircraftMetricsStats {
 		return this.getTotalTimeInTravelsByThisAircraft() / this.getNumTotalTravelsByThisAircraft();
 	}
 	
+	public double getAverageTravelCellsPerMissionByThisAircraft() {
+		return this.getNumTotalMissionsByThisAircraft() == 0 ? 0.0 :
+			   (double) this.getNumTotalTravelCellsInMissionsByThisAircraft() / this.getNumTotalMissionsByThisAircraft();
+	}
+	
 	
 	
 	// 4) Messages exchanged (received/sent) metrics:
@@ -282,4 +372,44 @@ public class AircraftMetricsStats {
 	public void incNumTotalFireAlertMessagesReceivedByThisAircraft() {
 		this.numTotalFireAlertMessagesReceivedByThisAircraft++;
 	}
+	
+	
+	
+	// 5) Latency histograms (in milliseconds) metrics:
+	
+	public LatencyHistogram getCfpToProposalLatencyHistogram() {
+		return this.cfpToProposalLatencyHistogram;
+	}
+	
+	public void recordCfpToProposalTime(long startTime) {
+		this.cfpToProposalLatencyHistogram.recordElapsedTime(startTime);
+	}
+	
+	public LatencyHistogram getProposalToAcceptLatencyHistogram() {
+		return this.proposalToAcceptLatencyHistogram;
+	}
+	
+	public void recordProposalToAcceptTime(long startTime) {
+		this.proposalToAcceptLatencyHistogram.recordElapsedTime(startTime);
+	}
+	
+	public LatencyHistogram getTravelLatencyHistogram() {
+		return this.travelLatencyHistogram;
+	}
+	
+	public LatencyHistogram getWaterRefillLatencyHistogram() {
+		return this.waterRefillLatencyHistogram;
+	}
+	
+	public LatencyHistogram getExtinguishFireLatencyHistogram() {
+		return this.extinguishFireLatencyHistogram;
+	}
+	
+	
+	
+	// 6) Pathfinding metrics:
+	
+	public PathfindingMetricsStats getPathfindingMetricsStats() {
+		return this.pathfindingMetricsStats;
+	}
 }
\ No newline at end of file
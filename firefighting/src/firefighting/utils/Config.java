@@ -9,6 +9,8 @@
  */
 package firefighting.utils;
 
+import firefighting.world.utils.PathfindingMode;
+
 /**
  * Program configuration class with some predefined parameters/constants.
  */
@@ -45,14 +47,103 @@ public abstract class Config {
 	public final static int AIRCRAFT_MAX_WATER_TANK_CAPACITY = 6;
 	
 	/**
-	 * Defines the initial maximum fuel tank's capacity of an aircraft agent.
+	 * Defines the initial maximum fuel tank's capacity of an aircraft agent, in number of cells it can fly without wind
+	 * (twice the diagonal of the world's map/grid).
+	 */
+	public final static int AIRCRAFT_MAX_INITIAL_FUEL_TANK_CAPACITY = (int) Math.round((2 * (Math.sqrt( (GRID_WIDTH * GRID_WIDTH) + (GRID_HEIGHT * GRID_HEIGHT) ))));
+	
+	/**
+	 * Defines the final maximum fuel tank's capacity of an aircraft agent, in number of cells it can fly without wind.
+	 */
+	public final static int AIRCRAFT_MAX_FINAL_FUEL_TANK_CAPACITY = Math.max(GRID_WIDTH * GRID_HEIGHT, AIRCRAFT_MAX_INITIAL_FUEL_TANK_CAPACITY);
+	
+	/**
+	 * Defines the fuel consumed by an aircraft agent to fly over a cell, in environments that have no wind.
+	 */
+	public final static int AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_NO_WIND = 10;
+	
+	/**
+	 * Defines the fuel consumed by an aircraft agent to fly over a cell, in environments that have weak wind.
+	 */
+	public final static int AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_WEAK_WIND = 11;
+	
+	/**
+	 * Defines the fuel consumed by an aircraft agent to fly over a cell, in environments that have normal wind.
+	 */
+	public final static int AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_NORMAL_WIND = 13;
+	
+	/**
+	 * Defines the fuel consumed by an aircraft agent to fly over a cell, in environments that have strong wind.
+	 */
+	public final static int AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_STRONG_WIND = 16;
+	
+	/**
+	 * Defines the fuel refilled in the tank of an aircraft agent, per second, at the fire station.
+	 */
+	public final static int AIRCRAFT_FUEL_REFILL_PER_SECOND = 50;
+	
+	/**
+	 * Defines the maximum number of fires of the tour of a mission of an aircraft agent.
+	 */
+	public static int AIRCRAFT_TOUR_MAX_FIRES = 3;
+	
+	/**
+	 * Defines the maximum distance, in number of cells, from the fire of a CFP to the other fires of the same tour.
+	 */
+	public static int AIRCRAFT_TOUR_MAX_DISTANCE = 4;
+	
+	/**
+	 * Defines if the idle aircraft agents are repositioned toward the demand-weighted k-median positions of the fire heatmap.
+	 */
+	public static boolean AIRCRAFT_REPOSITIONING_ENABLED = true;
+	
+	/**
+	 * Defines the period, in milliseconds, of the computation of the repositioning targets of the idle aircraft agents.
+	 */
+	public static long AIRCRAFT_REPOSITIONING_PERIOD = 10000;
+	
+	/**
+	 * Defines the period, in milliseconds, of each cell moved by an idle aircraft agent toward its repositioning target.
 	 */
-	public final static int AIRCRAFT_MAX_INITIAL_FUEL_TANK_CAPACITY = (int) Math.round((2 * (Math.sqrt( (GRID_WIDTH ^ 2) + (GRID_HEIGHT ^ 2) ))));
+	public static long AIRCRAFT_REPOSITIONING_STEP_PERIOD = 2000;
 	
 	/**
-	 * Defines the final maximum fuel tank's capacity of an aircraft agent.
+	 * Defines the factor of decay of the fire heatmap, applied in each generation of fires.
 	 */
-	public final static int AIRCRAFT_MAX_FINAL_FUEL_TANK_CAPACITY = GRID_WIDTH * GRID_HEIGHT;
+	public static float FIRE_HEATMAP_DECAY_FACTOR = 0.95f;
+	
+	/**
+	 * Defines the duration, in milliseconds, of each time step of the space-time reservation table of the aircraft agents.
+	 */
+	public static long AIRCRAFT_RESERVATION_STEP_DURATION = 1000;
+	
+	/**
+	 * Defines the maximum number of time steps that an aircraft agent waits for the others in its cooperative routes,
+	 * and the number of time steps that the end of a route must be free, to stay there.
+	 */
+	public static int AIRCRAFT_RESERVATION_MAX_WAIT_STEPS = 10;
+	
+	/**
+	 * Defines the time, in milliseconds, that an aircraft agent takes to refill each unit of water in its tank.
+	 */
+	public final static long AIRCRAFT_WATER_REFILL_TIME_PER_UNIT = 1000;
+	
+	/**
+	 * Defines the time, in milliseconds, that an aircraft agent takes to drop each unit of water above a fire.
+	 */
+	public final static long AIRCRAFT_WATER_DROP_TIME_PER_UNIT = 1000;
+	
+	/**
+	 * Defines the reserve factor applied to the fuel needed by the missions of an aircraft agent,
+	 * to cover the detours of the paths and the changes of wind during the missions.
+	 */
+	public static double AIRCRAFT_FUEL_RESERVE_FACTOR = 1.25;
+	
+	/**
+	 * Defines the low-water watermark of an aircraft agent, as a fraction of the capacity of its water tank,
+	 * under which the water tank's quantity triggers a refill of the water tank.
+	 */
+	public static double AIRCRAFT_LOW_WATER_WATERMARK = 0.5;
 	
 	/**
 	 * Defines the maximum capacity of a water resource.
@@ -93,6 +184,11 @@ public abstract class Config {
 	 */
 	public final static int NUM_TYPE_WINDS = 4;
 	
+	/**
+	 * Defines the total number of directions of wind.
+	 */
+	public final static int NUM_WIND_DIRECTIONS = 4;
+	
 	/**
 	 * Defines the penalty time that will affect the movement time of all the aircraft agents,
 	 * in environments that have no wind.
@@ -122,6 +218,32 @@ public abstract class Config {
 	 */
 	public final static int DROUGHT_SITUATION_PENALTY = 6;
 	
+	/**
+	 * Defines if the weather conditions (rain, droughts and season changes) are simulated in the world.
+	 */
+	public static boolean WEATHER_CONDITIONS_ENABLED = false;
+	
+	/**
+	 * Defines the duration of each season, in milliseconds, when the weather conditions are simulated.
+	 */
+	public static long SEASON_DURATION = 120000;
+	
+	/**
+	 * Defines the duration of each weather epoch (with constant wind, rain frequency and rain amount), in milliseconds.
+	 */
+	public static long WEATHER_EPOCH_DURATION = 30000;
+	
+	/**
+	 * Defines the duration of the precomputed weather timeline of a simulation (run), in milliseconds,
+	 * after which the timeline starts again from its first epoch.
+	 */
+	public static long WEATHER_TIMELINE_DURATION = 3600000;
+	
+	/**
+	 * Defines the probability of the wind changing its type and direction from one weather epoch to the next one.
+	 */
+	public static double WEATHER_WIND_CHANGE_PROBABILITY = 0.25;
+	
 	/**
 	 * Defines the maximum initial intensity of a fire.
 	 */
@@ -144,4 +266,126 @@ public abstract class Config {
 	 * (30 seconds of timeout for each number of intensity increases)
 	 */
 	public final static int FIRE_ACTIVE_INTENSITY_MAX_PENALTY = 4;
+	
+	/**
+	 * Defines if the intensity of the fires active for more time than their current timeout is increased
+	 * (disabled by default, so the results of the batch runs stay comparable with the runs without it).
+	 */
+	public static boolean FIRE_ACTIVE_INTENSITY_INCREASE_ENABLED = false;
+	
+	/**
+	 * Defines the period, in milliseconds, of the checks of the fires active for more time than their current timeout.
+	 */
+	public static long FIRE_ACTIVE_INTENSITY_INCREASE_PERIOD = 1000;
+	
+	/**
+	 * Defines the probability, from the set [0, 1], of a burning cell igniting each one of its neighbour cells
+	 * (up, down, left and right) with fuel, on each fire spread step (0 keeps the fire spreading disabled).
+	 */
+	public static double FIRE_SPREAD_PROBABILITY = 0.1;
+	
+	/**
+	 * Defines the period, in milliseconds, of the fire spread steps.
+	 */
+	public static long FIRE_SPREAD_PERIOD = 10000;
+	
+	/**
+	 * Defines the factor that multiplies the probability of the fires spreading in spring season.
+	 */
+	public final static double FIRE_SPREAD_FACTOR_SPRING = 1.0;
+	
+	/**
+	 * Defines the factor that multiplies the probability of the fires spreading in summer season.
+	 */
+	public final static double FIRE_SPREAD_FACTOR_SUMMER = 1.5;
+	
+	/**
+	 * Defines the factor that multiplies the probability of the fires spreading in autumn season.
+	 */
+	public final static double FIRE_SPREAD_FACTOR_AUTUMN = 0.75;
+	
+	/**
+	 * Defines the factor that multiplies the probability of the fires spreading in winter season.
+	 */
+	public final static double FIRE_SPREAD_FACTOR_WINTER = 0.4;
+	
+	/**
+	 * Defines the factor of the wind's influence on the fires spreading, in environments that have no wind.
+	 */
+	public final static double FIRE_SPREAD_WIND_FACTOR_NO_WIND = 0.0;
+	
+	/**
+	 * Defines the factor of the wind's influence on the fires spreading, in environments that have weak wind.
+	 */
+	public final static double FIRE_SPREAD_WIND_FACTOR_WEAK_WIND = 0.5;
+	
+	/**
+	 * Defines the factor of the wind's influence on the fires spreading, in environments that have normal wind.
+	 */
+	public final static double FIRE_SPREAD_WIND_FACTOR_NORMAL_WIND = 1.5;
+	
+	/**
+	 * Defines the factor of the wind's influence on the fires spreading, in environments that have strong wind.
+	 */
+	public final static double FIRE_SPREAD_WIND_FACTOR_STRONG_WIND = 4.0;
+	
+	/**
+	 * Defines if the bytes allocated by each path search of the aircraft agents are measured
+	 * (only supported by some JVMs and with a small overhead on each path search).
+	 */
+	public static boolean PATHFINDING_TRACK_ALLOCATED_BYTES = false;
+	
+	/**
+	 * Defines the mode of the pathfinding of the aircraft agents, over the static obstacles of the world's map/grid
+	 * (with the BFS and the flow fields modes, the hierarchical pathfinder is used anyway in the large worlds).
+	 * The BFS mode is kept as the default, so the results of the batch runs stay comparable (the other modes are opt-in).
+	 */
+	public static PathfindingMode PATHFINDING_MODE = PathfindingMode.BFS;
+	
+	/**
+	 * Defines the maximum number of flow fields of the hot targets (the fires and the water resources) kept in the cache,
+	 * with the flow fields mode.
+	 */
+	public static int PATHFINDING_FLOW_FIELDS_CACHE_CAPACITY = 16;
+	
+	/**
+	 * Defines the maximum number of paths (searched over the static obstacles of the world's map/grid)
+	 * kept in the path cache shared by all the aircraft agents.
+	 */
+	public static int PATHFINDING_PATH_CACHE_CAPACITY = 1024;
+	
+	/**
+	 * Defines the minimum number of cells of the world's map/grid from which the paths are searched
+	 * by the hierarchical pathfinder (HPA*), instead of the BFS or the flow fields over the whole grid,
+	 * in the BFS and the flow fields modes.
+	 */
+	public static int PATHFINDING_HIERARCHICAL_MIN_CELLS = 10000;
+	
+	/**
+	 * Defines the size of the side of the clusters of the hierarchical pathfinder (HPA*).
+	 */
+	public static int PATHFINDING_CLUSTER_SIZE = 16;
+	
+	/**
+	 * Defines the radius, in number of cells, of the corridor around the refined path of the hierarchical pathfinder (HPA*),
+	 * to which the cooperative routing of the aircraft agents is confined in the large worlds.
+	 */
+	public static int PATHFINDING_CORRIDOR_RADIUS = 2;
+	
+	/**
+	 * Defines the localhost port of the embedded HTTP endpoint serving the metrics in the Prometheus format
+	 * (0 keeps the endpoint disabled).
+	 */
+	public static int METRICS_HTTP_PORT = 0;
+	
+	/**
+	 * Defines the period, in milliseconds, of the capture of the metrics snapshots served by the exporters.
+	 */
+	public static long METRICS_SNAPSHOT_PERIOD = 1000;
+	
+	/**
+	 * Defines the seed of the first simulation (run), from where the seeds of the following runs are derived
+	 * (0 uses a random seed; the seed of each run is recorded in the data's file).
+	 */
+	public static long SIMULATION_SEED = 0L;
 }
\ No newline at end of file
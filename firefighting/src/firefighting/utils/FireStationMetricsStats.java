@@ -0,0 +1,105 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils;
+
+/**
+ * Class with some statistics about the execution and behaviour of the fire station agent.
+ */
+public class FireStationMetricsStats {
+
+	// 1) Contract net rounds metrics:
+
+	private volatile int numTotalContractNetRoundsStarted;
+
+	private volatile int numTotalProposalsReceived;
+
+	private volatile int numTotalRefusesReceived;
+
+	private volatile int numTotalProposalsAccepted;
+
+	private volatile int numTotalFailuresReceived;
+
+	private volatile int numTotalInformsReceived;
+
+
+	/**
+	 *
+	 */
+	public FireStationMetricsStats() {
+
+		// 1) Contract net rounds metrics:
+
+		this.numTotalContractNetRoundsStarted = 0;
+
+		this.numTotalProposalsReceived = 0;
+
+		this.numTotalRefusesReceived = 0;
+
+		this.numTotalProposalsAccepted = 0;
+
+		this.numTotalFailuresReceived = 0;
+
+		this.numTotalInformsReceived = 0;
+	}
+
+
+
+	// Methods:
+
+	// 1) Contract net rounds metrics:
+
+	public int getNumTotalContractNetRoundsStarted() {
+		return this.numTotalContractNetRoundsStarted;
+	}
+
+	public void incNumTotalContractNetRoundsStarted() {
+		this.numTotalContractNetRoundsStarted++;
+	}
+
+	public int getNumTotalProposalsReceived() {
+		return this.numTotalProposalsReceived;
+	}
+
+	public void incNumTotalProposalsReceived() {
+		this.numTotalProposalsReceived++;
+	}
+
+	public int getNumTotalRefusesReceived() {
+		return this.numTotalRefusesReceived;
+	}
+
+	public void incNumTotalRefusesReceived() {
+		this.numTotalRefusesReceived++;
+	}
+
+	public int getNumTotalProposalsAccepted() {
+		return this.numTotalProposalsAccepted;
+	}
+
+	public void incNumTotalProposalsAccepted() {
+		this.numTotalProposalsAccepted++;
+	}
+
+	public int getNumTotalFailuresReceived() {
+		return this.numTotalFailuresReceived;
+	}
+
+	public void incNumTotalFailuresReceived() {
+		this.numTotalFailuresReceived++;
+	}
+
+	public int getNumTotalInformsReceived() {
+		return this.numTotalInformsReceived;
+	}
+
+	public void incNumTotalInformsReceived() {
+		this.numTotalInformsReceived++;
+	}
+}
@@ -13,10 +13,10 @@ package firefighting.utils;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.IOException;
-import java.util.Random;
 
 import firefighting.ui.GUI;
 import firefighting.ui.WelcomeScreen;
+import firefighting.utils.exporter.PrometheusExporter;
 import firefighting.world.*;
 import jade.core.Profile;
 import jade.core.ProfileImpl;
@@ -32,7 +32,6 @@ public class JADELauncher {
 	/* Manual or random configuration */
 	static boolean batch_run = true;
 	public static int NUMBER_OF_RUNS = 19;	
-	static Random random = new Random();
 
 	// GUI related stuff
 	static GUI gui;
@@ -46,6 +45,10 @@ public class JADELauncher {
 	public static void main(String[] args) throws ControllerException, IOException {
 		new Logger();
 		
+		if(Config.METRICS_HTTP_PORT > 0) {
+			PrometheusExporter.start(Config.METRICS_HTTP_PORT);
+		}
+		
 		gui = new GUI();
 		
 		if(batch_run) {
@@ -0,0 +1,278 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils;
+
+/**
+ * Class responsible for a log-bucketed (HDR style) histogram of latencies, in milliseconds.
+ *
+ * Values below the sub-bucket count are recorded exactly and every power of two above it
+ * is split in a fixed number of linear sub-buckets, keeping the relative error under ~3%.
+ * Recording a value never allocates and histograms of several aircrafts can be merged.
+ */
+public class LatencyHistogram {
+
+	// Constants:
+
+	/**
+	 * The number of bits used to resolve the values inside each power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 6;
+
+	/**
+	 * The number of sub-buckets recorded exactly, at the lowest magnitude.
+	 */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * The number of sub-buckets used by each power of two, above the lowest magnitude.
+	 */
+	private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+	/**
+	 * The highest value that can be tracked by the histogram (bigger values are clamped to it).
+	 */
+	public static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+
+	/**
+	 * The total number of buckets of the histogram.
+	 */
+	private static final int BUCKET_COUNT = bucketIndexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The counts of the recorded values, for each bucket.
+	 */
+	private final long[] counts;
+
+	/**
+	 * The total number of recorded values.
+	 */
+	private long totalCount;
+
+	/**
+	 * The sum of all the recorded values.
+	 */
+	private long totalSum;
+
+	/**
+	 * The minimum recorded value.
+	 */
+	private long minValue;
+
+	/**
+	 * The maximum recorded value.
+	 */
+	private long maxValue;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the latency histogram.
+	 *
+	 * Creates a new empty latency histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+
+		this.reset();
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the index of the bucket where a given value is recorded.
+	 *
+	 * @param value the value to be recorded
+	 *
+	 * @return the index of the bucket where a given value is recorded
+	 */
+	private static int bucketIndexOf(long value) {
+		if(value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+		int shift = magnitude - SUB_BUCKET_BITS + 1;
+		int mantissa = (int) (value >>> shift);
+
+		return SUB_BUCKET_COUNT + ((shift - 1) * SUB_BUCKET_HALF_COUNT) + (mantissa - SUB_BUCKET_HALF_COUNT);
+	}
+
+	/**
+	 * Returns the highest value that is recorded in a given bucket.
+	 *
+	 * @param bucketIndex the index of the bucket
+	 *
+	 * @return the highest value that is recorded in a given bucket
+	 */
+	private static long highestValueOf(int bucketIndex) {
+		if(bucketIndex < SUB_BUCKET_COUNT) {
+			return bucketIndex;
+		}
+
+		int offset = bucketIndex - SUB_BUCKET_COUNT;
+		int shift = (offset / SUB_BUCKET_HALF_COUNT) + 1;
+		long mantissa = (offset % SUB_BUCKET_HALF_COUNT) + SUB_BUCKET_HALF_COUNT;
+
+		return ((mantissa + 1) << shift) - 1;
+	}
+
+	/**
+	 * Records a new value (latency), in milliseconds.
+	 *
+	 * @param value the value (latency) to be recorded, in milliseconds
+	 */
+	public void recordValue(long value) {
+		if(value < 0) {
+			value = 0;
+		}
+		else if(value > HIGHEST_TRACKABLE_VALUE) {
+			value = HIGHEST_TRACKABLE_VALUE;
+		}
+
+		this.counts[bucketIndexOf(value)]++;
+
+		this.totalCount++;
+		this.totalSum += value;
+
+		if(value < this.minValue) {
+			this.minValue = value;
+		}
+
+		if(value > this.maxValue) {
+			this.maxValue = value;
+		}
+	}
+
+	/**
+	 * Records the time elapsed since a given start time, in milliseconds.
+	 *
+	 * @param startTime the start time, in milliseconds
+	 */
+	public void recordElapsedTime(long startTime) {
+		this.recordValue(System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * Adds (merges) all the values recorded by other latency histogram to this one.
+	 *
+	 * @param otherLatencyHistogram the other latency histogram to be merged
+	 */
+	public void add(LatencyHistogram otherLatencyHistogram) {
+		if(otherLatencyHistogram.getTotalCount() == 0) {
+			return;
+		}
+
+		for(int b = 0; b < BUCKET_COUNT; b++) {
+			this.counts[b] += otherLatencyHistogram.counts[b];
+		}
+
+		this.totalCount += otherLatencyHistogram.totalCount;
+		this.totalSum += otherLatencyHistogram.totalSum;
+
+		this.minValue = Math.min(this.minValue, otherLatencyHistogram.minValue);
+		this.maxValue = Math.max(this.maxValue, otherLatencyHistogram.maxValue);
+	}
+
+	/**
+	 * Resets the latency histogram, removing all the recorded values.
+	 */
+	public void reset() {
+		for(int b = 0; b < BUCKET_COUNT; b++) {
+			this.counts[b] = 0L;
+		}
+
+		this.totalCount = 0L;
+		this.totalSum = 0L;
+
+		this.minValue = Long.MAX_VALUE;
+		this.maxValue = 0L;
+	}
+
+	/**
+	 * Returns the total number of recorded values.
+	 *
+	 * @return the total number of recorded values
+	 */
+	public long getTotalCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * Returns the sum of all the recorded values, in milliseconds.
+	 *
+	 * @return the sum of all the recorded values, in milliseconds
+	 */
+	public long getTotalSum() {
+		return this.totalSum;
+	}
+
+	/**
+	 * Returns the minimum recorded value, in milliseconds.
+	 *
+	 * @return the minimum recorded value, in milliseconds
+	 */
+	public long getMinValue() {
+		return this.totalCount == 0 ? 0L : this.minValue;
+	}
+
+	/**
+	 * Returns the maximum recorded value, in milliseconds.
+	 *
+	 * @return the maximum recorded value, in milliseconds
+	 */
+	public long getMaxValue() {
+		return this.maxValue;
+	}
+
+	/**
+	 * Returns the mean of the recorded values, in milliseconds.
+	 *
+	 * @return the mean of the recorded values, in milliseconds
+	 */
+	public double getMean() {
+		return this.totalCount == 0 ? 0.0 : ((double) this.totalSum / this.totalCount);
+	}
+
+	/**
+	 * Returns the value at a given percentile (from the set [0, 100]), in milliseconds.
+	 *
+	 * @param percentile the percentile, from the set [0, 100]
+	 *
+	 * @return the value at a given percentile, in milliseconds
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if(this.totalCount == 0) {
+			return 0L;
+		}
+
+		double boundedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+		long countAtPercentile = Math.max(1L, (long) Math.ceil((boundedPercentile / 100.0) * this.totalCount));
+
+		long cumulativeCount = 0L;
+
+		for(int b = 0; b < BUCKET_COUNT; b++) {
+			cumulativeCount += this.counts[b];
+
+			if(cumulativeCount >= countAtPercentile) {
+				return Math.min(highestValueOf(b), this.maxValue);
+			}
+		}
+
+		return this.maxValue;
+	}
+}
@@ -6,40 +6,153 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Locale;
 
 public final class Logger {
 	static PrintWriter out;
 	static BufferedWriter bw;
+	static PrintWriter latencyOut;
+	static BufferedWriter latencyBw;
+	static PrintWriter pathfindingOut;
+	static BufferedWriter pathfindingBw;
 	boolean newFile = false;
 	
+	/**
+	 * The data's file, versioned since the seed and the mean travel cells columns were added,
+	 * so the rows of 8 columns are never appended to an older data's file with the header of 6 columns.
+	 */
+	static final String DATA_FILE_NAME = "data_v2.csv";
+	
 	Logger() {
-		File file = new File("data.csv");
+		File file = new File(DATA_FILE_NAME);
 		
 		if(!file.exists()) newFile = true;
 		
 		FileWriter fw;
 		try {
-			fw = new FileWriter("data.csv", true);
+			fw = new FileWriter(DATA_FILE_NAME, true);
 		    bw = new BufferedWriter(fw);
 		    out = new PrintWriter(bw);
 		    
 		    if(newFile) {
-		    	out.println("width,height,water_res,aircrafts,max_fires,time_extinguish");
+		    	out.println("width,height,water_res,aircrafts,max_fires,time_extinguish,seed,mean_travel_cells");
 		    }
 		    
 		} catch (IOException e1) {
 			// TODO Auto-generated catch block
 			e1.printStackTrace();
 		}
+		
+		openLatencyStream();
+		openPathfindingStream();
+	}
+	
+	/**
+	 * Opens the stream of the latency histograms' file, written next to the data's file.
+	 */
+	private static void openLatencyStream() {
+		File file = new File("latency.csv");
+		
+		boolean newLatencyFile = !file.exists();
+		
+		try {
+			FileWriter fw = new FileWriter("latency.csv", true);
+			latencyBw = new BufferedWriter(fw);
+			latencyOut = new PrintWriter(latencyBw);
+			
+			if(newLatencyFile) {
+				latencyOut.println("run,width,height,water_res,aircrafts,max_fires,phase,count,mean,p50,p90,p99,p999,max");
+			}
+			
+		} catch (IOException e1) {
+			e1.printStackTrace();
+		}
 	}
 	
-	public static void appendConfigValues(long time_extinguish) {
+	public static void appendConfigValues(long time_extinguish, long seed, double mean_travel_cells) {
     	out.println(Config.GRID_WIDTH + "," + Config.GRID_HEIGHT + "," + Config.NUM_MAX_WATER_RESOURCES +
-    			"," + Config.NUM_MAX_AIRCRAFTS + "," + Config.NUM_MAX_FIRES + "," + time_extinguish);
+    			"," + Config.NUM_MAX_AIRCRAFTS + "," + Config.NUM_MAX_FIRES + "," + time_extinguish + "," + seed +
+    			"," + String.format(Locale.ROOT, "%.2f", mean_travel_cells));
+	}
+	
+	/**
+	 * Opens the stream of the pathfinding metrics' file, written next to the data's file.
+	 */
+	private static void openPathfindingStream() {
+		File file = new File("pathfinding.csv");
+		
+		boolean newPathfindingFile = !file.exists();
+		
+		try {
+			FileWriter fw = new FileWriter("pathfinding.csv", true);
+			pathfindingBw = new BufferedWriter(fw);
+			pathfindingOut = new PrintWriter(pathfindingBw);
+			
+			if(newPathfindingFile) {
+				pathfindingOut.println("run,width,height,water_res,aircrafts,max_fires,searches,searches_without_path,nodes_expanded," +
+						"mean_nodes_expanded,max_frontier,mean_path_length,mean_search_time_us,mean_allocated_bytes,path_cache_hits,path_cache_misses");
+			}
+			
+		} catch (IOException e1) {
+			e1.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Appends the latency histograms of the current run, merged from all the aircrafts,
+	 * one line for each phase of the fire response.
+	 * 
+	 * @param run the number of the current run
+	 * @param worldMetricsStats the world's metrics stats, with the merged latency histograms
+	 */
+	public static void appendLatencyHistograms(int run, WorldMetricsStats worldMetricsStats) {
+		appendLatencyHistogram(run, "cfp_to_proposal", worldMetricsStats.getCfpToProposalLatencyHistogramOfAllAircrafts());
+		appendLatencyHistogram(run, "proposal_to_accept", worldMetricsStats.getProposalToAcceptLatencyHistogramOfAllAircrafts());
+		appendLatencyHistogram(run, "travel", worldMetricsStats.getTravelLatencyHistogramOfAllAircrafts());
+		appendLatencyHistogram(run, "water_refill", worldMetricsStats.getWaterRefillLatencyHistogramOfAllAircrafts());
+		appendLatencyHistogram(run, "extinguish", worldMetricsStats.getExtinguishFireLatencyHistogramOfAllAircrafts());
+		
+		latencyOut.flush();
+	}
+	
+	private static void appendLatencyHistogram(int run, String phase, LatencyHistogram latencyHistogram) {
+		latencyOut.println(run + "," + Config.GRID_WIDTH + "," + Config.GRID_HEIGHT + "," + Config.NUM_MAX_WATER_RESOURCES +
+				"," + Config.NUM_MAX_AIRCRAFTS + "," + Config.NUM_MAX_FIRES + "," + phase + "," + latencyHistogram.getTotalCount() +
+				"," + String.format(Locale.ROOT, "%.1f", latencyHistogram.getMean()) + "," + latencyHistogram.getValueAtPercentile(50.0) +
+				"," + latencyHistogram.getValueAtPercentile(90.0) + "," + latencyHistogram.getValueAtPercentile(99.0) +
+				"," + latencyHistogram.getValueAtPercentile(99.9) + "," + latencyHistogram.getMaxValue());
+	}
+	
+	/**
+	 * Appends the pathfinding metrics of the current run, merged from all the aircrafts.
+	 * 
+	 * @param run the number of the current run
+	 * @param worldMetricsStats the world's metrics stats, with the merged pathfinding metrics
+	 */
+	public static void appendPathfindingMetrics(int run, WorldMetricsStats worldMetricsStats) {
+		PathfindingMetricsStats pathfindingMetricsStats = worldMetricsStats.getPathfindingMetricsStatsOfAllAircrafts();
+		
+		pathfindingOut.println(run + "," + Config.GRID_WIDTH + "," + Config.GRID_HEIGHT + "," + Config.NUM_MAX_WATER_RESOURCES +
+				"," + Config.NUM_MAX_AIRCRAFTS + "," + Config.NUM_MAX_FIRES + "," + pathfindingMetricsStats.getNumTotalSearches() +
+				"," + pathfindingMetricsStats.getNumTotalSearchesWithoutPath() + "," + pathfindingMetricsStats.getNumTotalNodesExpanded() +
+				"," + String.format(Locale.ROOT, "%.1f", pathfindingMetricsStats.getAverageNodesExpandedPerSearch()) +
+				"," + pathfindingMetricsStats.getMaxFrontierSize() +
+				"," + String.format(Locale.ROOT, "%.1f", pathfindingMetricsStats.getAveragePathLengthPerSearch()) +
+				"," + String.format(Locale.ROOT, "%.1f", pathfindingMetricsStats.getAverageSearchTimeMicros()) +
+				"," + String.format(Locale.ROOT, "%.0f", pathfindingMetricsStats.getAverageAllocatedBytesPerSearch()) +
+				"," + pathfindingMetricsStats.getNumTotalPathCacheHits() + "," + pathfindingMetricsStats.getNumTotalPathCacheMisses());
+		
+		pathfindingOut.flush();
 	}
 	
 	public static void closeStream() throws IOException {
         out.close();
         bw.close();
+        
+        latencyOut.close();
+        latencyBw.close();
+        
+        pathfindingOut.close();
+        pathfindingBw.close();
 	}
 }
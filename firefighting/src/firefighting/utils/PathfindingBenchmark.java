@@ -0,0 +1,158 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils;
+
+import java.awt.Point;
+import java.util.SplittableRandom;
+
+import firefighting.world.utils.AStarPathfinder;
+import firefighting.world.utils.BreadthFirstSearchPathfinder;
+import firefighting.world.utils.GridPathfinder;
+import firefighting.world.utils.JumpPointSearchPathfinder;
+import firefighting.world.utils.OccupancyGrid;
+
+/**
+ * Class responsible for the benchmark of the pathfinding modes over sparse random maps (occupancy grids),
+ * comparing the nodes expanded and the time taken by the plain BFS, the A* and the Jump Point Search
+ * (4-connected and 8-connected) for the same queries.
+ *
+ * Usage: PathfindingBenchmark [size] [numQueries] [seed]
+ */
+public final class PathfindingBenchmark {
+
+	// Constants:
+
+	/**
+	 * The densities of the static obstacles of the sparse random maps.
+	 */
+	private static final double[] DENSITIES = { 0.01, 0.05, 0.10 };
+
+	/**
+	 * The names of the compared pathfinding modes.
+	 */
+	private static final String[] MODES = { "BFS", "A*", "JPS", "JPS (8-connected)" };
+
+
+
+	// Constructors:
+
+	private PathfindingBenchmark() {
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Runs the benchmark of the pathfinding modes.
+	 *
+	 * @param args the size of the side of the maps, the number of queries by map and the seed (all optional)
+	 */
+	public static void main(String[] args) {
+		int size = (args.length > 0) ? Integer.parseInt(args[0]) : 512;
+		int numQueries = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+		long seed = (args.length > 2) ? Long.parseLong(args[2]) : 42L;
+
+		System.out.printf("%d x %d map, %d queries by density, seed %d%n%n", size, size, numQueries, seed);
+		System.out.printf("%-8s %-18s %14s %14s %12s %12s%n", "Density", "Mode", "Avg. expanded", "Reduction", "Avg. length", "Avg. time");
+
+		for(double density : DENSITIES) {
+			run(size, density, numQueries, new SplittableRandom(seed));
+		}
+	}
+
+	/**
+	 * Runs the benchmark of the pathfinding modes in a random map of a given size and density of static obstacles.
+	 */
+	private static void run(int size, double density, int numQueries, SplittableRandom random) {
+		OccupancyGrid occupancyGrid = new OccupancyGrid(size, size);
+
+		for(int x = 0; x < size; x++) {
+			for(int y = 0; y < size; y++) {
+				occupancyGrid.setBlocked(x, y, random.nextDouble() < density);
+			}
+		}
+
+		BreadthFirstSearchPathfinder breadthFirstSearch = new BreadthFirstSearchPathfinder(occupancyGrid);
+
+		GridPathfinder[] pathfinders = {
+			breadthFirstSearch,
+			new AStarPathfinder(occupancyGrid),
+			new JumpPointSearchPathfinder(occupancyGrid, false),
+			new JumpPointSearchPathfinder(occupancyGrid, true)
+		};
+
+		long[] numNodesExpanded = new long[pathfinders.length];
+		long[] lengths = new long[pathfinders.length];
+		long[] timesNanos = new long[pathfinders.length];
+
+		int numReachable = 0;
+		int numSuboptimal = 0;
+
+		for(int query = 0; query < numQueries; query++) {
+			Point start = randomFreeCell(occupancyGrid, random);
+			Point goal = randomFreeCell(occupancyGrid, random);
+
+			int bfsDistance = breadthFirstSearch.getDistance(start, goal);
+
+			if(bfsDistance < 0) {
+				continue;
+			}
+
+			numReachable++;
+
+			for(int p = 0; p < pathfinders.length; p++) {
+				long startTimeNanos = System.nanoTime();
+				int length = pathfinders[p].findPath(start, goal).size();
+				timesNanos[p] += System.nanoTime() - startTimeNanos;
+
+				numNodesExpanded[p] += pathfinders[p].getLastNumNodesExpanded();
+				lengths[p] += length;
+
+				// The 4-connected modes must find the paths as short as the ones of the BFS
+				if(p > 0 && p < 3 && length != bfsDistance) {
+					numSuboptimal++;
+				}
+			}
+		}
+
+		if(numReachable == 0) {
+			return;
+		}
+
+		for(int p = 0; p < pathfinders.length; p++) {
+			double avgExpanded = (double) numNodesExpanded[p] / numReachable;
+			double reduction = 1.0 - ((double) numNodesExpanded[p] / numNodesExpanded[0]);
+
+			System.out.printf("%-8s %-18s %14.1f %13.1f%% %12.1f %10.3fms%n", String.format("%.0f%%", density * 100), MODES[p],
+							  avgExpanded, reduction * 100, (double) lengths[p] / numReachable, timesNanos[p] / 1e6 / numReachable);
+		}
+
+		if(numSuboptimal > 0) {
+			System.out.printf("WARNING: %d suboptimal paths of the 4-connected modes%n", numSuboptimal);
+		}
+
+		System.out.println();
+	}
+
+	/**
+	 * Returns a random free cell of a given occupancy grid.
+	 */
+	private static Point randomFreeCell(OccupancyGrid occupancyGrid, SplittableRandom random) {
+		while(true) {
+			int x = random.nextInt(occupancyGrid.getWidth());
+			int y = random.nextInt(occupancyGrid.getHeight());
+
+			if(!occupancyGrid.isBlocked(x, y)) {
+				return new Point(x, y);
+			}
+		}
+	}
+}
@@ -0,0 +1,268 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Class with some statistics about the cost of the path searches made by the aircraft agents.
+ */
+public class PathfindingMetricsStats {
+
+	// Constants:
+
+	/**
+	 * The thread MXBean used to measure the bytes allocated by a path search, if supported by the JVM.
+	 */
+	private static final com.sun.management.ThreadMXBean ALLOCATION_THREAD_MX_BEAN = allocationThreadMXBean();
+
+
+
+	// 1) Countable metrics:
+
+	private long numTotalSearches;
+
+	private long numTotalSearchesWithoutPath;
+
+	private long numTotalNodesExpanded;
+
+	private long totalPathLength;
+
+	private int maxFrontierSize;
+
+	private long numTotalPathCacheHits;
+
+	private long numTotalPathCacheMisses;
+
+
+
+	// 2) Time metrics:
+
+	private long totalSearchTimeNanos;
+
+
+
+	// 3) Allocation metrics:
+
+	private long totalAllocatedBytes;
+
+
+	/**
+	 *
+	 */
+	public PathfindingMetricsStats() {
+		this.reset();
+	}
+
+
+
+	// Methods:
+
+	private static com.sun.management.ThreadMXBean allocationThreadMXBean() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if(threadMXBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean allocationThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+			if(allocationThreadMXBean.isThreadAllocatedMemorySupported()) {
+				return allocationThreadMXBean;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the total number of bytes allocated by the current thread,
+	 * if the allocations' tracking is enabled and supported by the JVM, or 0, otherwise.
+	 *
+	 * @return the total number of bytes allocated by the current thread, or 0
+	 */
+	public static long currentThreadAllocatedBytes() {
+		if(!Config.PATHFINDING_TRACK_ALLOCATED_BYTES || ALLOCATION_THREAD_MX_BEAN == null) {
+			return 0L;
+		}
+
+		return ALLOCATION_THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Records a new path search.
+	 *
+	 * @param nodesExpanded the number of nodes expanded by the path search
+	 * @param frontierSize the peak size of the frontier (queue) of the path search
+	 * @param pathLength the length of the path found, or 0, if none was found
+	 * @param found true if the path search found a path (even an empty one, next to its goal) and false, otherwise
+	 * @param startTimeNanos the start time of the path search, in nanoseconds
+	 * @param startAllocatedBytes the bytes allocated by the current thread at the start of the path search
+	 */
+	public synchronized void recordSearch(int nodesExpanded, int frontierSize, int pathLength, boolean found, long startTimeNanos, long startAllocatedBytes) {
+		this.numTotalSearches++;
+
+		if(!found) {
+			this.numTotalSearchesWithoutPath++;
+		}
+
+		this.numTotalNodesExpanded += nodesExpanded;
+		this.totalPathLength += pathLength;
+
+		if(frontierSize > this.maxFrontierSize) {
+			this.maxFrontierSize = frontierSize;
+		}
+
+		this.totalSearchTimeNanos += System.nanoTime() - startTimeNanos;
+
+		if(startAllocatedBytes > 0L) {
+			this.totalAllocatedBytes += currentThreadAllocatedBytes() - startAllocatedBytes;
+		}
+	}
+
+	/**
+	 * Records a new lookup of the path cache shared by all the aircraft agents.
+	 *
+	 * @param hit true if the path was found in the path cache and false, otherwise
+	 */
+	public synchronized void recordPathCacheLookup(boolean hit) {
+		if(hit) {
+			this.numTotalPathCacheHits++;
+		}
+		else {
+			this.numTotalPathCacheMisses++;
+		}
+	}
+
+	/**
+	 * Adds (merges) all the path searches recorded by other pathfinding metrics stats to this one.
+	 *
+	 * @param otherPathfindingMetricsStats the other pathfinding metrics stats to be merged
+	 */
+	public synchronized void add(PathfindingMetricsStats otherPathfindingMetricsStats) {
+		synchronized(otherPathfindingMetricsStats) {
+			this.numTotalSearches += otherPathfindingMetricsStats.numTotalSearches;
+			this.numTotalSearchesWithoutPath += otherPathfindingMetricsStats.numTotalSearchesWithoutPath;
+			this.numTotalNodesExpanded += otherPathfindingMetricsStats.numTotalNodesExpanded;
+			this.totalPathLength += otherPathfindingMetricsStats.totalPathLength;
+			this.maxFrontierSize = Math.max(this.maxFrontierSize, otherPathfindingMetricsStats.maxFrontierSize);
+			this.numTotalPathCacheHits += otherPathfindingMetricsStats.numTotalPathCacheHits;
+			this.numTotalPathCacheMisses += otherPathfindingMetricsStats.numTotalPathCacheMisses;
+			this.totalSearchTimeNanos += otherPathfindingMetricsStats.totalSearchTimeNanos;
+			this.totalAllocatedBytes += otherPathfindingMetricsStats.totalAllocatedBytes;
+		}
+	}
+
+	/**
+	 * Resets the pathfinding metrics stats, removing all the recorded path searches.
+	 */
+	public synchronized void reset() {
+
+		// 1) Countable metrics:
+
+		this.numTotalSearches = 0L;
+
+		this.numTotalSearchesWithoutPath = 0L;
+
+		this.numTotalNodesExpanded = 0L;
+
+		this.totalPathLength = 0L;
+
+		this.maxFrontierSize = 0;
+
+		this.numTotalPathCacheHits = 0L;
+
+		this.numTotalPathCacheMisses = 0L;
+
+
+
+		// 2) Time metrics:
+
+		this.totalSearchTimeNanos = 0L;
+
+
+
+		// 3) Allocation metrics:
+
+		this.totalAllocatedBytes = 0L;
+	}
+
+
+
+	// 1) Countable metrics:
+
+	public synchronized long getNumTotalSearches() {
+		return this.numTotalSearches;
+	}
+
+	public synchronized long getNumTotalSearchesWithoutPath() {
+		return this.numTotalSearchesWithoutPath;
+	}
+
+	public synchronized long getNumTotalNodesExpanded() {
+		return this.numTotalNodesExpanded;
+	}
+
+	public synchronized long getTotalPathLength() {
+		return this.totalPathLength;
+	}
+
+	public synchronized int getMaxFrontierSize() {
+		return this.maxFrontierSize;
+	}
+
+	public synchronized long getNumTotalPathCacheHits() {
+		return this.numTotalPathCacheHits;
+	}
+
+	public synchronized long getNumTotalPathCacheMisses() {
+		return this.numTotalPathCacheMisses;
+	}
+
+
+
+	// 2) Time metrics:
+
+	public synchronized long getTotalSearchTimeNanos() {
+		return this.totalSearchTimeNanos;
+	}
+
+
+
+	// 3) Allocation metrics:
+
+	public synchronized long getTotalAllocatedBytes() {
+		return this.totalAllocatedBytes;
+	}
+
+
+
+	// 4) Average metrics:
+
+	public synchronized double getAverageNodesExpandedPerSearch() {
+		return this.numTotalSearches == 0 ? 0.0 : ((double) this.numTotalNodesExpanded / this.numTotalSearches);
+	}
+
+	public synchronized double getAveragePathLengthPerSearch() {
+		return this.numTotalSearches == 0 ? 0.0 : ((double) this.totalPathLength / this.numTotalSearches);
+	}
+
+	public synchronized double getAverageSearchTimeMicros() {
+		return this.numTotalSearches == 0 ? 0.0 : ((this.totalSearchTimeNanos / 1000.0) / this.numTotalSearches);
+	}
+
+	public synchronized double getPathCacheHitRatio() {
+		long numTotalPathCacheLookups = this.numTotalPathCacheHits + this.numTotalPathCacheMisses;
+
+		return numTotalPathCacheLookups == 0 ? 0.0 : ((double) this.numTotalPathCacheHits / numTotalPathCacheLookups);
+	}
+
+	public synchronized double getAverageAllocatedBytesPerSearch() {
+		return this.numTotalSearches == 0 ? 0.0 : ((double) this.totalAllocatedBytes / this.numTotalSearches);
+	}
+}
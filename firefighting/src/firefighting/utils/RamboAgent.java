@@ -1,7 +1,7 @@
 package firefighting.utils;
 
 import java.io.IOException;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Set;
 
 import firefighting.aircraft.AircraftAgent;
@@ -55,7 +55,27 @@ public class RamboAgent extends Agent {
 					
 					killContainer();
 					
-					Logger.appendConfigValues(execution_time);
+					AircraftMetricsStats[] aircraftsMetricsStats = new AircraftMetricsStats[aircrafts.length];
+					
+					long numTotalMissions = 0;
+					long numTotalTravelCellsInMissions = 0;
+					
+					for(int i = 0; i < aircrafts.length; i++) {
+						aircraftsMetricsStats[i] = aircrafts[i].getAircraftMetricsStats();
+						
+						numTotalMissions += aircraftsMetricsStats[i].getNumTotalMissionsByThisAircraft();
+						numTotalTravelCellsInMissions += aircraftsMetricsStats[i].getNumTotalTravelCellsInMissionsByThisAircraft();
+					}
+					
+					double meanTravelCells = (numTotalMissions == 0) ? 0.0 : ((double) numTotalTravelCellsInMissions / numTotalMissions);
+					
+					Logger.appendConfigValues(execution_time, SimulationRandom.getSeed(), meanTravelCells);
+					
+					worldAgent.getWorldMetricsStats().mergeLatencyHistogramsOfAllAircrafts(aircraftsMetricsStats);
+					Logger.appendLatencyHistograms(JADELauncher.NUMBER_OF_RUNS, worldAgent.getWorldMetricsStats());
+					
+					worldAgent.getWorldMetricsStats().mergePathfindingMetricsStatsOfAllAircrafts(aircraftsMetricsStats);
+					Logger.appendPathfindingMetrics(JADELauncher.NUMBER_OF_RUNS, worldAgent.getWorldMetricsStats());
 					
 					System.out.println("Run no. " + JADELauncher.NUMBER_OF_RUNS + " finished.");
 
@@ -70,6 +90,7 @@ public class RamboAgent extends Agent {
 					}
 					else {
 						JADELauncher.NUMBER_OF_RUNS--;
+						SimulationRandom.next();
 						instanceRun();
 					}
 				}				
@@ -82,14 +103,14 @@ public class RamboAgent extends Agent {
 	}
 
 	private void instanceRun() {
-		Random random = new Random();
+		SplittableRandom random = SimulationRandom.split("RamboAgent");
 		
 		do {
-			Config.GRID_HEIGHT = 5 + (int)(Math.random() * ((9 - 5) + 1));
-	        Config.GRID_WIDTH = 6 + (int)(Math.random() * ((10 - 6) + 1));
-	        Config.NUM_MAX_WATER_RESOURCES = 1 + (int)(Math.random() * ((5 - 1) + 1));
-	        Config.NUM_MAX_AIRCRAFTS = 3 + (int)(Math.random() * ((7 - 3) + 1));
-	        Config.NUM_MAX_FIRES = 6 + (int)(Math.random() * ((10 - 6) + 1));
+			Config.GRID_HEIGHT = random.nextInt(5, 9 + 1);
+	        Config.GRID_WIDTH = random.nextInt(6, 10 + 1);
+	        Config.NUM_MAX_WATER_RESOURCES = random.nextInt(1, 5 + 1);
+	        Config.NUM_MAX_AIRCRAFTS = random.nextInt(3, 7 + 1);
+	        Config.NUM_MAX_FIRES = random.nextInt(6, 10 + 1);
 		} while(Math.abs(Config.NUM_MAX_AIRCRAFTS - Config.NUM_MAX_FIRES) > 3);
 		
 		worldAgent = new WorldAgent();
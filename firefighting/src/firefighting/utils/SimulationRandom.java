@@ -0,0 +1,113 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class responsible for the seeded random numbers' generators of a simulation (run).
+ *
+ * Each run has a seed, from where every agent derives its own stream, by its name, and every behaviour
+ * splits its own stream from the one of its agent, when it's created. Since the streams of the agents
+ * don't depend on the order in which the agents are created or started, all the random choices of a run
+ * are reproduced from its seed (the timing of the agents' threads is still up to the JADE's scheduling).
+ */
+public final class SimulationRandom {
+
+	// Constants:
+
+	/**
+	 * The golden ratio's constant, used to mix the seeds of the streams.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The seed of the current simulation (run).
+	 */
+	private static long seed = initialSeed();
+
+
+
+	// Constructors:
+
+	private SimulationRandom() {
+	}
+
+
+
+	// Methods:
+
+	private static long initialSeed() {
+		return Config.SIMULATION_SEED != 0L ? Config.SIMULATION_SEED : mix64(System.nanoTime() ^ System.currentTimeMillis());
+	}
+
+	/**
+	 * Mixes the bits of a given value (the finalizer of the SplitMix64 generator).
+	 *
+	 * @param value the value to be mixed
+	 *
+	 * @return the mixed value
+	 */
+	private static long mix64(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * Returns the seed of the current simulation (run).
+	 *
+	 * @return the seed of the current simulation (run)
+	 */
+	public static synchronized long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Starts a new simulation (run) with a given seed.
+	 *
+	 * @param newSeed the seed of the new simulation (run)
+	 */
+	public static synchronized void init(long newSeed) {
+		seed = newSeed;
+	}
+
+	/**
+	 * Starts the next simulation (run), with a seed derived from the seed of the current one,
+	 * so a batch of runs is reproduced from the seed of its first run.
+	 *
+	 * @return the seed of the next simulation (run)
+	 */
+	public static synchronized long next() {
+		seed = mix64(seed + GOLDEN_GAMMA);
+
+		return seed;
+	}
+
+	/**
+	 * Returns a new stream of random numbers for a given agent (or other element) of the current simulation (run),
+	 * derived from the seed of the simulation and from the agent's name.
+	 *
+	 * The returned stream isn't thread-safe and must be used only by the agent
+	 * (the behaviours of the agent should split their own streams from it).
+	 *
+	 * @param name the name of the agent (or other element)
+	 *
+	 * @return a new stream of random numbers for a given agent of the current simulation (run)
+	 */
+	public static synchronized SplittableRandom split(String name) {
+		return new SplittableRandom(mix64(seed + (GOLDEN_GAMMA * (name.hashCode() + 1L))));
+	}
+}
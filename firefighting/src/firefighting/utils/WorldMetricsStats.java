@@ -75,6 +75,8 @@ public class WorldMetricsStats {
 	// 6) Environment metrics:
 	
 	private int numFiresGenerated;
+	
+	private int numFiresSpread;
 		
 	private int numTotalOccurrenceRains;
 			
@@ -106,6 +108,26 @@ public class WorldMetricsStats {
 	
 	
 	
+	// 8) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+	
+	private final LatencyHistogram cfpToProposalLatencyHistogramOfAllAircrafts;
+	
+	private final LatencyHistogram proposalToAcceptLatencyHistogramOfAllAircrafts;
+	
+	private final LatencyHistogram travelLatencyHistogramOfAllAircrafts;
+	
+	private final LatencyHistogram waterRefillLatencyHistogramOfAllAircrafts;
+	
+	private final LatencyHistogram extinguishFireLatencyHistogramOfAllAircrafts;
+	
+	
+	
+	// 9) Pathfinding metrics, merged from all the aircrafts:
+	
+	private final PathfindingMetricsStats pathfindingMetricsStatsOfAllAircrafts;
+	
+	
+	
 	// Constructors:
 	/**
 	 * 
@@ -173,6 +195,8 @@ public class WorldMetricsStats {
 		// 6) Environment metrics:
 		
 		this.numFiresGenerated = 0;
+		
+		this.numFiresSpread = 0;
 	
 		this.numTotalOccurrenceRains = 0;
 		
@@ -201,6 +225,26 @@ public class WorldMetricsStats {
 		this.numWaterResourcesCapacityDecreasedByAircraftsWaterTankRefills = 0;
 		
 		this.numWaterResourcesCapacityDecreasedByDroughtSituationOccurences = 0;
+		
+		
+		
+		// 8) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+		
+		this.cfpToProposalLatencyHistogramOfAllAircrafts = new LatencyHistogram();
+		
+		this.proposalToAcceptLatencyHistogramOfAllAircrafts = new LatencyHistogram();
+		
+		this.travelLatencyHistogramOfAllAircrafts = new LatencyHistogram();
+		
+		this.waterRefillLatencyHistogramOfAllAircrafts = new LatencyHistogram();
+		
+		this.extinguishFireLatencyHistogramOfAllAircrafts = new LatencyHistogram();
+		
+		
+		
+		// 9) Pathfinding metrics, merged from all the aircrafts:
+		
+		this.pathfindingMetricsStatsOfAllAircrafts = new PathfindingMetricsStats();
 	}
 	
 	
@@ -377,6 +421,14 @@ public class WorldMetricsStats {
 		this.numFiresGenerated++;
 	}
 	
+	public int getNumFiresSpread() {
+		return this.numFiresSpread;
+	}
+	
+	public void incNumFiresSpread() {
+		this.numFiresSpread++;
+	}
+	
 	public int getNumTotalOccurrenceRains() {
 		return this.numTotalOccurrenceRains;
 	}
@@ -415,6 +467,11 @@ public class WorldMetricsStats {
 		this.numFiresIntensityIncreasedByTimeout++;
 	}
 	
+	public void incNumFiresIntensityIncreasedByTimeout(int numFires) {
+		this.numFiresIntensityIncreased += numFires;
+		this.numFiresIntensityIncreasedByTimeout += numFires;
+	}
+	
 	public int getNumFiresIntensityDecreased() {
 		return this.numFiresIntensityDecreased;
 	}
@@ -439,6 +496,11 @@ public class WorldMetricsStats {
 		this.numFiresIntensityDecreasedByRaining++;
 	}
 	
+	public void incNumFiresIntensityDecreasedByRaining(int numFires) {
+		this.numFiresIntensityDecreased += numFires;
+		this.numFiresIntensityDecreasedByRaining += numFires;
+	}
+	
 	public int getNumWaterResourcesCapacityIncreasedByRaining() {
 		return this.numWaterResourcesCapacityIncreasedByRaining;
 	}
@@ -446,6 +508,10 @@ public class WorldMetricsStats {
 	public void incNumWaterResourcesCapacityIncreasedByRaining() {
 		this.numWaterResourcesCapacityIncreasedByRaining++;
 	}
+	
+	public void incNumWaterResourcesCapacityIncreasedByRaining(int numWaterResources) {
+		this.numWaterResourcesCapacityIncreasedByRaining += numWaterResources;
+	}
 
 	public int getNumWaterResourcesCapacityDecreased() {
 		return this.numWaterResourcesCapacityDecreased;
@@ -470,8 +536,83 @@ public class WorldMetricsStats {
 	public void incNumWaterResourcesCapacityDecreasedByDroughtSituationOccurences() {
 		this.numWaterResourcesCapacityDecreasedByDroughtSituationOccurences++;
 	}
+	
+	public void incNumWaterResourcesCapacityDecreasedByDroughtSituationOccurences(int numWaterResources) {
+		this.numWaterResourcesCapacityDecreased += numWaterResources;
+		this.numWaterResourcesCapacityDecreasedByDroughtSituationOccurences += numWaterResources;
+	}
 
 	public void setNumTotalFiresExtinguishedByAllAircrafts(int numTotalFiresExtinguishedByAllAircrafts) {
 		this.numTotalFiresExtinguishedByAllAircrafts = numTotalFiresExtinguishedByAllAircrafts;
 	}
+	
+	
+	
+	// 8) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+	
+	public LatencyHistogram getCfpToProposalLatencyHistogramOfAllAircrafts() {
+		return this.cfpToProposalLatencyHistogramOfAllAircrafts;
+	}
+	
+	public LatencyHistogram getProposalToAcceptLatencyHistogramOfAllAircrafts() {
+		return this.proposalToAcceptLatencyHistogramOfAllAircrafts;
+	}
+	
+	public LatencyHistogram getTravelLatencyHistogramOfAllAircrafts() {
+		return this.travelLatencyHistogramOfAllAircrafts;
+	}
+	
+	public LatencyHistogram getWaterRefillLatencyHistogramOfAllAircrafts() {
+		return this.waterRefillLatencyHistogramOfAllAircrafts;
+	}
+	
+	public LatencyHistogram getExtinguishFireLatencyHistogramOfAllAircrafts() {
+		return this.extinguishFireLatencyHistogramOfAllAircrafts;
+	}
+	
+	/**
+	 * Merges the latency histograms of all the given aircrafts' metrics stats,
+	 * replacing the ones previously merged.
+	 * 
+	 * @param aircraftsMetricsStats the metrics stats of all the aircrafts
+	 */
+	public void mergeLatencyHistogramsOfAllAircrafts(AircraftMetricsStats[] aircraftsMetricsStats) {
+		this.cfpToProposalLatencyHistogramOfAllAircrafts.reset();
+		this.proposalToAcceptLatencyHistogramOfAllAircrafts.reset();
+		this.travelLatencyHistogramOfAllAircrafts.reset();
+		this.waterRefillLatencyHistogramOfAllAircrafts.reset();
+		this.extinguishFireLatencyHistogramOfAllAircrafts.reset();
+		
+		for(int a = 0; a < aircraftsMetricsStats.length; a++) {
+			AircraftMetricsStats aircraftMetricsStats = aircraftsMetricsStats[a];
+			
+			this.cfpToProposalLatencyHistogramOfAllAircrafts.add(aircraftMetricsStats.getCfpToProposalLatencyHistogram());
+			this.proposalToAcceptLatencyHistogramOfAllAircrafts.add(aircraftMetricsStats.getProposalToAcceptLatencyHistogram());
+			this.travelLatencyHistogramOfAllAircrafts.add(aircraftMetricsStats.getTravelLatencyHistogram());
+			this.waterRefillLatencyHistogramOfAllAircrafts.add(aircraftMetricsStats.getWaterRefillLatencyHistogram());
+			this.extinguishFireLatencyHistogramOfAllAircrafts.add(aircraftMetricsStats.getExtinguishFireLatencyHistogram());
+		}
+	}
+	
+	
+	
+	// 9) Pathfinding metrics, merged from all the aircrafts:
+	
+	public PathfindingMetricsStats getPathfindingMetricsStatsOfAllAircrafts() {
+		return this.pathfindingMetricsStatsOfAllAircrafts;
+	}
+	
+	/**
+	 * Merges the pathfinding metrics of all the given aircrafts' metrics stats,
+	 * replacing the ones previously merged.
+	 * 
+	 * @param aircraftsMetricsStats the metrics stats of all the aircrafts
+	 */
+	public void mergePathfindingMetricsStatsOfAllAircrafts(AircraftMetricsStats[] aircraftsMetricsStats) {
+		this.pathfindingMetricsStatsOfAllAircrafts.reset();
+		
+		for(int a = 0; a < aircraftsMetricsStats.length; a++) {
+			this.pathfindingMetricsStatsOfAllAircrafts.add(aircraftsMetricsStats[a].getPathfindingMetricsStats());
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a contract net round started by the fire station agent,
+ * from the call for proposals until all the responses are handled.
+ *
+ * Disabled by default, it can be enabled in a recording's settings (firefighting.ContractNetRound#enabled=true).
+ */
+@Name("firefighting.ContractNetRound")
+@Label("Contract Net Round")
+@Category({ "Firefighting", "Fire Station" })
+@Description("A contract net round, from the call for proposals until all the responses are handled")
+@Enabled(false)
+@StackTrace(false)
+public class ContractNetRoundEvent extends Event {
+
+	// Global Instance Variables:
+
+	@Label("Call For Proposals")
+	public String cfp;
+
+	@Label("Responses")
+	public int numResponses;
+
+	@Label("Proposals")
+	public int numProposals;
+
+	@Label("Best Proposal")
+	public int bestProposal;
+
+	@Label("Best Proposer")
+	public String bestProposer;
+}
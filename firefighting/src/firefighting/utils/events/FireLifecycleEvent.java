@@ -0,0 +1,86 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a step of the lifecycle of a fire (created, claimed or extinguished).
+ *
+ * Disabled by default, it can be enabled in a recording's settings (firefighting.FireLifecycle#enabled=true).
+ */
+@Name("firefighting.FireLifecycle")
+@Label("Fire Lifecycle")
+@Category({ "Firefighting", "Nature" })
+@Description("A step of the lifecycle of a fire (created, claimed or extinguished)")
+@Enabled(false)
+@StackTrace(false)
+public class FireLifecycleEvent extends Event {
+
+	// Constants:
+
+	public static final String CREATED = "created";
+
+	public static final String CLAIMED = "claimed";
+
+	public static final String EXTINGUISHED = "extinguished";
+
+
+
+	// Global Instance Variables:
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Position X")
+	public int posX;
+
+	@Label("Position Y")
+	public int posY;
+
+	@Label("Intensity")
+	public int intensity;
+
+	@Label("Aircraft")
+	public String aircraft;
+
+
+
+	// Methods:
+
+	/**
+	 * Commits a new event for a step of the lifecycle of a fire, if the event is enabled.
+	 *
+	 * @param phase the step of the lifecycle of the fire
+	 * @param posX the coordinate X of the fire
+	 * @param posY the coordinate Y of the fire
+	 * @param intensity the current intensity of the fire
+	 * @param aircraft the name of the aircraft agent involved, or null, if none
+	 */
+	public static void commit(String phase, int posX, int posY, int intensity, String aircraft) {
+		FireLifecycleEvent fireLifecycleEvent = new FireLifecycleEvent();
+
+		if(fireLifecycleEvent.shouldCommit()) {
+			fireLifecycleEvent.phase = phase;
+			fireLifecycleEvent.posX = posX;
+			fireLifecycleEvent.posY = posY;
+			fireLifecycleEvent.intensity = intensity;
+			fireLifecycleEvent.aircraft = aircraft;
+
+			fireLifecycleEvent.commit();
+		}
+	}
+}
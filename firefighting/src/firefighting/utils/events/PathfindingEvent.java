@@ -0,0 +1,57 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a path search made by an aircraft agent.
+ *
+ * Disabled by default, it can be enabled in a recording's settings (firefighting.Pathfinding#enabled=true).
+ */
+@Name("firefighting.Pathfinding")
+@Label("Pathfinding")
+@Category({ "Firefighting", "Aircraft" })
+@Description("A path search made by an aircraft agent")
+@Enabled(false)
+@StackTrace(false)
+public class PathfindingEvent extends Event {
+
+	// Global Instance Variables:
+
+	@Label("Search")
+	@Description("The kind of path search (pathToFire or pathToNearestWaterResource)")
+	public String search;
+
+	@Label("Aircraft")
+	public String aircraft;
+
+	@Label("Grid Width")
+	public int gridWidth;
+
+	@Label("Grid Height")
+	public int gridHeight;
+
+	@Label("Nodes Expanded")
+	public int nodesExpanded;
+
+	@Label("Path Length")
+	public int pathLength;
+
+	@Label("Found")
+	@Description("If the path search found a path (even an empty one, next to its goal)")
+	public boolean found;
+}
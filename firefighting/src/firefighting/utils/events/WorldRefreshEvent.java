@@ -0,0 +1,43 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a refresh tick of the world's map/grid positions.
+ *
+ * Disabled by default, it can be enabled in a recording's settings (firefighting.WorldRefresh#enabled=true).
+ */
+@Name("firefighting.WorldRefresh")
+@Label("World Refresh")
+@Category({ "Firefighting", "World" })
+@Description("A refresh tick of the positions in the world's map/grid")
+@Enabled(false)
+@StackTrace(false)
+public class WorldRefreshEvent extends Event {
+
+	// Global Instance Variables:
+
+	@Label("Grid Width")
+	public int gridWidth;
+
+	@Label("Grid Height")
+	public int gridHeight;
+
+	@Label("Active Fires")
+	public int numActiveFires;
+}
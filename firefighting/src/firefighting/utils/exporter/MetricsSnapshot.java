@@ -0,0 +1,282 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.exporter;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.firestation.FireStationAgent;
+import firefighting.utils.AircraftMetricsStats;
+import firefighting.utils.FireStationMetricsStats;
+import firefighting.utils.LatencyHistogram;
+import firefighting.utils.PathfindingMetricsStats;
+import firefighting.utils.WorldMetricsStats;
+import firefighting.world.WorldAgent;
+
+/**
+ * Class responsible for an immutable, pre-aggregated snapshot of the metrics of the world,
+ * the fire station and the aircrafts, captured on the world agent's thread,
+ * so the exporters never walk the agents' state by themselves.
+ */
+public final class MetricsSnapshot {
+
+	// Constants:
+
+	/**
+	 * The names of the phases of the fire response measured by the latency histograms.
+	 */
+	public static final String[] LATENCY_PHASES = { "cfp_to_proposal", "proposal_to_accept", "travel", "water_refill", "extinguish" };
+
+	/**
+	 * The quantiles of the latency histograms kept by the snapshot.
+	 */
+	public static final double[] LATENCY_QUANTILES = { 0.5, 0.9, 0.99 };
+
+
+
+	// Global Instance Variables:
+
+	// 1) World metrics:
+
+	final long timestamp;
+
+	final int numAircrafts;
+
+	final int numWaterResources;
+
+	final int numActiveFires;
+
+	final int numIdleAircrafts;
+
+	final int numFiresWaitingForAircrafts;
+
+	final int numFiresGenerated;
+
+	final int numFiresSpread;
+
+	final int numTotalFiresExtinguishedByAllAircrafts;
+
+
+
+	// 2) Fire station metrics:
+
+	final int numTotalContractNetRoundsStarted;
+
+	final int numTotalProposalsReceived;
+
+	final int numTotalRefusesReceived;
+
+	final int numTotalProposalsAccepted;
+
+	final int numTotalFailuresReceived;
+
+	final int numTotalInformsReceived;
+
+
+
+	// 3) Aircrafts metrics (one position for each aircraft):
+
+	final String[] aircraftNames;
+
+	final int[] aircraftWaterTankQuantities;
+
+	final int[] aircraftFuelTankQuantities;
+
+	final boolean[] aircraftsAttendingFire;
+
+	final boolean[] aircraftsAttendingWater;
+
+	final int[] aircraftNumTotalFiresAttended;
+
+	final int[] aircraftNumTotalFiresExtinguished;
+
+	final int[] aircraftNumTotalWaterRefills;
+
+	final int[] aircraftNumTotalFuelRefills;
+
+	final int[] aircraftNumTotalTravels;
+
+	final long[] aircraftTotalTimeInTravels;
+
+
+
+	// 4) Latency histograms (in milliseconds) metrics, merged from all the aircrafts (one position for each phase):
+
+	final long[] latencyCounts;
+
+	final long[] latencySums;
+
+	final long[][] latencyQuantileValues;
+
+	final long[] latencyMaxValues;
+
+
+
+	// 5) Pathfinding metrics, merged from all the aircrafts:
+
+	final long numTotalPathSearches;
+
+	final long numTotalPathSearchNodesExpanded;
+
+	final long totalPathSearchTimeNanos;
+
+	final long numTotalPathCacheHits;
+
+	final long numTotalPathCacheMisses;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the metrics snapshot.
+	 *
+	 * Captures the current metrics of a given world agent.
+	 *
+	 * @param worldAgent the world agent
+	 */
+	private MetricsSnapshot(WorldAgent worldAgent) {
+		this.timestamp = System.currentTimeMillis();
+
+		// 1) World metrics:
+
+		WorldMetricsStats worldMetricsStats = worldAgent.getWorldMetricsStats();
+
+		this.numAircrafts = worldAgent.getNumAircraftsAgents();
+		this.numWaterResources = worldAgent.getNumWaterResources();
+		this.numActiveFires = worldAgent.getCurrentNumFires();
+		this.numIdleAircrafts = worldAgent.getNumIdleAircraftAgents();
+		this.numFiresWaitingForAircrafts = worldAgent.getNumFiresWaitingForAircrafts();
+		this.numFiresGenerated = worldMetricsStats.getNumFiresGenerated();
+		this.numFiresSpread = worldMetricsStats.getNumFiresSpread();
+
+		// 2) Fire station metrics:
+
+		FireStationAgent fireStationAgent = worldAgent.getFireStationAgent();
+		FireStationMetricsStats fireStationMetricsStats = fireStationAgent.getFireStationMetricsStats();
+
+		this.numTotalContractNetRoundsStarted = fireStationMetricsStats.getNumTotalContractNetRoundsStarted();
+		this.numTotalProposalsReceived = fireStationMetricsStats.getNumTotalProposalsReceived();
+		this.numTotalRefusesReceived = fireStationMetricsStats.getNumTotalRefusesReceived();
+		this.numTotalProposalsAccepted = fireStationMetricsStats.getNumTotalProposalsAccepted();
+		this.numTotalFailuresReceived = fireStationMetricsStats.getNumTotalFailuresReceived();
+		this.numTotalInformsReceived = fireStationMetricsStats.getNumTotalInformsReceived();
+
+		// 3) Aircrafts metrics:
+
+		AircraftAgent[] aircraftAgents = worldAgent.getAircraftAgents();
+		int numAircraftAgents = aircraftAgents.length;
+
+		this.aircraftNames = new String[numAircraftAgents];
+		this.aircraftWaterTankQuantities = new int[numAircraftAgents];
+		this.aircraftFuelTankQuantities = new int[numAircraftAgents];
+		this.aircraftsAttendingFire = new boolean[numAircraftAgents];
+		this.aircraftsAttendingWater = new boolean[numAircraftAgents];
+		this.aircraftNumTotalFiresAttended = new int[numAircraftAgents];
+		this.aircraftNumTotalFiresExtinguished = new int[numAircraftAgents];
+		this.aircraftNumTotalWaterRefills = new int[numAircraftAgents];
+		this.aircraftNumTotalFuelRefills = new int[numAircraftAgents];
+		this.aircraftNumTotalTravels = new int[numAircraftAgents];
+		this.aircraftTotalTimeInTravels = new long[numAircraftAgents];
+
+		AircraftMetricsStats[] aircraftsMetricsStats = new AircraftMetricsStats[numAircraftAgents];
+
+		int numTotalFiresExtinguished = 0;
+
+		for(int a = 0; a < numAircraftAgents; a++) {
+			AircraftAgent aircraftAgent = aircraftAgents[a];
+			AircraftMetricsStats aircraftMetricsStats = aircraftAgent.getAircraftMetricsStats();
+
+			this.aircraftNames[a] = "AircraftAgent" + a;
+			this.aircraftWaterTankQuantities[a] = aircraftAgent.getWaterTankQuantity();
+			this.aircraftFuelTankQuantities[a] = aircraftAgent.getFuelTankQuantity();
+			this.aircraftsAttendingFire[a] = aircraftAgent.isAttendingFire();
+			this.aircraftsAttendingWater[a] = aircraftAgent.attendindWater;
+			this.aircraftNumTotalFiresAttended[a] = aircraftMetricsStats.getNumTotalFiresAttendedByThisAircraft();
+			this.aircraftNumTotalFiresExtinguished[a] = aircraftMetricsStats.getNumTotalFiresExtinguishedByThisAircraft();
+			this.aircraftNumTotalWaterRefills[a] = aircraftMetricsStats.getNumTotalWaterRefillsByThisAircraft();
+			this.aircraftNumTotalFuelRefills[a] = aircraftMetricsStats.getNumTotalFuelRefillsByThisAircraft();
+			this.aircraftNumTotalTravels[a] = aircraftMetricsStats.getNumTotalTravelsByThisAircraft();
+			this.aircraftTotalTimeInTravels[a] = aircraftMetricsStats.getTotalTimeInTravelsByThisAircraft();
+
+			numTotalFiresExtinguished += this.aircraftNumTotalFiresExtinguished[a];
+
+			aircraftsMetricsStats[a] = aircraftMetricsStats;
+		}
+
+		this.numTotalFiresExtinguishedByAllAircrafts = numTotalFiresExtinguished;
+
+		// 4) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+
+		// (merged into new histograms, so the world's merged metrics stats written at the end of the run are not touched)
+		WorldMetricsStats mergedMetricsStats = new WorldMetricsStats();
+
+		mergedMetricsStats.mergeLatencyHistogramsOfAllAircrafts(aircraftsMetricsStats);
+
+		LatencyHistogram[] latencyHistograms = {
+			mergedMetricsStats.getCfpToProposalLatencyHistogramOfAllAircrafts(),
+			mergedMetricsStats.getProposalToAcceptLatencyHistogramOfAllAircrafts(),
+			mergedMetricsStats.getTravelLatencyHistogramOfAllAircrafts(),
+			mergedMetricsStats.getWaterRefillLatencyHistogramOfAllAircrafts(),
+			mergedMetricsStats.getExtinguishFireLatencyHistogramOfAllAircrafts()
+		};
+
+		this.latencyCounts = new long[LATENCY_PHASES.length];
+		this.latencySums = new long[LATENCY_PHASES.length];
+		this.latencyQuantileValues = new long[LATENCY_PHASES.length][LATENCY_QUANTILES.length];
+		this.latencyMaxValues = new long[LATENCY_PHASES.length];
+
+		for(int p = 0; p < LATENCY_PHASES.length; p++) {
+			this.latencyCounts[p] = latencyHistograms[p].getTotalCount();
+			this.latencySums[p] = latencyHistograms[p].getTotalSum();
+			this.latencyMaxValues[p] = latencyHistograms[p].getMaxValue();
+
+			for(int q = 0; q < LATENCY_QUANTILES.length; q++) {
+				this.latencyQuantileValues[p][q] = latencyHistograms[p].getValueAtPercentile(LATENCY_QUANTILES[q] * 100.0);
+			}
+		}
+
+		// 5) Pathfinding metrics, merged from all the aircrafts:
+
+		mergedMetricsStats.mergePathfindingMetricsStatsOfAllAircrafts(aircraftsMetricsStats);
+
+		PathfindingMetricsStats pathfindingMetricsStats = mergedMetricsStats.getPathfindingMetricsStatsOfAllAircrafts();
+
+		this.numTotalPathSearches = pathfindingMetricsStats.getNumTotalSearches();
+		this.numTotalPathSearchNodesExpanded = pathfindingMetricsStats.getNumTotalNodesExpanded();
+		this.totalPathSearchTimeNanos = pathfindingMetricsStats.getTotalSearchTimeNanos();
+		this.numTotalPathCacheHits = pathfindingMetricsStats.getNumTotalPathCacheHits();
+		this.numTotalPathCacheMisses = pathfindingMetricsStats.getNumTotalPathCacheMisses();
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Captures a new snapshot of the current metrics of a given world agent.
+	 *
+	 * It should be called from the world agent's thread, periodically, and never by the exporters.
+	 *
+	 * @param worldAgent the world agent
+	 *
+	 * @return a new snapshot of the current metrics of the given world agent
+	 */
+	public static MetricsSnapshot capture(WorldAgent worldAgent) {
+		return new MetricsSnapshot(worldAgent);
+	}
+
+	/**
+	 * Returns the timestamp of the capture of the snapshot.
+	 *
+	 * @return the timestamp of the capture of the snapshot
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+}
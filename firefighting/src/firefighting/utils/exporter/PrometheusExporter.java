@@ -0,0 +1,286 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Class responsible for an optional embedded HTTP endpoint (bound to localhost only),
+ * serving the last published metrics snapshot in the Prometheus text exposition format.
+ *
+ * Scraping only renders the last snapshot published by the world agent,
+ * so it never walks the agents' state on the simulation threads.
+ */
+public final class PrometheusExporter {
+
+	// Constants:
+
+	/**
+	 * The path of the metrics' endpoint.
+	 */
+	public static final String METRICS_PATH = "/metrics";
+
+	/**
+	 * The content type of the Prometheus text exposition format.
+	 */
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The last metrics snapshot published.
+	 */
+	private static volatile MetricsSnapshot lastMetricsSnapshot;
+
+	/**
+	 * The embedded HTTP server, if it's started.
+	 */
+	private static HttpServer httpServer;
+
+
+
+	// Constructors:
+
+	private PrometheusExporter() {
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Starts the embedded HTTP endpoint, bound to localhost, in a given port, if it's not started yet.
+	 *
+	 * @param port the port of the embedded HTTP endpoint
+	 *
+	 * @throws IOException if the embedded HTTP endpoint can't be bound to the given port
+	 */
+	public static synchronized void start(int port) throws IOException {
+		if(httpServer != null) {
+			return;
+		}
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "prometheus-exporter");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		httpServer.createContext(METRICS_PATH, new MetricsHandler());
+		httpServer.setExecutor(executorService);
+		httpServer.start();
+	}
+
+	/**
+	 * Stops the embedded HTTP endpoint, if it's started.
+	 */
+	public static synchronized void stop() {
+		if(httpServer != null) {
+			httpServer.stop(0);
+			httpServer = null;
+		}
+	}
+
+	/**
+	 * Publishes a new metrics snapshot, replacing the previous one.
+	 *
+	 * @param metricsSnapshot the new metrics snapshot
+	 */
+	public static void publish(MetricsSnapshot metricsSnapshot) {
+		lastMetricsSnapshot = metricsSnapshot;
+	}
+
+	/**
+	 * Renders a given metrics snapshot in the Prometheus text exposition format.
+	 *
+	 * @param metricsSnapshot the metrics snapshot
+	 *
+	 * @return the metrics snapshot rendered in the Prometheus text exposition format
+	 */
+	public static String render(MetricsSnapshot metricsSnapshot) {
+		StringBuilder out = new StringBuilder(4096);
+
+		if(metricsSnapshot == null) {
+			return out.toString();
+		}
+
+		// 1) World metrics:
+
+		gauge(out, "firefighting_aircrafts", "Number of aircrafts in the world.", metricsSnapshot.numAircrafts);
+		gauge(out, "firefighting_water_resources", "Number of water resources in the world.", metricsSnapshot.numWaterResources);
+		gauge(out, "firefighting_active_fires", "Current number of active fires.", metricsSnapshot.numActiveFires);
+		gauge(out, "firefighting_idle_aircrafts", "Current number of aircrafts not attending any fire nor refilling water.", metricsSnapshot.numIdleAircrafts);
+		gauge(out, "firefighting_fires_waiting_for_aircrafts", "Current number of active fires not attended by any aircraft yet.", metricsSnapshot.numFiresWaitingForAircrafts);
+		counter(out, "firefighting_fires_generated_total", "Total number of fires generated.", metricsSnapshot.numFiresGenerated);
+		counter(out, "firefighting_fires_spread_total", "Total number of fires ignited by spreading from burning neighbour cells.", metricsSnapshot.numFiresSpread);
+		counter(out, "firefighting_fires_extinguished_total", "Total number of fires extinguished by all the aircrafts.", metricsSnapshot.numTotalFiresExtinguishedByAllAircrafts);
+
+		// 2) Fire station metrics:
+
+		counter(out, "firefighting_fire_station_contract_net_rounds_total", "Total number of contract net rounds started by the fire station.", metricsSnapshot.numTotalContractNetRoundsStarted);
+		counter(out, "firefighting_fire_station_proposals_received_total", "Total number of proposals received by the fire station.", metricsSnapshot.numTotalProposalsReceived);
+		counter(out, "firefighting_fire_station_refuses_received_total", "Total number of refuses received by the fire station.", metricsSnapshot.numTotalRefusesReceived);
+		counter(out, "firefighting_fire_station_proposals_accepted_total", "Total number of proposals accepted by the fire station.", metricsSnapshot.numTotalProposalsAccepted);
+		counter(out, "firefighting_fire_station_failures_received_total", "Total number of failures received by the fire station.", metricsSnapshot.numTotalFailuresReceived);
+		counter(out, "firefighting_fire_station_informs_received_total", "Total number of informs received by the fire station.", metricsSnapshot.numTotalInformsReceived);
+
+		// 3) Aircrafts metrics:
+
+		aircraftsGauge(out, "firefighting_aircraft_water_tank_quantity", "Current water tank's quantity of the aircraft.", metricsSnapshot, metricsSnapshot.aircraftWaterTankQuantities);
+		aircraftsGauge(out, "firefighting_aircraft_fuel_tank_quantity", "Current fuel tank's quantity of the aircraft.", metricsSnapshot, metricsSnapshot.aircraftFuelTankQuantities);
+		aircraftsGauge(out, "firefighting_aircraft_attending_fire", "1 if the aircraft is attending a fire, 0 otherwise.", metricsSnapshot, toInts(metricsSnapshot.aircraftsAttendingFire));
+		aircraftsGauge(out, "firefighting_aircraft_attending_water", "1 if the aircraft is refilling water, 0 otherwise.", metricsSnapshot, toInts(metricsSnapshot.aircraftsAttendingWater));
+		aircraftsCounter(out, "firefighting_aircraft_fires_attended_total", "Total number of fires attended by the aircraft.", metricsSnapshot, metricsSnapshot.aircraftNumTotalFiresAttended);
+		aircraftsCounter(out, "firefighting_aircraft_fires_extinguished_total", "Total number of fires extinguished by the aircraft.", metricsSnapshot, metricsSnapshot.aircraftNumTotalFiresExtinguished);
+		aircraftsCounter(out, "firefighting_aircraft_water_refills_total", "Total number of water refills of the aircraft.", metricsSnapshot, metricsSnapshot.aircraftNumTotalWaterRefills);
+		aircraftsCounter(out, "firefighting_aircraft_fuel_refills_total", "Total number of fuel refills of the aircraft.", metricsSnapshot, metricsSnapshot.aircraftNumTotalFuelRefills);
+		aircraftsCounter(out, "firefighting_aircraft_travels_total", "Total number of travels of the aircraft.", metricsSnapshot, metricsSnapshot.aircraftNumTotalTravels);
+
+		header(out, "firefighting_aircraft_travel_seconds_total", "Total time in travels of the aircraft.", "counter");
+
+		for(int a = 0; a < metricsSnapshot.aircraftNames.length; a++) {
+			out.append("firefighting_aircraft_travel_seconds_total{aircraft=\"").append(metricsSnapshot.aircraftNames[a]).append("\"} ")
+			   .append(seconds(metricsSnapshot.aircraftTotalTimeInTravels[a])).append('\n');
+		}
+
+		// 4) Latency histograms metrics, merged from all the aircrafts:
+
+		header(out, "firefighting_latency_seconds", "Latency of each phase of the fire response, merged from all the aircrafts.", "summary");
+
+		for(int p = 0; p < MetricsSnapshot.LATENCY_PHASES.length; p++) {
+			String phase = MetricsSnapshot.LATENCY_PHASES[p];
+
+			for(int q = 0; q < MetricsSnapshot.LATENCY_QUANTILES.length; q++) {
+				out.append("firefighting_latency_seconds{phase=\"").append(phase).append("\",quantile=\"")
+				   .append(MetricsSnapshot.LATENCY_QUANTILES[q]).append("\"} ")
+				   .append(seconds(metricsSnapshot.latencyQuantileValues[p][q])).append('\n');
+			}
+
+			out.append("firefighting_latency_seconds_sum{phase=\"").append(phase).append("\"} ").append(seconds(metricsSnapshot.latencySums[p])).append('\n');
+			out.append("firefighting_latency_seconds_count{phase=\"").append(phase).append("\"} ").append(metricsSnapshot.latencyCounts[p]).append('\n');
+		}
+
+		header(out, "firefighting_latency_max_seconds", "Maximum latency of each phase of the fire response, merged from all the aircrafts.", "gauge");
+
+		for(int p = 0; p < MetricsSnapshot.LATENCY_PHASES.length; p++) {
+			out.append("firefighting_latency_max_seconds{phase=\"").append(MetricsSnapshot.LATENCY_PHASES[p]).append("\"} ")
+			   .append(seconds(metricsSnapshot.latencyMaxValues[p])).append('\n');
+		}
+
+		// 5) Pathfinding metrics, merged from all the aircrafts:
+
+		counter(out, "firefighting_path_searches_total", "Total number of path searches made by all the aircrafts.", metricsSnapshot.numTotalPathSearches);
+		counter(out, "firefighting_path_search_nodes_expanded_total", "Total number of nodes expanded by the path searches of all the aircrafts.", metricsSnapshot.numTotalPathSearchNodesExpanded);
+
+		header(out, "firefighting_path_search_seconds_total", "Total time spent in the path searches of all the aircrafts.", "counter");
+		out.append("firefighting_path_search_seconds_total ").append(String.format(Locale.ROOT, "%.6f", metricsSnapshot.totalPathSearchTimeNanos / 1e9)).append('\n');
+
+		counter(out, "firefighting_path_cache_hits_total", "Total number of lookups of the shared path cache answered by a cached path.", metricsSnapshot.numTotalPathCacheHits);
+		counter(out, "firefighting_path_cache_misses_total", "Total number of lookups of the shared path cache without a cached path.", metricsSnapshot.numTotalPathCacheMisses);
+
+		// 6) Snapshot's metadata:
+
+		gauge(out, "firefighting_snapshot_timestamp_seconds", "Timestamp of the capture of the metrics snapshot.", metricsSnapshot.timestamp / 1000);
+
+		return out.toString();
+	}
+
+	private static void header(StringBuilder out, String name, String help, String type) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private static void gauge(StringBuilder out, String name, String help, long value) {
+		header(out, name, help, "gauge");
+		out.append(name).append(' ').append(value).append('\n');
+	}
+
+	private static void counter(StringBuilder out, String name, String help, long value) {
+		header(out, name, help, "counter");
+		out.append(name).append(' ').append(value).append('\n');
+	}
+
+	private static void aircraftsGauge(StringBuilder out, String name, String help, MetricsSnapshot metricsSnapshot, int[] values) {
+		header(out, name, help, "gauge");
+		aircraftsSamples(out, name, metricsSnapshot, values);
+	}
+
+	private static void aircraftsCounter(StringBuilder out, String name, String help, MetricsSnapshot metricsSnapshot, int[] values) {
+		header(out, name, help, "counter");
+		aircraftsSamples(out, name, metricsSnapshot, values);
+	}
+
+	private static void aircraftsSamples(StringBuilder out, String name, MetricsSnapshot metricsSnapshot, int[] values) {
+		for(int a = 0; a < values.length; a++) {
+			out.append(name).append("{aircraft=\"").append(metricsSnapshot.aircraftNames[a]).append("\"} ").append(values[a]).append('\n');
+		}
+	}
+
+	private static int[] toInts(boolean[] values) {
+		int[] ints = new int[values.length];
+
+		for(int i = 0; i < values.length; i++) {
+			ints[i] = values[i] ? 1 : 0;
+		}
+
+		return ints;
+	}
+
+	private static String seconds(long milliseconds) {
+		return String.format(Locale.ROOT, "%.3f", milliseconds / 1000.0);
+	}
+
+
+
+	// Inner classes:
+
+	/**
+	 * Class responsible for handling the HTTP requests to the metrics' endpoint.
+	 */
+	private static class MetricsHandler implements HttpHandler {
+
+		@Override
+		public void handle(HttpExchange httpExchange) throws IOException {
+			try {
+				if(!"GET".equals(httpExchange.getRequestMethod())) {
+					httpExchange.sendResponseHeaders(405, -1);
+					return;
+				}
+
+				byte[] body = render(lastMetricsSnapshot).getBytes(StandardCharsets.UTF_8);
+
+				httpExchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+				httpExchange.sendResponseHeaders(200, body.length);
+
+				OutputStream responseBody = httpExchange.getResponseBody();
+				responseBody.write(body);
+				responseBody.close();
+			}
+			finally {
+				httpExchange.close();
+			}
+		}
+	}
+}
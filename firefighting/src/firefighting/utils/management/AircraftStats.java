@@ -0,0 +1,184 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.utils.AircraftMetricsStats;
+
+/**
+ * Class responsible for exposing the live metrics of an aircraft agent, through JMX.
+ *
+ * The values are only read when requested by a management client,
+ * so nothing is added to the hot path of the aircraft agent.
+ */
+public class AircraftStats implements AircraftStatsMXBean {
+
+	// Global Instance Variables:
+
+	/**
+	 * The aircraft agent exposed.
+	 */
+	private final AircraftAgent aircraftAgent;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the aircraft's stats.
+	 *
+	 * @param aircraftAgent the aircraft agent exposed
+	 */
+	public AircraftStats(AircraftAgent aircraftAgent) {
+		this.aircraftAgent = aircraftAgent;
+	}
+
+
+
+	// Methods:
+
+	private AircraftMetricsStats getAircraftMetricsStats() {
+		return this.aircraftAgent.getAircraftMetricsStats();
+	}
+
+
+
+	// 1) Gauges:
+
+	@Override
+	public int getPosX() {
+		return this.aircraftAgent.getWorldObject().getPos().x;
+	}
+
+	@Override
+	public int getPosY() {
+		return this.aircraftAgent.getWorldObject().getPos().y;
+	}
+
+	@Override
+	public int getWaterTankQuantity() {
+		return this.aircraftAgent.getWaterTankQuantity();
+	}
+
+	@Override
+	public int getFuelTankQuantity() {
+		return this.aircraftAgent.getFuelTankQuantity();
+	}
+
+	@Override
+	public boolean isAttendingFire() {
+		return this.aircraftAgent.isAttendingFire();
+	}
+
+	@Override
+	public boolean isAttendingWater() {
+		return this.aircraftAgent.attendindWater;
+	}
+
+	@Override
+	public boolean isAttendingFuel() {
+		return this.aircraftAgent.attendindFuel;
+	}
+
+	@Override
+	public boolean isCrashed() {
+		return this.aircraftAgent.isCrashed();
+	}
+
+
+
+	// 2) Countable metrics:
+
+	@Override
+	public int getNumTotalFiresAttended() {
+		return this.getAircraftMetricsStats().getNumTotalFiresAttendedByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalFiresExtinguished() {
+		return this.getAircraftMetricsStats().getNumTotalFiresExtinguishedByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalWaterRefills() {
+		return this.getAircraftMetricsStats().getNumTotalWaterRefillsByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalFuelRefills() {
+		return this.getAircraftMetricsStats().getNumTotalFuelRefillsByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalTravels() {
+		return this.getAircraftMetricsStats().getNumTotalTravelsByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalFireAlertMessagesReceived() {
+		return this.getAircraftMetricsStats().getNumTotalFireAlertMessagesReceivedByThisAircraft();
+	}
+
+	@Override
+	public int getNumTotalMessagesSent() {
+		return this.getAircraftMetricsStats().getNumTotalMessagesSentByThisAircraft();
+	}
+
+
+
+	// 3) Time metrics (in milliseconds):
+
+	@Override
+	public long getTotalTimeToAttendFires() {
+		return this.getAircraftMetricsStats().getTotalTimeToAttendFiresByThisAircraft();
+	}
+
+	@Override
+	public long getTotalTimeToExtinguishFires() {
+		return this.getAircraftMetricsStats().getTotalTimeToExtinguishFiresByThisAircraft();
+	}
+
+	@Override
+	public long getTotalTimeToWaterRefills() {
+		return this.getAircraftMetricsStats().getTotalTimeToWaterRefillsByThisAircraft();
+	}
+
+	@Override
+	public long getTotalTimeToFuelRefills() {
+		return this.getAircraftMetricsStats().getTotalTimeToFuelRefillsByThisAircraft();
+	}
+
+	@Override
+	public long getTotalTimeInTravels() {
+		return this.getAircraftMetricsStats().getTotalTimeInTravelsByThisAircraft();
+	}
+
+
+
+	// 4) Latency histograms (in milliseconds) metrics:
+
+	@Override
+	public Map<String, Long> getLatencyPercentiles() {
+		AircraftMetricsStats aircraftMetricsStats = this.getAircraftMetricsStats();
+
+		Map<String, Long> latencyPercentiles = new TreeMap<String, Long>();
+
+		LatencyPercentiles.put(latencyPercentiles, "cfp_to_proposal", aircraftMetricsStats.getCfpToProposalLatencyHistogram());
+		LatencyPercentiles.put(latencyPercentiles, "proposal_to_accept", aircraftMetricsStats.getProposalToAcceptLatencyHistogram());
+		LatencyPercentiles.put(latencyPercentiles, "travel", aircraftMetricsStats.getTravelLatencyHistogram());
+		LatencyPercentiles.put(latencyPercentiles, "water_refill", aircraftMetricsStats.getWaterRefillLatencyHistogram());
+		LatencyPercentiles.put(latencyPercentiles, "extinguish", aircraftMetricsStats.getExtinguishFireLatencyHistogram());
+
+		return latencyPercentiles;
+	}
+}
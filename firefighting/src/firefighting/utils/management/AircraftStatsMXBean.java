@@ -0,0 +1,74 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.util.Map;
+
+/**
+ * Management interface with the live counters, gauges and latency percentiles of an aircraft.
+ */
+public interface AircraftStatsMXBean {
+
+	// 1) Gauges:
+
+	int getPosX();
+
+	int getPosY();
+
+	int getWaterTankQuantity();
+
+	int getFuelTankQuantity();
+
+	boolean isAttendingFire();
+
+	boolean isAttendingWater();
+
+	boolean isAttendingFuel();
+
+	boolean isCrashed();
+
+
+
+	// 2) Countable metrics:
+
+	int getNumTotalFiresAttended();
+
+	int getNumTotalFiresExtinguished();
+
+	int getNumTotalWaterRefills();
+
+	int getNumTotalFuelRefills();
+
+	int getNumTotalTravels();
+
+	int getNumTotalFireAlertMessagesReceived();
+
+	int getNumTotalMessagesSent();
+
+
+
+	// 3) Time metrics (in milliseconds):
+
+	long getTotalTimeToAttendFires();
+
+	long getTotalTimeToExtinguishFires();
+
+	long getTotalTimeToWaterRefills();
+
+	long getTotalTimeToFuelRefills();
+
+	long getTotalTimeInTravels();
+
+
+
+	// 4) Latency histograms (in milliseconds) metrics:
+
+	Map<String, Long> getLatencyPercentiles();
+}
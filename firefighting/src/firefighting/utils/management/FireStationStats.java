@@ -0,0 +1,95 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import firefighting.firestation.FireStationAgent;
+import firefighting.utils.FireStationMetricsStats;
+
+/**
+ * Class responsible for exposing the live metrics of the fire station agent, through JMX.
+ */
+public class FireStationStats implements FireStationStatsMXBean {
+
+	// Global Instance Variables:
+
+	/**
+	 * The fire station agent exposed.
+	 */
+	private final FireStationAgent fireStationAgent;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the fire station's stats.
+	 *
+	 * @param fireStationAgent the fire station agent exposed
+	 */
+	public FireStationStats(FireStationAgent fireStationAgent) {
+		this.fireStationAgent = fireStationAgent;
+	}
+
+
+
+	// Methods:
+
+	private FireStationMetricsStats getFireStationMetricsStats() {
+		return this.fireStationAgent.getFireStationMetricsStats();
+	}
+
+
+
+	// 1) Gauges:
+
+	@Override
+	public int getNumFiresWaitingForAircrafts() {
+		return this.fireStationAgent.getWorldAgent().getNumFiresWaitingForAircrafts();
+	}
+
+	@Override
+	public int getNumIdleAircrafts() {
+		return this.fireStationAgent.getWorldAgent().getNumIdleAircraftAgents();
+	}
+
+
+
+	// 2) Contract net rounds metrics:
+
+	@Override
+	public int getNumTotalContractNetRoundsStarted() {
+		return this.getFireStationMetricsStats().getNumTotalContractNetRoundsStarted();
+	}
+
+	@Override
+	public int getNumTotalProposalsReceived() {
+		return this.getFireStationMetricsStats().getNumTotalProposalsReceived();
+	}
+
+	@Override
+	public int getNumTotalRefusesReceived() {
+		return this.getFireStationMetricsStats().getNumTotalRefusesReceived();
+	}
+
+	@Override
+	public int getNumTotalProposalsAccepted() {
+		return this.getFireStationMetricsStats().getNumTotalProposalsAccepted();
+	}
+
+	@Override
+	public int getNumTotalFailuresReceived() {
+		return this.getFireStationMetricsStats().getNumTotalFailuresReceived();
+	}
+
+	@Override
+	public int getNumTotalInformsReceived() {
+		return this.getFireStationMetricsStats().getNumTotalInformsReceived();
+	}
+}
@@ -0,0 +1,38 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+/**
+ * Management interface with the live counters and gauges of the fire station.
+ */
+public interface FireStationStatsMXBean {
+
+	// 1) Gauges:
+
+	int getNumFiresWaitingForAircrafts();
+
+	int getNumIdleAircrafts();
+
+
+
+	// 2) Contract net rounds metrics:
+
+	int getNumTotalContractNetRoundsStarted();
+
+	int getNumTotalProposalsReceived();
+
+	int getNumTotalRefusesReceived();
+
+	int getNumTotalProposalsAccepted();
+
+	int getNumTotalFailuresReceived();
+
+	int getNumTotalInformsReceived();
+}
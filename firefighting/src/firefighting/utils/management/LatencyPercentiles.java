@@ -0,0 +1,45 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.util.Map;
+
+import firefighting.utils.LatencyHistogram;
+
+/**
+ * Class responsible for flattening latency histograms into percentiles' attributes.
+ */
+final class LatencyPercentiles {
+
+	// Constructors:
+
+	private LatencyPercentiles() {
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Puts the count, the 50th, 90th and 99th percentiles and the maximum value of a latency histogram,
+	 * in milliseconds, in a given map of attributes, with keys prefixed by the given phase.
+	 *
+	 * @param latencyPercentiles the map of attributes
+	 * @param phase the phase of the fire response measured by the latency histogram
+	 * @param latencyHistogram the latency histogram
+	 */
+	static void put(Map<String, Long> latencyPercentiles, String phase, LatencyHistogram latencyHistogram) {
+		latencyPercentiles.put(phase + ".count", latencyHistogram.getTotalCount());
+		latencyPercentiles.put(phase + ".p50", latencyHistogram.getValueAtPercentile(50.0));
+		latencyPercentiles.put(phase + ".p90", latencyHistogram.getValueAtPercentile(90.0));
+		latencyPercentiles.put(phase + ".p99", latencyHistogram.getValueAtPercentile(99.0));
+		latencyPercentiles.put(phase + ".max", latencyHistogram.getMaxValue());
+	}
+}
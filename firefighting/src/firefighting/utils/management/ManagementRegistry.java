@@ -0,0 +1,131 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.world.WorldAgent;
+
+/**
+ * Class responsible for registering the MBeans of the world, the fire station and the aircrafts
+ * in the platform MBean server, so they can be read with jconsole/jcmd, even on headless batch runs.
+ */
+public final class ManagementRegistry {
+
+	// Constants:
+
+	/**
+	 * The domain of all the registered MBeans.
+	 */
+	public static final String DOMAIN = "firefighting";
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The names of the MBeans registered for the current run.
+	 */
+	private static final List<ObjectName> registeredNames = new ArrayList<ObjectName>();
+
+	/**
+	 * The world agent whose MBeans are registered for the current run.
+	 */
+	private static WorldAgent registeredWorldAgent;
+
+
+
+	// Constructors:
+
+	private ManagementRegistry() {
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Registers the MBeans of the world, the fire station and each aircraft of a given world agent,
+	 * replacing the ones registered by a previous run.
+	 *
+	 * @param worldAgent the world agent
+	 */
+	public static synchronized void register(WorldAgent worldAgent) {
+		unregisterAll();
+
+		registeredWorldAgent = worldAgent;
+
+		registerMBean(new WorldStats(worldAgent), DOMAIN + ":type=World");
+		registerMBean(new FireStationStats(worldAgent.getFireStationAgent()), DOMAIN + ":type=FireStation");
+
+		AircraftAgent[] aircraftAgents = worldAgent.getAircraftAgents();
+
+		for(int a = 0; a < aircraftAgents.length; a++) {
+			registerMBean(new AircraftStats(aircraftAgents[a]), DOMAIN + ":type=Aircraft,name=AircraftAgent" + a);
+		}
+	}
+
+	/**
+	 * Unregisters the MBeans of a given world agent, if they were not replaced by the ones of a newer run yet.
+	 *
+	 * @param worldAgent the world agent
+	 */
+	public static synchronized void unregister(WorldAgent worldAgent) {
+		if(registeredWorldAgent == worldAgent) {
+			unregisterAll();
+		}
+	}
+
+	/**
+	 * Unregisters all the MBeans registered for the current run.
+	 */
+	public static synchronized void unregisterAll() {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		for(ObjectName objectName : registeredNames) {
+			try {
+				if(mBeanServer.isRegistered(objectName)) {
+					mBeanServer.unregisterMBean(objectName);
+				}
+			}
+			catch (JMException e) {
+				e.printStackTrace();
+			}
+		}
+
+		registeredNames.clear();
+		registeredWorldAgent = null;
+	}
+
+	private static void registerMBean(Object mBean, String name) {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			ObjectName objectName = new ObjectName(name);
+
+			if(mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+
+			mBeanServer.registerMBean(mBean, objectName);
+			registeredNames.add(objectName);
+		}
+		catch (JMException e) {
+			e.printStackTrace();
+		}
+	}
+}
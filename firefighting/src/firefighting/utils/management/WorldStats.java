@@ -0,0 +1,157 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.utils.AircraftMetricsStats;
+import firefighting.utils.LatencyHistogram;
+import firefighting.world.WorldAgent;
+
+/**
+ * Class responsible for exposing the live metrics of the world, through JMX.
+ *
+ * The counters of all the aircrafts are summed and their latency histograms are merged
+ * only when requested by a management client, so nothing is added to the hot path of the simulation.
+ */
+public class WorldStats implements WorldStatsMXBean {
+
+	// Global Instance Variables:
+
+	/**
+	 * The world agent exposed.
+	 */
+	private final WorldAgent worldAgent;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the world's stats.
+	 *
+	 * @param worldAgent the world agent exposed
+	 */
+	public WorldStats(WorldAgent worldAgent) {
+		this.worldAgent = worldAgent;
+	}
+
+
+
+	// Methods:
+
+	// 1) Global metrics:
+
+	@Override
+	public int getNumAircrafts() {
+		return this.worldAgent.getNumAircraftsAgents();
+	}
+
+	@Override
+	public int getNumWaterResources() {
+		return this.worldAgent.getNumWaterResources();
+	}
+
+
+
+	// 2) Gauges:
+
+	@Override
+	public int getNumActiveFires() {
+		return this.worldAgent.getCurrentNumFires();
+	}
+
+	@Override
+	public int getNumIdleAircrafts() {
+		return this.worldAgent.getNumIdleAircraftAgents();
+	}
+
+	@Override
+	public int getNumFiresWaitingForAircrafts() {
+		return this.worldAgent.getNumFiresWaitingForAircrafts();
+	}
+
+
+
+	// 3) Countable metrics:
+
+	@Override
+	public int getNumFiresGenerated() {
+		return this.worldAgent.getWorldMetricsStats().getNumFiresGenerated();
+	}
+
+	@Override
+	public int getNumTotalFiresExtinguishedByAllAircrafts() {
+		int numTotalFiresExtinguished = 0;
+
+		for(AircraftAgent aircraftAgent : this.worldAgent.getAircraftAgents()) {
+			numTotalFiresExtinguished += aircraftAgent.getAircraftMetricsStats().getNumTotalFiresExtinguishedByThisAircraft();
+		}
+
+		return numTotalFiresExtinguished;
+	}
+
+	@Override
+	public int getNumTotalWaterRefillsByAllAircrafts() {
+		int numTotalWaterRefills = 0;
+
+		for(AircraftAgent aircraftAgent : this.worldAgent.getAircraftAgents()) {
+			numTotalWaterRefills += aircraftAgent.getAircraftMetricsStats().getNumTotalWaterRefillsByThisAircraft();
+		}
+
+		return numTotalWaterRefills;
+	}
+
+	@Override
+	public int getNumTotalTravelsByAllAircrafts() {
+		int numTotalTravels = 0;
+
+		for(AircraftAgent aircraftAgent : this.worldAgent.getAircraftAgents()) {
+			numTotalTravels += aircraftAgent.getAircraftMetricsStats().getNumTotalTravelsByThisAircraft();
+		}
+
+		return numTotalTravels;
+	}
+
+
+
+	// 4) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+
+	@Override
+	public Map<String, Long> getLatencyPercentiles() {
+		LatencyHistogram cfpToProposalLatencyHistogram = new LatencyHistogram();
+		LatencyHistogram proposalToAcceptLatencyHistogram = new LatencyHistogram();
+		LatencyHistogram travelLatencyHistogram = new LatencyHistogram();
+		LatencyHistogram waterRefillLatencyHistogram = new LatencyHistogram();
+		LatencyHistogram extinguishFireLatencyHistogram = new LatencyHistogram();
+
+		for(AircraftAgent aircraftAgent : this.worldAgent.getAircraftAgents()) {
+			AircraftMetricsStats aircraftMetricsStats = aircraftAgent.getAircraftMetricsStats();
+
+			cfpToProposalLatencyHistogram.add(aircraftMetricsStats.getCfpToProposalLatencyHistogram());
+			proposalToAcceptLatencyHistogram.add(aircraftMetricsStats.getProposalToAcceptLatencyHistogram());
+			travelLatencyHistogram.add(aircraftMetricsStats.getTravelLatencyHistogram());
+			waterRefillLatencyHistogram.add(aircraftMetricsStats.getWaterRefillLatencyHistogram());
+			extinguishFireLatencyHistogram.add(aircraftMetricsStats.getExtinguishFireLatencyHistogram());
+		}
+
+		Map<String, Long> latencyPercentiles = new TreeMap<String, Long>();
+
+		LatencyPercentiles.put(latencyPercentiles, "cfp_to_proposal", cfpToProposalLatencyHistogram);
+		LatencyPercentiles.put(latencyPercentiles, "proposal_to_accept", proposalToAcceptLatencyHistogram);
+		LatencyPercentiles.put(latencyPercentiles, "travel", travelLatencyHistogram);
+		LatencyPercentiles.put(latencyPercentiles, "water_refill", waterRefillLatencyHistogram);
+		LatencyPercentiles.put(latencyPercentiles, "extinguish", extinguishFireLatencyHistogram);
+
+		return latencyPercentiles;
+	}
+}
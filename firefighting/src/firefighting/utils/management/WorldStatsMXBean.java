@@ -0,0 +1,52 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.utils.management;
+
+import java.util.Map;
+
+/**
+ * Management interface with the live counters, gauges and latency percentiles of the world.
+ */
+public interface WorldStatsMXBean {
+
+	// 1) Global metrics:
+
+	int getNumAircrafts();
+
+	int getNumWaterResources();
+
+
+
+	// 2) Gauges:
+
+	int getNumActiveFires();
+
+	int getNumIdleAircrafts();
+
+	int getNumFiresWaitingForAircrafts();
+
+
+
+	// 3) Countable metrics:
+
+	int getNumFiresGenerated();
+
+	int getNumTotalFiresExtinguishedByAllAircrafts();
+
+	int getNumTotalWaterRefillsByAllAircrafts();
+
+	int getNumTotalTravelsByAllAircrafts();
+
+
+
+	// 4) Latency histograms (in milliseconds) metrics, merged from all the aircrafts:
+
+	Map<String, Long> getLatencyPercentiles();
+}
@@ -1,23 +1,48 @@
 package firefighting.world;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
 
 import firefighting.aircraft.AircraftAgent;
 import firefighting.firestation.FireStationAgent;
 import firefighting.nature.WaterResource;
 import firefighting.nature.Fire;
+import firefighting.nature.FireStore;
 import firefighting.utils.AircraftMetricsStats;
 import firefighting.utils.Config;
 import firefighting.utils.JADELauncher;
 import firefighting.utils.Logger;
+import firefighting.utils.SimulationRandom;
 import firefighting.utils.WorldMetricsStats;
+import firefighting.utils.events.WorldRefreshEvent;
+import firefighting.utils.management.ManagementRegistry;
 import firefighting.world.behaviours.GenerateFiresBehaviour;
 import firefighting.world.behaviours.IncreaseActiveFiresIntensityBehaviour;
+import firefighting.world.behaviours.PublishMetricsSnapshotBehaviour;
+import firefighting.world.behaviours.RepositionIdleAircraftsBehaviour;
+import firefighting.world.behaviours.SpreadFiresBehaviour;
 import firefighting.world.behaviours.UpdateStatusBehaviour;
 import firefighting.world.behaviours.WeatherConditionsBehaviour;
+import firefighting.world.utils.AStarPathfinder;
+import firefighting.world.utils.BreadthFirstSearchPathfinder;
+import firefighting.world.utils.FireHeatmap;
+import firefighting.world.utils.FireSpreadGrid;
+import firefighting.world.utils.FlowFieldPathfinder;
+import firefighting.world.utils.FreeCellSampler;
+import firefighting.world.utils.GridPathfinder;
+import firefighting.world.utils.HierarchicalPathfinder;
+import firefighting.world.utils.JumpPointSearchPathfinder;
+import firefighting.world.utils.OccupancyGrid;
+import firefighting.world.utils.PathCache;
+import firefighting.world.utils.PathfindingMode;
+import firefighting.world.utils.ReservationTable;
+import firefighting.world.utils.WorldGrid;
 import firefighting.world.utils.WorldObjectType;
 import firefighting.world.utils.environment.SeasonType;
+import firefighting.world.utils.environment.WeatherTimeline;
+import firefighting.world.utils.environment.WindDirection;
 import firefighting.world.utils.environment.WindType;
 
 import java.awt.Point;
@@ -41,38 +66,76 @@ import jade.wrapper.StaleProxyException;
 @SuppressWarnings("serial")
 public class WorldAgent extends Agent {
 	
-	// Constants:
+	// Global Instance Variables:
 	/**
-	 * The current season type from the set {Spring, Summer, Autumn and Winter}
+	 * The matrix of grid/map that represents all the positions of the world.
 	 */
-	private static SeasonType seasonType;	
+	private Object[][] worldMap;
 	
 	/**
-	 * The current wind type from the set {Very Windy, Windy and No Wind}
+	 * The flat and typed encoding of the world's map/grid (the type of the object of each cell
+	 * and its index in the array of its type), kept alongside the matrix of the world's objects.
 	 */
-	private static WindType windType;
+	private WorldGrid worldGrid;
 	
 	/**
-	 * The boolean value that keeps information that allows to know if can occur periodically,
-	 * in a rare way, droughts (extreme dry situations) - Can only occurs in summer season
+	 * The grid (cellular automaton) of the burning, fuel and burnt cells of the world, used to spread the fires.
 	 */
-	private static boolean droughtSituation;
+	private FireSpreadGrid fireSpreadGrid;
 	
 	/**
-	 * The float value that keeps the probability value of a drought (extreme dry situation) happens,
-	 * if it's possible and allowed
-	 * - [0%, 0%] probability interval,
-	 *   of drought (extreme dry situation) happen in spring, autumn and winter seasons
-	 * - a random [m%, n%] probability interval, from the set [0%, 100%],
-	 *   of drought (extreme dry situation) happen in summer season
+	 * The sampler of the free cells (without any fire station, water resource, aircraft or fire) of the world.
 	 */
-	private static float[] droughtSituationProbabilityInterval;
+	private FreeCellSampler freeCellSampler;
 	
-	// Global Instance Variables:
 	/**
-	 * The matrix of grid/map that represents all the positions of the world.
+	 * The decaying heatmap of the fires' occurrences of the world, used to pre-position the idle aircraft agents.
 	 */
-	private Object[][] worldMap;
+	private FireHeatmap fireHeatmap;
+	
+	/**
+	 * The space-time reservation table of the world, shared by all the aircraft agents to route without conflicts.
+	 */
+	private ReservationTable reservationTable;
+	
+	/**
+	 * The occupancy grid of the world, with its static obstacles (the fire station, the water resources and the fires).
+	 */
+	private OccupancyGrid occupancyGrid;
+	
+	/**
+	 * The pathfinder over the occupancy grid of the world, given by the pathfinding mode,
+	 * or null, if the paths are searched by the BFS of the aircraft agents.
+	 */
+	private GridPathfinder gridPathfinder;
+	
+	/**
+	 * The pathfinder of the static distances of the world, always 4-connected as the flights of the aircraft agents
+	 * (the pathfinder over the occupancy grid, the 4-connected JPS, in the JPS_DIAGONAL mode,
+	 * or, if the paths are searched by the BFS of the aircraft agents, a plain BFS over the occupancy grid).
+	 */
+	private GridPathfinder distancePathfinder;
+	
+	/**
+	 * The cache of the paths searched over the occupancy grid of the world, shared by all the aircraft agents.
+	 */
+	private PathCache pathCache;
+	
+	/**
+	 * The aircraft agents waiting for the unreserved water capacity of any water resource to increase
+	 * (all the water resources were depleted or reserved, the last time they tried to refill their water tanks).
+	 */
+	private final Set<AircraftAgent> waterCapacityWaiters = ConcurrentHashMap.newKeySet();
+	
+	/**
+	 * The precomputed timeline of the weather conditions (season, wind, rain and droughts) of the world.
+	 */
+	private WeatherTimeline weatherTimeline;
+	
+	/**
+	 * The instant of the start of the simulation, in milliseconds, from where the simulated time is measured.
+	 */
+	private long simulationStartTime;
 
 	// Fixed agents (without movement)
 	/**
@@ -96,7 +159,7 @@ public class WorldAgent extends Agent {
 	 * The current fires in the world.
 	 */
 	//private  Fire[] fires;
-	private ArrayList<Fire> fires;
+	private FireStore fireStore;
 	
 	/*
 	 * The number of water resources in the world.
@@ -117,6 +180,11 @@ public class WorldAgent extends Agent {
 	
 	private WorldMetricsStats worldMetricsStats;
 	
+	/**
+	 * The random numbers' generator of the world, from where its behaviours split their own generators.
+	 */
+	private SplittableRandom random;
+	
 	
 	//Constructors:
 	/**
@@ -127,7 +195,10 @@ public class WorldAgent extends Agent {
 		/* TODO: What's this line code doing?*/
 		this.actionListener = actionListener;
 		
+		this.random = SimulationRandom.split("WorldAgent");
+		
 		// Creation of world's elements
+		this.createWeatherTimeline();
 		this.createWorld();
 		this.createFireStationAgent();
 		this.generateWaterResources();
@@ -139,21 +210,48 @@ public class WorldAgent extends Agent {
 	
 	// Methods:
 	/**
-	 * Returns the season type influencing the world.
+	 * Returns the simulated time, in milliseconds, elapsed since the start of the simulation.
+	 * 
+	 * @return the simulated time, in milliseconds, elapsed since the start of the simulation
+	 */
+	public long getSimulationTime() {
+		return System.currentTimeMillis() - this.simulationStartTime;
+	}
+	
+	/**
+	 * Returns the precomputed timeline of the weather conditions of the world.
+	 * 
+	 * @return the precomputed timeline of the weather conditions of the world
+	 */
+	public WeatherTimeline getWeatherTimeline() {
+		return this.weatherTimeline;
+	}
+	
+	/**
+	 * Returns the season type currently influencing the world.
 	 * 
-	 * @return the season type influencing the world
+	 * @return the season type currently influencing the world
 	 */
 	public SeasonType getSeasonType() {
-		return WorldAgent.seasonType;
+		return this.weatherTimeline.getSeasonType(this.getSimulationTime());
 	}
 	
 	/**
-	 * Returns the wind type influencing the world.
+	 * Returns the wind type currently influencing the world.
 	 * 
-	 * @return the wind type influencing the world
+	 * @return the wind type currently influencing the world
 	 */
 	public WindType getWindType() {
-		return WorldAgent.windType;
+		return this.weatherTimeline.getWindType(this.getSimulationTime());
+	}
+	
+	/**
+	 * Returns the wind direction currently influencing the world.
+	 * 
+	 * @return the wind direction currently influencing the world
+	 */
+	public WindDirection getWindDirection() {
+		return this.weatherTimeline.getWindDirection(this.getSimulationTime());
 	}
 	
 	/**
@@ -164,7 +262,7 @@ public class WorldAgent extends Agent {
 	 * 		   in a rare way, droughts (extreme dry situations) - Can only occurs in summer season
 	 */
 	public boolean canOccurDroughtSituations() {
-		return WorldAgent.droughtSituation;
+		return this.getSeasonType().canOccurDroughts();
 	}
 	
 	/**
@@ -175,7 +273,7 @@ public class WorldAgent extends Agent {
 	 * 		   in a rare way, droughts (extreme dry situations) - Can only occurs in summer season
 	 */
 	public float[] getDroughtSituationProbabilityInterval() {
-		return WorldAgent.droughtSituationProbabilityInterval;
+		return this.weatherTimeline.getDroughtSituationProbabilityInterval(this.getSimulationTime());
 	}
 	
 	/**
@@ -202,7 +300,7 @@ public class WorldAgent extends Agent {
 	 * @return the current number of fires in the world
 	 */
 	public int getCurrentNumFires() {
-		return this.getCurrentFires().size();
+		return this.fireStore.size();
 	}
 	
 	/**
@@ -212,6 +310,43 @@ public class WorldAgent extends Agent {
 		this.currentNumFires--;
 	}
 	
+	/**
+	 * Returns the number of aircraft agents in the world that are idle,
+	 * i.e., not attending any fire nor refilling water, at the current moment.
+	 * 
+	 * @return the number of aircraft agents in the world that are idle
+	 */
+	public int getNumIdleAircraftAgents() {
+		int numIdleAircraftAgents = 0;
+		
+		for(int aa = 0; aa < this.aircraftAgents.length; aa++) {
+			if(!this.aircraftAgents[aa].attendindFire && !this.aircraftAgents[aa].attendindWater)
+				numIdleAircraftAgents++;
+		}
+		
+		return numIdleAircraftAgents;
+	}
+	
+	/**
+	 * Returns the number of active fires in the world that are not attended by any aircraft agent yet.
+	 * 
+	 * @return the number of active fires in the world that are not attended by any aircraft agent yet
+	 */
+	public int getNumFiresWaitingForAircrafts() {
+		ArrayList<Fire> fires = this.getCurrentFires();
+		
+		int numFiresWaitingForAircrafts = 0;
+		
+		for(int f = 0; f < fires.size(); f++) {
+			Fire fire = fires.get(f);
+			
+			if(fire != null && fire.isActive() && !fire.isAttended())
+				numFiresWaitingForAircrafts++;
+		}
+		
+		return numFiresWaitingForAircrafts;
+	}
+	
 	/**
 	 * Returns the fire station agent in the world.
 	 * 
@@ -230,6 +365,39 @@ public class WorldAgent extends Agent {
 		return this.waterResources;
 	}
 	
+	/**
+	 * Registers an aircraft agent as waiting for the unreserved water capacity of any water resource to increase.
+	 * 
+	 * @param aircraftAgent the aircraft agent waiting for the unreserved water capacity to increase
+	 */
+	public void waitForWaterCapacity(AircraftAgent aircraftAgent) {
+		this.waterCapacityWaiters.add(aircraftAgent);
+	}
+	
+	/**
+	 * Unregisters an aircraft agent as waiting for the unreserved water capacity of any water resource to increase.
+	 * 
+	 * @param aircraftAgent the aircraft agent not waiting for the unreserved water capacity to increase anymore
+	 */
+	public void stopWaitingForWaterCapacity(AircraftAgent aircraftAgent) {
+		this.waterCapacityWaiters.remove(aircraftAgent);
+	}
+	
+	/**
+	 * Notifies all the aircraft agents waiting for the unreserved water capacity of any water resource
+	 * that it increased (by the rain, or by a release of reserved water), so they retry their refills,
+	 * except a given aircraft agent (the one which released the water, which would only find it again).
+	 * 
+	 * @param notifier the aircraft agent which released the water, kept waiting, or null, if there's none
+	 */
+	public void notifyWaterCapacityIncreased(AircraftAgent notifier) {
+		for(AircraftAgent aircraftAgent : this.waterCapacityWaiters) {
+			if(aircraftAgent != notifier && this.waterCapacityWaiters.remove(aircraftAgent)) {
+				aircraftAgent.onWaterCapacityIncreased();
+			}
+		}
+	}
+	
 	/**
 	 * Returns all the aircraft agents in the world.
 	 * 
@@ -240,24 +408,156 @@ public class WorldAgent extends Agent {
 	}
 	
 	/**
-	 * Returns all the current fires in the world.
+	 * Returns a snapshot of all the current fires in the world (taken atomically from the fire store,
+	 * so it can be iterated while other agents add or remove fires).
 	 * 
-	 * @return all the current fires in the world
+	 * @return a snapshot of all the current fires in the world
 	 */
 	public ArrayList<Fire> getCurrentFires() {
-		return this.fires;
+		return this.fireStore.getFiresSnapshot();
+	}
+	
+	/**
+	 * Returns the store (structure of arrays) of the state of all the current fires in the world.
+	 * 
+	 * @return the store (structure of arrays) of the state of all the current fires in the world
+	 */
+	public FireStore getFireStore() {
+		return this.fireStore;
+	}
+	
+	/**
+	 * Returns the grid (cellular automaton) of the burning, fuel and burnt cells of the world.
+	 * 
+	 * @return the grid (cellular automaton) of the burning, fuel and burnt cells of the world
+	 */
+	public FireSpreadGrid getFireSpreadGrid() {
+		return this.fireSpreadGrid;
+	}
+	
+	/**
+	 * Returns the random numbers' generator of the world (only to be used by the world agent's thread).
+	 * 
+	 * @return the random numbers' generator of the world
+	 */
+	public SplittableRandom getRandom() {
+		return this.random;
+	}
+	
+	/**
+	 * Returns the sampler of the free cells of the world.
+	 * 
+	 * @return the sampler of the free cells of the world
+	 */
+	public FreeCellSampler getFreeCellSampler() {
+		return this.freeCellSampler;
+	}
+	
+	/**
+	 * Returns the heatmap of the fires' occurrences of the world.
+	 * 
+	 * @return the heatmap of the fires' occurrences of the world
+	 */
+	public FireHeatmap getFireHeatmap() {
+		return this.fireHeatmap;
+	}
+	
+	/**
+	 * Returns the space-time reservation table of the world.
+	 * 
+	 * @return the space-time reservation table of the world
+	 */
+	public ReservationTable getReservationTable() {
+		return this.reservationTable;
+	}
+	
+	/**
+	 * Returns the occupancy grid of the world, with its static obstacles.
+	 * 
+	 * @return the occupancy grid of the world, with its static obstacles
+	 */
+	public OccupancyGrid getOccupancyGrid() {
+		return this.occupancyGrid;
+	}
+	
+	/**
+	 * Returns the pathfinder over the occupancy grid of the world, given by Config.PATHFINDING_MODE,
+	 * or null, if the paths are searched by the BFS of the aircraft agents.
+	 * 
+	 * @return the pathfinder over the occupancy grid of the world, or null
+	 */
+	public GridPathfinder getGridPathfinder() {
+		return this.gridPathfinder;
+	}
+	
+	/**
+	 * Returns the pathfinder of the static distances of the world, over its occupancy grid, in 4-connected cells
+	 * (the pathfinder given by Config.PATHFINDING_MODE, the 4-connected JPS, in the JPS_DIAGONAL mode,
+	 * or, in the BFS mode, a plain BFS), never null.
+	 * 
+	 * @return the pathfinder of the static distances of the world
+	 */
+	public GridPathfinder getDistancePathfinder() {
+		return this.distancePathfinder;
+	}
+	
+	/**
+	 * Returns the cache of the paths searched over the occupancy grid of the world, shared by all the aircraft agents.
+	 * 
+	 * @return the cache of the paths searched over the occupancy grid of the world
+	 */
+	public PathCache getPathCache() {
+		return this.pathCache;
+	}
+	
+	/**
+	 * Returns the version of the obstacles' map of the world, increased by each change of its static obstacles
+	 * (the fire station, the water resources and the fires).
+	 * 
+	 * @return the version of the obstacles' map of the world
+	 */
+	public int getMapVersion() {
+		return this.occupancyGrid.getVersion();
+	}
+	
+	/**
+	 * Returns the current time step of the space-time reservation table of the world.
+	 * 
+	 * @return the current time step of the space-time reservation table of the world
+	 */
+	public int getCurrentReservationStep() {
+		return (int) (this.getSimulationTime() / Config.AIRCRAFT_RESERVATION_STEP_DURATION);
 	}
 	
 	
 	// Methods:
+	/**
+	 * Creates the timeline of the weather conditions of the world, precomputing its season type, wind type, wind direction,
+	 * rain and droughts (extreme dry situations) of the whole simulation, and starts the simulated time.
+	 */
+	public void createWeatherTimeline() {
+		this.weatherTimeline = new WeatherTimeline(this.random);
+		this.simulationStartTime = System.currentTimeMillis();
+	}
+	
 	/**
 	 * Creates the matrix/grid that represents all the positions of the world.
 	 */
 	public void createWorld() {
 		worldMap = new Object[Config.GRID_WIDTH][Config.GRID_HEIGHT];
+		worldGrid = new WorldGrid(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		fireSpreadGrid = new FireSpreadGrid(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		freeCellSampler = new FreeCellSampler(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		fireHeatmap = new FireHeatmap(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		reservationTable = new ReservationTable(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		
+		occupancyGrid = new OccupancyGrid(Config.GRID_WIDTH, Config.GRID_HEIGHT);
+		gridPathfinder = createGridPathfinder(occupancyGrid);
+		distancePathfinder = createDistancePathfinder(occupancyGrid, gridPathfinder);
+		pathCache = new PathCache(Config.GRID_HEIGHT, Config.PATHFINDING_PATH_CACHE_CAPACITY);
 
 		//fires = new Fire[Config.NUM_MAX_FIRES];
-		fires = new ArrayList<Fire>();
+		fireStore = new FireStore();
 		
 		numWaterResources = 0;
 		currentNumAircrafts = 0;
@@ -265,34 +565,19 @@ public class WorldAgent extends Agent {
 	}
 	
 	/**
-	 * Returns a random coordinate X or Y.
+	 * Returns a random free position in the matrix/grid that represents all the positions of the world,
+	 * chosen uniformly and in constant time, or null, if all the positions are occupied.
 	 * 
-	 * @param axisLimit the X or Y axis' limit
-	 * 
-	 * @return a random coordinate X or Y
-	 */
-	private  int generateRandomXOrY(int axisLimit) {
-		Random randomObject = new Random();
-		
-		return randomObject.nextInt(axisLimit) + 1;
-	}
-	
-	/**
-	 * Returns a random position in the matrix/grid that represents all the positions of the world.
-	 * 
-	 * @return a random position in the matrix/grid that represents all the positions of the world
+	 * @return a random free position in the matrix/grid that represents all the positions of the world, or null
 	 */
 	public  int[] generateRandomPos() {
-				
-		int posX = generateRandomXOrY(Config.GRID_WIDTH) - 1;
-		int posY = generateRandomXOrY(Config.GRID_HEIGHT) - 1;
+		int cell = this.freeCellSampler.sample(this.random);
 		
-    	while(worldMap[posX][posY] != null) {
-    		posX = generateRandomXOrY(Config.GRID_WIDTH) - 1;
-    		posY = generateRandomXOrY(Config.GRID_HEIGHT) - 1;
-    	}
+		if(cell < 0) {
+			return null;
+		}
     	
-    	int[] pos = {posX, posY};
+    	int[] pos = {this.freeCellSampler.getX(cell), this.freeCellSampler.getY(cell)};
     	
     	return pos;
 	}
@@ -307,6 +592,10 @@ public class WorldAgent extends Agent {
 		
 		this.fireStationAgent = new FireStationAgent(this, fireStationWorldObject);
 		this.worldMap[fireStationPos[0]][fireStationPos[1]] = this.fireStationAgent;
+		this.worldGrid.set(fireStationPos[0], fireStationPos[1], WorldObjectType.FIRE_STATION, 0);
+		this.setStaticObstacle(fireStationPos[0], fireStationPos[1], true);
+		this.freeCellSampler.occupy(fireStationPos[0], fireStationPos[1]);
+		this.fireSpreadGrid.removeFuel(fireStationPos[0], fireStationPos[1]);
 	}
 	
 	/**
@@ -320,10 +609,14 @@ public class WorldAgent extends Agent {
 			
 			WorldObject waterResourceWorldObject = new WorldObject(WorldObjectType.WATER_RESOURCE, new Point(waterResourcePos[0], waterResourcePos[1]));
 			
-			WaterResource waterResource = new WaterResource((byte) this.numWaterResources, waterResourceWorldObject);
+			WaterResource waterResource = new WaterResource((byte) this.numWaterResources, waterResourceWorldObject, this.random);
 			
 			this.waterResources[i] = waterResource;
 			this.worldMap[waterResourcePos[0]][waterResourcePos[1]] = waterResource;
+			this.worldGrid.set(waterResourcePos[0], waterResourcePos[1], WorldObjectType.WATER_RESOURCE, i);
+			this.setStaticObstacle(waterResourcePos[0], waterResourcePos[1], true);
+			this.freeCellSampler.occupy(waterResourcePos[0], waterResourcePos[1]);
+			this.fireSpreadGrid.removeFuel(waterResourcePos[0], waterResourcePos[1]);
 			
 			this.numWaterResources++;
 		}
@@ -346,6 +639,9 @@ public class WorldAgent extends Agent {
 			
 			
 			this.worldMap[aircraftPos[0]][aircraftPos[1]] = aircraftAgent;
+			this.worldGrid.set(aircraftPos[0], aircraftPos[1], WorldObjectType.AIRCRAFT, i);
+			this.freeCellSampler.occupy(aircraftPos[0], aircraftPos[1]);
+			this.reservationTable.park(aircraftAgent, aircraftPos[0], aircraftPos[1], 0);
 			this.aircraftAgents[i] = aircraftAgent;
 			
 			this.currentNumAircrafts++;
@@ -360,34 +656,176 @@ public class WorldAgent extends Agent {
 	 * @param fire the fire object to add
 	 */
 	public void addFire(int firePosX, int firePosY, Fire fire) {
+		this.fireStore.add(fire);
+		this.freeCellSampler.occupy(firePosX, firePosY);
+		
 		this.worldMap[firePosX][firePosY] = fire;
+		this.worldGrid.set(firePosX, firePosY, WorldObjectType.FIRE, WorldGrid.NO_INDEX);
+		this.fireSpreadGrid.setBurning(firePosX, firePosY);
+		
+		this.setStaticObstacle(firePosX, firePosY, true);
 	}
 	
+	/**
+	 * Removes the fire in a given position of the world, if there's any.
+	 * 
+	 * @param firePosX coordinate X of the world's map/grid
+	 * @param firePosY coordinate Y of the world's map/grid
+	 */
 	public void removeFire(int firePosX, int firePosY) {
+		Object worldObject = this.worldMap[firePosX][firePosY];
 		
-		ArrayList<Fire> fires = this.getCurrentFires();
+		// The fire in the world's map/grid is removed directly, otherwise it's searched in the fire store
+		boolean removed = (worldObject instanceof Fire) && this.fireStore.remove((Fire) worldObject);
 		
-		for(int f = 0; f < fires.size(); f++) {
-			
-				WorldObject fire = fires.get(f).getWorldObject();
-				if(fire.getPosX() == firePosX && fire.getPosY() == firePosY) {
-					fires.remove(f);
-					break;
-				}
+		if(!removed) {
+			Fire fire = this.fireStore.get(firePosX, firePosY);
 			
+			removed = (fire != null) && this.fireStore.remove(fire);
+		}
+		
+		if(removed) {
+			this.freeCellSampler.release(firePosX, firePosY);
 		}
 		
 		this.worldMap[firePosX][firePosY] = null;
+		this.worldGrid.clear(firePosX, firePosY);
+		
+		this.setStaticObstacle(firePosX, firePosY, false);
+		this.fireSpreadGrid.setBurnt(firePosX, firePosY);
+	}
+	
+	/**
+	 * Creates the pathfinder over a given occupancy grid, given by Config.PATHFINDING_MODE
+	 * (in the BFS and the flow fields modes, the hierarchical one, if the world has at least
+	 * Config.PATHFINDING_HIERARCHICAL_MIN_CELLS cells).
+	 * 
+	 * @param occupancyGrid the occupancy grid of the world
+	 * 
+	 * @return the pathfinder over a given occupancy grid, or null, if the paths are searched by the BFS of the aircraft agents
+	 */
+	private static GridPathfinder createGridPathfinder(OccupancyGrid occupancyGrid) {
+		PathfindingMode pathfindingMode = Config.PATHFINDING_MODE;
+		
+		if((pathfindingMode == PathfindingMode.BFS || pathfindingMode == PathfindingMode.FLOW_FIELD) &&
+		   Config.GRID_WIDTH * Config.GRID_HEIGHT >= Config.PATHFINDING_HIERARCHICAL_MIN_CELLS) {
+			
+			pathfindingMode = PathfindingMode.HIERARCHICAL;
+		}
+		
+		switch(pathfindingMode) {
+			case A_STAR:
+				return new AStarPathfinder(occupancyGrid);
+			
+			case JPS:
+				return new JumpPointSearchPathfinder(occupancyGrid, false);
+			
+			case JPS_DIAGONAL:
+				return new JumpPointSearchPathfinder(occupancyGrid, true);
+			
+			case HIERARCHICAL:
+				return new HierarchicalPathfinder(occupancyGrid, Config.PATHFINDING_CLUSTER_SIZE);
+			
+			case FLOW_FIELD:
+				return new FlowFieldPathfinder(occupancyGrid, Config.PATHFINDING_FLOW_FIELDS_CACHE_CAPACITY);
+			
+			default:
+				return null;
+		}
+	}
+	
+	/**
+	 * Creates the pathfinder of the static distances of the world, counting 4-connected cells as the flights
+	 * of the aircraft agents (the 8-connected JPS counts each diagonal move as a single cell).
+	 * 
+	 * @param occupancyGrid the occupancy grid of the world
+	 * @param gridPathfinder the pathfinder over the occupancy grid, or null, in the BFS mode
+	 * 
+	 * @return the pathfinder of the static distances of the world
+	 */
+	private static GridPathfinder createDistancePathfinder(OccupancyGrid occupancyGrid, GridPathfinder gridPathfinder) {
+		if(gridPathfinder == null) {
+			return new BreadthFirstSearchPathfinder(occupancyGrid);
+		}
+		
+		if(Config.PATHFINDING_MODE == PathfindingMode.JPS_DIAGONAL) {
+			return new JumpPointSearchPathfinder(occupancyGrid, false);
+		}
+		
+		return gridPathfinder;
+	}
+	
+	/**
+	 * Sets a given position of the world as a static obstacle (the fire station, a water resource or a fire), or free,
+	 * in the occupancy grid of the world, marking its cluster as dirty in the hierarchical pathfinder, if there's one,
+	 * or evicting its flow field, gone cold, from the flow-field pathfinder, if there's one and the position is freed.
+	 * 
+	 * @param posX coordinate X of the world's map/grid
+	 * @param posY coordinate Y of the world's map/grid
+	 * @param obstacle true if the position is a static obstacle and false, otherwise
+	 */
+	private void setStaticObstacle(int posX, int posY, boolean obstacle) {
+		if(this.occupancyGrid.setBlocked(posX, posY, obstacle) && this.gridPathfinder instanceof HierarchicalPathfinder) {
+			((HierarchicalPathfinder) this.gridPathfinder).markChanged(posX, posY);
+		}
+		
+		if(!obstacle && this.gridPathfinder instanceof FlowFieldPathfinder) {
+			((FlowFieldPathfinder) this.gridPathfinder).evict(new Point(posX, posY));
+		}
+	}
+	
+	/**
+	 * Moves an aircraft agent to a given position of the world, keeping the free cells of the world up to date.
+	 * 
+	 * @param aircraftAgent the aircraft agent to be moved
+	 * @param posX coordinate X of the world's map/grid
+	 * @param posY coordinate Y of the world's map/grid
+	 */
+	public void moveAircraft(AircraftAgent aircraftAgent, int posX, int posY) {
+		WorldObject aircraftWorldObject = aircraftAgent.getWorldObject();
+		
+		this.freeCellSampler.move(aircraftWorldObject.getPosX(), aircraftWorldObject.getPosY(), posX, posY);
+		
+		aircraftWorldObject.setPos(posX, posY);
+	}
+	
+	/**
+	 * Removes all the fires already extinguished (with intensity 0) from the world.
+	 * 
+	 * @return the number of fires removed from the world
+	 */
+	public int removeExtinguishedFires() {
+		ArrayList<Fire> fires = this.getCurrentFires();
+		
+		int numRemovedFires = 0;
+		
+		for(int f = fires.size() - 1; f >= 0; f--) {
+			Fire fire = fires.get(f);
+			
+			if(!fire.isActive()) {
+				WorldObject fireWorldObject = fire.getWorldObject();
+				
+				this.removeFire(fireWorldObject.getPosX(), fireWorldObject.getPosY());
+				numRemovedFires++;
+			}
+		}
+		
+		return numRemovedFires;
 	}
 	
 	public void refreshWorldMapPositions() {
+		WorldRefreshEvent worldRefreshEvent = new WorldRefreshEvent();
+		worldRefreshEvent.begin();
+		
 		Object[][] tmpWorldMap = new Object[Config.GRID_WIDTH][Config.GRID_HEIGHT];
+		WorldGrid tmpWorldGrid = new WorldGrid(Config.GRID_WIDTH, Config.GRID_HEIGHT);
 		
 		// 1) Switching/refreshing the fire station's position in the world map/grid 
 		FireStationAgent fireStationAgent = this.getFireStationAgent();
 		WorldObject fireStationWorldObject = fireStationAgent.getWorldObject();
 		
 		tmpWorldMap[fireStationWorldObject.getPosX()][fireStationWorldObject.getPosY()] = fireStationAgent;
+		tmpWorldGrid.set(fireStationWorldObject.getPosX(), fireStationWorldObject.getPosY(), WorldObjectType.FIRE_STATION, 0);
 		
 		// 2) Switching/refreshing the water resources' positions in the world map/grid 
 		WaterResource[] waterResources = this.getWaterResources();
@@ -397,6 +835,7 @@ public class WorldAgent extends Agent {
 			WorldObject waterResourceWorldObject = waterResource.getWorldObject();
 			
 			tmpWorldMap[waterResourceWorldObject.getPosX()][waterResourceWorldObject.getPosY()] = waterResource;
+			tmpWorldGrid.set(waterResourceWorldObject.getPosX(), waterResourceWorldObject.getPosY(), WorldObjectType.WATER_RESOURCE, wr);
 		}
 				
 		// 3) Switching/refreshing the aircraft agents' positions in the world map/grid 
@@ -407,6 +846,7 @@ public class WorldAgent extends Agent {
 			WorldObject aircraftWorldObject = aircraftAgent.getWorldObject();
 					
 			tmpWorldMap[aircraftWorldObject.getPosX()][aircraftWorldObject.getPosY()] = aircraftAgent;
+			tmpWorldGrid.set(aircraftWorldObject.getPosX(), aircraftWorldObject.getPosY(), WorldObjectType.AIRCRAFT, aa);
 		}
 		
 		// 4) Switching/refreshing the fires' positions in the world map/grid 
@@ -418,21 +858,63 @@ public class WorldAgent extends Agent {
 				WorldObject fireWorldObject = fire.getWorldObject();
 				
 				tmpWorldMap[fireWorldObject.getPosX()][fireWorldObject.getPosY()] = fire;
+				tmpWorldGrid.set(fireWorldObject.getPosX(), fireWorldObject.getPosY(), WorldObjectType.FIRE, WorldGrid.NO_INDEX);
 			
 		}
 				
 		// 5) Switching/refreshing the world maps/grids objects
 		this.worldMap = null;
 		this.worldMap = tmpWorldMap;
+		this.worldGrid = tmpWorldGrid;
 		tmpWorldMap = null;
+		
+		if(worldRefreshEvent.shouldCommit()) {
+			worldRefreshEvent.gridWidth = Config.GRID_WIDTH;
+			worldRefreshEvent.gridHeight = Config.GRID_HEIGHT;
+			worldRefreshEvent.numActiveFires = fires.size();
+			
+			worldRefreshEvent.commit();
+		}
 	}
 	/**
 	 * Generates all the Fires in the world, when is possible.
 	 */
 	public void setup() {
 		
+		// The simulated time starts with the world agent
+		this.simulationStartTime = System.currentTimeMillis();
+		
 		this.addBehaviour(new GenerateFiresBehaviour(this, 8000));
 		this.addBehaviour(new UpdateStatusBehaviour(this, 1000));
+		
+		if(Config.WEATHER_CONDITIONS_ENABLED) {
+			this.addBehaviour(new WeatherConditionsBehaviour(this));
+		}
+		
+		if(Config.FIRE_SPREAD_PROBABILITY > 0) {
+			this.addBehaviour(new SpreadFiresBehaviour(this, Config.FIRE_SPREAD_PERIOD));
+		}
+		
+		if(Config.FIRE_ACTIVE_INTENSITY_INCREASE_ENABLED) {
+			this.addBehaviour(new IncreaseActiveFiresIntensityBehaviour(this, Config.FIRE_ACTIVE_INTENSITY_INCREASE_PERIOD));
+		}
+		
+		if(Config.METRICS_HTTP_PORT > 0) {
+			this.addBehaviour(new PublishMetricsSnapshotBehaviour(this, Config.METRICS_SNAPSHOT_PERIOD));
+		}
+		
+		if(Config.AIRCRAFT_REPOSITIONING_ENABLED) {
+			this.addBehaviour(new RepositionIdleAircraftsBehaviour(this, Config.AIRCRAFT_REPOSITIONING_PERIOD));
+		}
+		
+		ManagementRegistry.register(this);
+	}
+	
+	/**
+	 * Behaviour to the world agent takes in the case of take down.
+	 */
+	protected void takeDown() {
+		ManagementRegistry.unregister(this);
 	}
 	
 	
@@ -445,6 +927,16 @@ public class WorldAgent extends Agent {
 		return worldMap;
 	}
 	
+	/**
+	 * Returns the flat and typed encoding of the current world map
+	 * (the type of the object of each cell and its index in the array of its type).
+	 * 
+	 * @return the flat and typed encoding of the current world map
+	 */
+	public WorldGrid getWorldGrid() {
+		return this.worldGrid;
+	}
+	
 	
 	public WorldMetricsStats getWorldMetricsStats() {
 		return this.worldMetricsStats;	
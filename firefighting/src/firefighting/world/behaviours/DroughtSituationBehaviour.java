@@ -2,16 +2,20 @@ package firefighting.world.behaviours;
 
 import firefighting.nature.WaterResource;
 import firefighting.utils.Config;
+import firefighting.utils.WorldMetricsStats;
 import firefighting.world.WorldAgent;
-import jade.core.behaviours.TickerBehaviour;
+import jade.core.behaviours.OneShotBehaviour;
 
-
-public class DroughtSituationBehaviour extends TickerBehaviour {
+/**
+ * Behaviour responsible for a single occurrence of a drought (extreme dry situation), scheduled by the weather conditions' behaviour,
+ * decreasing (in bulk) the capacity of all the water resources.
+ */
+public class DroughtSituationBehaviour extends OneShotBehaviour {
 	
 	public WorldAgent worldAgent;
 	
-	public DroughtSituationBehaviour(WorldAgent worldAgent, long period) {
-		super(worldAgent, period);
+	public DroughtSituationBehaviour(WorldAgent worldAgent) {
+		super(worldAgent);
 
 		this.worldAgent = worldAgent;
 	}
@@ -26,15 +30,21 @@ public class DroughtSituationBehaviour extends TickerBehaviour {
 	}
 	
 	@Override
-	protected void onTick() {
+	public void action() {
 		
 		WorldAgent worldAgent = this.getWorldAgent();
+		
+		WorldMetricsStats worldMetricsStats = worldAgent.getWorldMetricsStats();
+		
+		worldMetricsStats.incNumTotalOccurrenceDroughtSituations();
 				
-		// Rain behaviour about all the water resources in the world
+		// Drought behaviour about all the water resources in the world
 		WaterResource[] waterResources = worldAgent.getWaterResources();
-/*
+
 		// Drought situation, affecting all the water resources in the world, decreasing its capacity
 		for(int wr = 0; wr < waterResources.length; wr++)
-			waterResources[wr].decreasingCapacity(Config.DROUGHT_SITUATION_PENALTY);*/
+			waterResources[wr].decreasingCapacity(Config.DROUGHT_SITUATION_PENALTY);
+		
+		worldMetricsStats.incNumWaterResourcesCapacityDecreasedByDroughtSituationOccurences(waterResources.length);
 	}
-}
\ No newline at end of file
+}
@@ -1,10 +1,11 @@
 package firefighting.world.behaviours;
 
 import java.awt.Point;
-import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import firefighting.nature.Fire;
 import firefighting.utils.Config;
+import firefighting.utils.events.FireLifecycleEvent;
 import firefighting.world.WorldAgent;
 import firefighting.world.WorldObject;
 import firefighting.world.utils.WorldObjectType;
@@ -14,9 +15,12 @@ public class GenerateFiresBehaviour extends TickerBehaviour {
 	
 	public WorldAgent worldAgent;
 	
+	private SplittableRandom random;
+	
 	public GenerateFiresBehaviour(WorldAgent worldAgent, long period) {
 		super(worldAgent, period);
 		this.worldAgent = worldAgent;
+		this.random = worldAgent.getRandom().split();
 	}
 
 	/**
@@ -33,22 +37,28 @@ public class GenerateFiresBehaviour extends TickerBehaviour {
 		
 		WorldAgent worldAgent = this.getWorldAgent();
 		
+		// The older fires' occurrences weigh less in the fire heatmap
+		worldAgent.getFireHeatmap().decay(Config.FIRE_HEATMAP_DECAY_FACTOR);
+		
 		// It's possible to add a fire
 		if(this.getWorldAgent().getCurrentNumFires() < Config.NUM_MAX_FIRES) {
 		   	
 			int[] firePos = worldAgent.generateRandomPos();
+			
+			// There are no free positions in the world
+			if(firePos == null) {
+				return;
+			}
 		    	
 		   	WorldObject fireWorldObject = new WorldObject(WorldObjectType.FIRE, new Point(firePos[0], firePos[1]));
 		    
-		   	ArrayList<Fire> fires = worldAgent.getCurrentFires();
-
-		   	Fire fire = new Fire(fireWorldObject);
+		   	Fire fire = new Fire(fireWorldObject, this.random);
 		    
-		   	//in map
+		   	//in map and in fire store
 		   	worldAgent.addFire(firePos[0], firePos[1], fire);
-	   
-		   	//in array
-		   	fires.add(fire);
+		   	worldAgent.getFireHeatmap().record(firePos[0], firePos[1]);
+		   	
+		   	FireLifecycleEvent.commit(FireLifecycleEvent.CREATED, firePos[0], firePos[1], fire.getCurrentIntensity(), null);
 		    		
 		   	//worldAgent.incCurrentNumFires();
 	    	
@@ -1,10 +1,9 @@
 package firefighting.world.behaviours;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import firefighting.nature.Fire;
-import firefighting.utils.Config;
 import firefighting.world.WorldAgent;
 import jade.core.behaviours.TickerBehaviour;
 
@@ -12,10 +11,13 @@ public class IncreaseActiveFiresIntensityBehaviour extends TickerBehaviour {
 	
 	public WorldAgent worldAgent;
 	
+	private SplittableRandom random;
+	
 	public IncreaseActiveFiresIntensityBehaviour(WorldAgent worldAgent, long period) {
 		super(worldAgent, period);
 
 		this.worldAgent = worldAgent;
+		this.random = worldAgent.getRandom().split();
 	}
 
 	/**
@@ -34,23 +36,9 @@ public class IncreaseActiveFiresIntensityBehaviour extends TickerBehaviour {
 	@Override
 	protected void onTick() {
 		
-		ArrayList<Fire> fires = this.getCurrentFires();
+		// Increases (in bulk) the intensity of the fires active for more time than their current timeout
+		int numFiresIntensityIncreased = this.getWorldAgent().getFireStore().increaseIntensitiesByTimeout(System.currentTimeMillis(), this.random);
 		
-		for(int f = 0; f < fires.size(); f++) {
-			Fire fire = fires.get(f);
-	
-			long timeoutFireIntensityIncrease = (fire.getNumIntensityIncreases() + 1) * Config.FIRE_ACTIVE_FACTOR_TIMEOUT;
-			
-			long activeFireTime = System.currentTimeMillis() - fire.getTimestampCreation();
-			
-			if(activeFireTime > timeoutFireIntensityIncrease) {
-				Random randomObject = new Random();
-				
-				int intensityPenalty = randomObject.nextInt(Config.FIRE_ACTIVE_INTENSITY_MAX_PENALTY);
-				
-				fire.increaseIntensity(intensityPenalty);	
-			}
-			
-		}
+		this.getWorldAgent().getWorldMetricsStats().incNumFiresIntensityIncreasedByTimeout(numFiresIntensityIncreased);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package firefighting.world.behaviours;
+
+import firefighting.utils.exporter.MetricsSnapshot;
+import firefighting.utils.exporter.PrometheusExporter;
+import firefighting.world.WorldAgent;
+import jade.core.behaviours.TickerBehaviour;
+
+public class PublishMetricsSnapshotBehaviour extends TickerBehaviour {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	WorldAgent worldAgent;
+	
+	public PublishMetricsSnapshotBehaviour(WorldAgent worldAgent, long period) {
+		super(worldAgent, period);
+		
+		this.worldAgent = worldAgent;
+	}
+
+	public WorldAgent getWorldAgent() {
+		return this.worldAgent;
+	}
+	
+	@Override
+	protected void onTick() {
+		// Pre-aggregates all the metrics on the world agent's thread, so the exporters only read the snapshot
+		PrometheusExporter.publish(MetricsSnapshot.capture(this.getWorldAgent()));
+	}
+}
@@ -1,23 +1,27 @@
 package firefighting.world.behaviours;
 
-import java.util.ArrayList;
-import java.util.Random;
-
-import firefighting.nature.Fire;
+import firefighting.nature.FireStore;
 import firefighting.nature.WaterResource;
+import firefighting.utils.WorldMetricsStats;
 import firefighting.world.WorldAgent;
-import firefighting.world.utils.environment.SeasonType;
-import jade.core.behaviours.TickerBehaviour;
-
+import jade.core.behaviours.OneShotBehaviour;
 
-public class RainingBehaviour extends TickerBehaviour {
+/**
+ * Behaviour responsible for a single occurrence of rain, scheduled by the weather conditions' behaviour,
+ * decreasing (in bulk) the intensity of all the fires and increasing the capacity of all the water resources,
+ * by the rain amount of the current weather epoch.
+ */
+public class RainingBehaviour extends OneShotBehaviour {
 	
 	WorldAgent worldAgent;
 	
-	public RainingBehaviour(WorldAgent worldAgent, long period) {
-		super(worldAgent, period);
+	private int rainAmount;
+	
+	public RainingBehaviour(WorldAgent worldAgent, int rainAmount) {
+		super(worldAgent);
 
 		this.worldAgent = worldAgent;
+		this.rainAmount = rainAmount;
 	}
 
 	/**
@@ -30,64 +34,35 @@ public class RainingBehaviour extends TickerBehaviour {
 	}
 	
 	@Override
-	protected void onTick() {
+	public void action() {
 		
 		WorldAgent worldAgent = this.getWorldAgent();
 		
-		SeasonType seasonType = worldAgent.getSeasonType();
-		byte seasonTypeID = seasonType.getID();
-		int seasonRainFactor = seasonType.getRainFactor();
+		int finalRainAmount = this.rainAmount;
 		
-		Random randomObject = new Random();
+		WorldMetricsStats worldMetricsStats = worldAgent.getWorldMetricsStats();
 		
-		double rainRatio;
-		int finalRainAmount;
+		worldMetricsStats.incNumTotalOccurrenceRains();
 		
-		// Calculate a random ratio of increasing of rain amount, accordingly with the current season's rain factor
-		switch(seasonTypeID) {
-			// SPRING SEASON
-			case 0:
-				// Normal amounts of rain ([16% , 50%] of precipitation)
-				rainRatio = (randomObject.ints(1, 16, 51).toArray()[0]) / 100;
-				break;
-			// SUMMER SEASON
-			case 1:
-				// Small amounts of rain ([0% , 15%] of precipitation)
-				rainRatio = (randomObject.ints(1, 0, 16).toArray()[0]) / 100;
-				break;
-			// AUTUMN SEASON
-			case 2:
-				// Normal amounts of rain ([16% , 50%] of precipitation)
-				rainRatio = (randomObject.ints(1, 16, 51).toArray()[0]) / 100;
-				break;
-			// WINTER SEASON
-			case 3:
-				// Big amounts of rain ([51% , 100%] of precipitation)
-				rainRatio = (randomObject.ints(1, 51, 101).toArray()[0]) / 100;
-				break;
-			default:
-				rainRatio = 0.0;
-				break;
+		if(finalRainAmount == 0) {
+			return;
 		}
 		
-		finalRainAmount = (int) Math.round(seasonRainFactor * rainRatio);
-		
 		
 		// Rain behaviour about the current active fires in the world
-		ArrayList<Fire> fires = worldAgent.getCurrentFires();
-				
-		// Raining above the fires, decreasing its intensity
-		for(int f = 0; f < fires.size(); f++) {
-			
-				fires.get(f).decreaseIntensity(finalRainAmount);
+		FireStore fireStore = worldAgent.getFireStore();
+		
+		int numFires = fireStore.size();
 				
-				// Fire extinguished
-				if(!fires.get(f).isActive()) {
-					fires.remove(f);
-				}
+		// Raining above the fires, decreasing its intensity (in bulk)
+		if(fireStore.decreaseIntensities(finalRainAmount) > 0) {
 			
+			// Fires extinguished
+			worldAgent.removeExtinguishedFires();
 		}
 		
+		worldMetricsStats.incNumFiresIntensityDecreasedByRaining(numFires);
+		
 		
 		// Rain behaviour about all the water resources in the world
 		WaterResource[] waterResources = worldAgent.getWaterResources();
@@ -95,5 +70,11 @@ public class RainingBehaviour extends TickerBehaviour {
 		// Raining above the water resources, increasing its capacity
 		for(int wr = 0; wr < waterResources.length; wr++)
 			waterResources[wr].increasingCapacity(finalRainAmount);
+		
+		if(finalRainAmount > 0) {
+			worldAgent.notifyWaterCapacityIncreased(null);
+		}
+		
+		worldMetricsStats.incNumWaterResourcesCapacityIncreasedByRaining(waterResources.length);
 	}
 }
\ No newline at end of file
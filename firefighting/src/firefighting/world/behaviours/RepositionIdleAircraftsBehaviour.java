@@ -0,0 +1,118 @@
+package firefighting.world.behaviours;
+
+import java.awt.Point;
+import java.util.ArrayList;
+
+import firefighting.aircraft.AircraftAgent;
+import firefighting.aircraft.utils.MissionPlanner;
+import firefighting.world.WorldAgent;
+import jade.core.behaviours.TickerBehaviour;
+
+/**
+ * Behaviour responsible for pre-positioning the idle aircraft agents, periodically assigning to each of them
+ * one of the demand-weighted k-median positions of the fire heatmap (k being the number of idle aircraft agents),
+ * so the next fires are reached with less travel cells.
+ * Each assigned target enqueues the repositioning behaviour of its aircraft agent, so no aircraft agent keeps a timer of its own.
+ * 
+ * The medians are assigned greedily, by the nearest pair (aircraft agent, median), first.
+ */
+public class RepositionIdleAircraftsBehaviour extends TickerBehaviour {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	WorldAgent worldAgent;
+	
+	public RepositionIdleAircraftsBehaviour(WorldAgent worldAgent, long period) {
+		super(worldAgent, period);
+		
+		this.worldAgent = worldAgent;
+	}
+	
+	public WorldAgent getWorldAgent() {
+		return this.worldAgent;
+	}
+	
+	@Override
+	protected void onTick() {
+		
+		WorldAgent worldAgent = this.getWorldAgent();
+		AircraftAgent[] aircraftAgents = worldAgent.getAircraftAgents();
+		
+		if(aircraftAgents == null) {
+			return;
+		}
+		
+		ArrayList<AircraftAgent> idleAircraftAgents = new ArrayList<AircraftAgent>();
+		
+		for(int aa = 0; aa < aircraftAgents.length; aa++) {
+			if(aircraftAgents[aa] != null && aircraftAgents[aa].isIdle()) {
+				idleAircraftAgents.add(aircraftAgents[aa]);
+			}
+		}
+		
+		if(idleAircraftAgents.isEmpty()) {
+			return;
+		}
+		
+		// At most, one median for each hot cell of the heatmap (the idle aircraft agents left without any stay where they are)
+		Point[] medians = worldAgent.getFireHeatmap().getKMedians(idleAircraftAgents.size());
+		
+		// There's no recent demand of fires, so the idle aircraft agents stay where they are
+		if(medians == null) {
+			for(AircraftAgent aircraftAgent : idleAircraftAgents) {
+				aircraftAgent.setRepositioningTarget(null);
+			}
+			
+			return;
+		}
+		
+		boolean[] assignedAircraftAgents = new boolean[idleAircraftAgents.size()];
+		boolean[] assignedMedians = new boolean[medians.length];
+		
+		for(int assignment = 0; assignment < medians.length; assignment++) {
+			int bestAircraftAgent = -1;
+			int bestMedian = -1;
+			int bestDistance = Integer.MAX_VALUE;
+			
+			for(int aa = 0; aa < assignedAircraftAgents.length; aa++) {
+				if(assignedAircraftAgents[aa]) {
+					continue;
+				}
+				
+				Point aircraftPos = idleAircraftAgents.get(aa).getWorldObject().getPos();
+				
+				for(int m = 0; m < medians.length; m++) {
+					if(assignedMedians[m]) {
+						continue;
+					}
+					
+					int distance = MissionPlanner.getDistance(aircraftPos, medians[m]);
+					
+					if(distance < bestDistance) {
+						bestDistance = distance;
+						bestAircraftAgent = aa;
+						bestMedian = m;
+					}
+				}
+			}
+			
+			assignedAircraftAgents[bestAircraftAgent] = true;
+			assignedMedians[bestMedian] = true;
+			
+			AircraftAgent aircraftAgent = idleAircraftAgents.get(bestAircraftAgent);
+			
+			// Enqueues the moves toward the assigned target in the aircraft agent (re-armed only while it's unreached)
+			aircraftAgent.setRepositioningTarget(medians[bestMedian]);
+			aircraftAgent.requestRepositioning();
+		}
+		
+		for(int aa = 0; aa < assignedAircraftAgents.length; aa++) {
+			if(!assignedAircraftAgents[aa]) {
+				idleAircraftAgents.get(aa).setRepositioningTarget(null);
+			}
+		}
+	}
+}
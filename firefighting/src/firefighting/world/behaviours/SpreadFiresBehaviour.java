@@ -0,0 +1,123 @@
+package firefighting.world.behaviours;
+
+import java.awt.Point;
+import java.util.SplittableRandom;
+
+import firefighting.nature.Fire;
+import firefighting.utils.Config;
+import firefighting.utils.events.FireLifecycleEvent;
+import firefighting.world.WorldAgent;
+import firefighting.world.WorldObject;
+import firefighting.world.utils.FireSpreadGrid;
+import firefighting.world.utils.FireSpreadKernel;
+import firefighting.world.utils.WorldGrid;
+import firefighting.world.utils.WorldObjectType;
+import jade.core.behaviours.TickerBehaviour;
+
+/**
+ * Behaviour responsible for spreading the active fires to their neighbour cells,
+ * making a step of the world's fire spread grid (cellular automaton) on each tick,
+ * with the spread kernel of the current wind type, wind direction and season type.
+ */
+public class SpreadFiresBehaviour extends TickerBehaviour implements FireSpreadGrid.IgnitionHandler {
+
+	/**
+	 *
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The offsets of the neighbour cells (up, down, left and right) of a cell.
+	 */
+	private static final int[][] NEIGHBOUR_OFFSETS = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+
+	private WorldAgent worldAgent;
+
+	private SplittableRandom random;
+
+	private FireSpreadKernel fireSpreadKernel;
+
+	public SpreadFiresBehaviour(WorldAgent worldAgent, long period) {
+		super(worldAgent, period);
+
+		this.worldAgent = worldAgent;
+		this.random = worldAgent.getRandom().split();
+		this.fireSpreadKernel = new FireSpreadKernel(Config.FIRE_SPREAD_PROBABILITY);
+	}
+
+	public WorldAgent getWorldAgent() {
+		return this.worldAgent;
+	}
+
+	@Override
+	protected void onTick() {
+		WorldAgent worldAgent = this.getWorldAgent();
+
+		int[] spreadKernel = this.fireSpreadKernel.getKernel(worldAgent.getWindType(), worldAgent.getWindDirection(), worldAgent.getSeasonType());
+
+		worldAgent.getFireSpreadGrid().spread(this.random, spreadKernel, this);
+	}
+
+	/**
+	 * Returns an active fire, neighbour of a given cell, from where the fire can spread to it, or null, if there's none.
+	 *
+	 * @param posX the coordinate X of the cell
+	 * @param posY the coordinate Y of the cell
+	 *
+	 * @return an active fire, neighbour of a given cell, or null, if there's none
+	 */
+	private Fire getNeighbourActiveFire(int posX, int posY) {
+		Object[][] worldMap = this.getWorldAgent().getWorldMap();
+		WorldGrid worldGrid = this.getWorldAgent().getWorldGrid();
+
+		for(int n = 0; n < NEIGHBOUR_OFFSETS.length; n++) {
+			int neighbourPosX = posX + NEIGHBOUR_OFFSETS[n][0];
+			int neighbourPosY = posY + NEIGHBOUR_OFFSETS[n][1];
+
+			if(neighbourPosX < 0 || neighbourPosX >= Config.GRID_WIDTH || neighbourPosY < 0 || neighbourPosY >= Config.GRID_HEIGHT)
+				continue;
+
+			// Only the cells of fires are resolved in the matrix of the world's objects
+			if(!worldGrid.is(neighbourPosX, neighbourPosY, WorldObjectType.FIRE))
+				continue;
+
+			Object worldObject = worldMap[neighbourPosX][neighbourPosY];
+
+			if(worldObject instanceof Fire && ((Fire) worldObject).isActive())
+				return (Fire) worldObject;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Places a new fire in an ignited cell, if the cell is free, the maximum number of fires wasn't reached yet
+	 * and the neighbour fire (from where it spreads) passes its own spread probability.
+	 */
+	@Override
+	public boolean ignite(int posX, int posY) {
+		WorldAgent worldAgent = this.getWorldAgent();
+
+		if(worldAgent.getCurrentNumFires() >= Config.NUM_MAX_FIRES || !worldAgent.getFreeCellSampler().isFree(posX, posY))
+			return false;
+
+		Fire neighbourFire = this.getNeighbourActiveFire(posX, posY);
+
+		if(neighbourFire == null || this.random.nextDouble() >= neighbourFire.getSpreadProbability())
+			return false;
+
+		WorldObject fireWorldObject = new WorldObject(WorldObjectType.FIRE, new Point(posX, posY));
+
+		Fire fire = new Fire(fireWorldObject, this.random);
+
+		//in map and in fire store
+		worldAgent.addFire(posX, posY, fire);
+
+		neighbourFire.increaseNumSpreads();
+		worldAgent.getWorldMetricsStats().incNumFiresSpread();
+
+		FireLifecycleEvent.commit(FireLifecycleEvent.CREATED, posX, posY, fire.getCurrentIntensity(), null);
+
+		return true;
+	}
+}
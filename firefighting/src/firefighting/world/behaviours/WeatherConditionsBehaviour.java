@@ -1,118 +1,95 @@
 package firefighting.world.behaviours;
 
-import java.util.Random;
-
+import firefighting.aircraft.AircraftAgent;
 import firefighting.world.WorldAgent;
-import firefighting.world.utils.environment.SeasonType;
+import firefighting.world.utils.environment.WeatherTimeline;
 import jade.core.behaviours.CyclicBehaviour;
 
+/**
+ * Behaviour responsible for scheduling the weather conditions of the world: the occurrences of rain
+ * and of droughts (extreme dry situations).
+ *
+ * The rain frequency and amount, and the occurrence of a drought, of each weather epoch are looked up
+ * in the precomputed weather timeline of the world, so the behaviour stays blocked until the next rain
+ * or the start of the next epoch, when it applies the due events (adding a one shot behaviour for each rain or drought).
+ */
 public class WeatherConditionsBehaviour extends CyclicBehaviour {
 
 	/**
-	 * 
+	 *
 	 */
 	private static final long serialVersionUID = 1L;
 
 	private WorldAgent worldAgent;
-	
+
+	/**
+	 * The simulated time of the next occurrence of rain, in milliseconds.
+	 */
+	private long nextRainTime;
+
+	/**
+	 * The simulated time of the start of the next weather epoch, in milliseconds.
+	 */
+	private long nextEpochTime;
+
 	public WeatherConditionsBehaviour(WorldAgent worldAgent) {
 		super(worldAgent);
 		this.worldAgent = worldAgent;
+
+		long simulationTime = worldAgent.getSimulationTime();
+
+		this.nextEpochTime = worldAgent.getWeatherTimeline().getNextEpochTime(simulationTime);
+		this.nextRainTime = simulationTime + worldAgent.getWeatherTimeline().getRainFrequencyTime(simulationTime);
 	}
-	
+
 	public WorldAgent getWorldAgent() {
 		return this.worldAgent;
 	}
-	
-	public SeasonType getSeasonType() {
-		return this.getWorldAgent().getSeasonType();
-	}
-	
+
 	@Override
 	public void action() {
-		
+
 		WorldAgent worldAgent = this.getWorldAgent();
-		
-		// Handle code of raining, wind and drought (extreme dry situations) behaviours:
-		
-		// 1) Handle raining behaviour
-		SeasonType seasonType = this.getSeasonType();
-		byte seasonTypeID = seasonType.getID();
-		
-		Random randomObject = new Random();
-		
-		int rainFrequencyTimeSec;
-		long rainFrequencyTimeMs; 
-		
-		// Calculate a random time frequency in seconds of occurring precipitation/rain, from the global set [0s, 30s],
-		// accordingly with the current season
-		switch(seasonTypeID) {
-			// SPRING SEASON
-			case 0:
-				// Normal time frequency of occurring precipitation/rain from the set [6s, 14s]
-				rainFrequencyTimeSec = randomObject.ints(1, 6, 15).toArray()[0];
-				break;
-			// SUMMER SEASON
-			case 1:
-				// Normal time frequency of occurring precipitation/rain from the set [15s, 20s]
-				rainFrequencyTimeSec = randomObject.ints(1, 15, 21).toArray()[0];
-				break;
-			// AUTUMN SEASON
-			case 2:
-				// Normal time frequency of occurring precipitation/rain from the set [6s, 14s]
-				rainFrequencyTimeSec = randomObject.ints(1, 6, 15).toArray()[0];
-				break;
-			// WINTER SEASON
-			case 3:
-				// Normal time frequency of occurring precipitation/rain from the set [1s, 5s]
-				rainFrequencyTimeSec = randomObject.ints(1, 1, 6).toArray()[0];
-				break;
-			default:
-				rainFrequencyTimeSec = 0;
-				break;
-		}
-		
-		rainFrequencyTimeMs = (long) rainFrequencyTimeSec * 1000;
-		
-		RainingBehaviour rainingBehaviour = new RainingBehaviour(worldAgent, rainFrequencyTimeMs);
-		worldAgent.addBehaviour(rainingBehaviour);
-		
-		// Destroying the ticker behaviours created previously and their respectively time counters
-		this.worldAgent.removeTimer(rainingBehaviour);
-		this.worldAgent.removeBehaviour(rainingBehaviour);
-				
-		
-		// 2) Handle wind behaviour
-		// TODO
-		
-		// Destroying the ticker behaviours created previously and their respectively time counters
-		//this.worldAgent.removeTimer(rainingBehaviour);
-		//this.worldAgent.removeBehaviour(rainingBehaviour);
-				
-			
-		// 3) Handle drought (extreme dry situation) behaviour (if it's possible, can only occur in summer season)
-		if(worldAgent.canOccurDroughtSituations()) {
-			int droughtSituationFrequencyTimeSec;
-			long droughtSituationFrequencyTimeMs;
-			
-			float probabilityOccurDroughtSituation = randomObject.nextFloat();
-			
-			float[] boundsDroughtSituationProbabilityInterval = worldAgent.getDroughtSituationProbabilityInterval();
-			float min = boundsDroughtSituationProbabilityInterval[0];
-			float max = boundsDroughtSituationProbabilityInterval[1];
-			
-			if((probabilityOccurDroughtSituation >= min) && (probabilityOccurDroughtSituation <= max)) {
-				droughtSituationFrequencyTimeSec = randomObject.ints(1, 10, 16).toArray()[0];
-				
-				droughtSituationFrequencyTimeMs = (long) droughtSituationFrequencyTimeSec * 1000;
-			
-				DroughtSituationBehaviour droughtSituationBehaviour = new DroughtSituationBehaviour(worldAgent, droughtSituationFrequencyTimeMs);
-				worldAgent.addBehaviour(droughtSituationBehaviour);
-		
-				// Destroying the ticker behaviours created previously and their respectively time counters
-				this.worldAgent.removeTimer(droughtSituationBehaviour);
-				this.worldAgent.removeBehaviour(droughtSituationBehaviour);
+		WeatherTimeline weatherTimeline = worldAgent.getWeatherTimeline();
+
+		long simulationTime = worldAgent.getSimulationTime();
+
+		// Handle code of raining and drought (extreme dry situations) events:
+
+		// 1) Handle the start of a new weather epoch, with a drought (extreme dry situation), if it occurs in the epoch
+		if(simulationTime >= this.nextEpochTime) {
+			if(weatherTimeline.isDroughtSituation(simulationTime)) {
+				worldAgent.addBehaviour(new DroughtSituationBehaviour(worldAgent));
+			}
+
+			this.nextEpochTime = weatherTimeline.getNextEpochTime(simulationTime);
+
+			// The rain frequency of the new epoch
+			this.nextRainTime = Math.min(this.nextRainTime, simulationTime + weatherTimeline.getRainFrequencyTime(simulationTime));
+
+			// The wind of the new epoch may increase the fuel consumption, so the range of the idle aircraft agents
+			// (checked only when their water tanks decrease) may no longer be enough to refill water
+			AircraftAgent[] aircraftAgents = worldAgent.getAircraftAgents();
+
+			if(aircraftAgents != null) {
+				for(int aa = 0; aa < aircraftAgents.length; aa++) {
+					if(aircraftAgents[aa] != null && aircraftAgents[aa].isIdle()) {
+						aircraftAgents[aa].requestWaterRefillIfNeeded();
+					}
+				}
 			}
 		}
+
+		// 2) Handle the raining event
+		if(simulationTime >= this.nextRainTime) {
+			worldAgent.addBehaviour(new RainingBehaviour(worldAgent, weatherTimeline.getRainAmount(simulationTime)));
+
+			this.nextRainTime = simulationTime + weatherTimeline.getRainFrequencyTime(simulationTime);
+		}
+
+		// Waits (blocked) until the next event
+		long nextEventTime = Math.min(this.nextEpochTime, this.nextRainTime);
+
+		this.block(Math.max(1L, nextEventTime - worldAgent.getSimulationTime()));
 	}
-}
\ No newline at end of file
+}
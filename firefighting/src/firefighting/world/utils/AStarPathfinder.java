@@ -0,0 +1,200 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+
+/**
+ * Class responsible for the A* pathfinding (4-connected, with the Manhattan distance as heuristic)
+ * over the occupancy grid of the world's map/grid.
+ */
+public class AStarPathfinder implements GridPathfinder {
+
+	// Global Instance Variables:
+
+	/**
+	 * The occupancy grid of the world's map/grid.
+	 */
+	private final OccupancyGrid occupancyGrid;
+
+	/**
+	 * The costs (in the current stamp) of the cells.
+	 */
+	private final int[] costs;
+
+	/**
+	 * The parents (in the current stamp) of the cells.
+	 */
+	private final int[] parents;
+
+	/**
+	 * The stamps of the cells reached by the current search.
+	 */
+	private final int[] stamps;
+
+	/**
+	 * The stamps of the cells expanded by the current search.
+	 */
+	private final int[] closedStamps;
+
+	/**
+	 * The open set of the search.
+	 */
+	private final LongHeap open;
+
+	/**
+	 * The stamp of the current search.
+	 */
+	private int stamp;
+
+	/**
+	 * The number of nodes expanded by the last query.
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The peak size of the frontier of the last query.
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the A* pathfinder.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 */
+	public AStarPathfinder(OccupancyGrid occupancyGrid) {
+		this.occupancyGrid = occupancyGrid;
+
+		int numCells = occupancyGrid.getWidth() * occupancyGrid.getHeight();
+
+		this.costs = new int[numCells];
+		this.parents = new int[numCells];
+		this.stamps = new int[numCells];
+		this.closedStamps = new int[numCells];
+		this.open = new LongHeap(256);
+	}
+
+
+
+	// Methods:
+
+	@Override
+	public synchronized int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	@Override
+	public synchronized int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	@Override
+	public synchronized int getDistance(Point start, Point goal) {
+		int goalCell = (goal.x * this.occupancyGrid.getHeight()) + goal.y;
+
+		return this.search(start, goal) ? this.costs[goalCell] : -1;
+	}
+
+	@Override
+	public synchronized GridPath findPath(Point start, Point goal) {
+		int height = this.occupancyGrid.getHeight();
+
+		if(!this.search(start, goal)) {
+			return new GridPath(height);
+		}
+
+		int startCell = (start.x * height) + start.y;
+		int goalCell = (goal.x * height) + goal.y;
+
+		GridPath path = new GridPath(height, this.costs[goalCell]);
+
+		for(int cell = goalCell; cell != startCell; cell = this.parents[cell]) {
+			path.addCell(cell);
+		}
+
+		path.reverse(0);
+
+		return path;
+	}
+
+	/**
+	 * Searches the shortest path from a given start position to a given goal, by A*.
+	 *
+	 * @return true if the goal was reached and false, otherwise
+	 */
+	private boolean search(Point start, Point goal) {
+		int width = this.occupancyGrid.getWidth();
+		int height = this.occupancyGrid.getHeight();
+
+		int startCell = (start.x * height) + start.y;
+		int goalCell = (goal.x * height) + goal.y;
+
+		this.stamp++;
+		this.open.clear();
+
+		this.lastNumNodesExpanded = 0;
+		this.lastFrontierSize = 1;
+
+		this.stamps[startCell] = this.stamp;
+		this.costs[startCell] = 0;
+		this.open.add(LongHeap.key(Math.abs(start.x - goal.x) + Math.abs(start.y - goal.y), 0, startCell));
+
+		while(!this.open.isEmpty()) {
+			long key = this.open.poll();
+			int cell = LongHeap.cell(key);
+
+			if(this.closedStamps[cell] == this.stamp || LongHeap.cost(key) > this.costs[cell]) {
+				continue;
+			}
+
+			this.closedStamps[cell] = this.stamp;
+			this.lastNumNodesExpanded++;
+
+			if(cell == goalCell) {
+				return true;
+			}
+
+			int x = cell / height;
+			int y = cell % height;
+			int cost = this.costs[cell] + 1;
+
+			for(int move = 0; move < 4; move++) {
+				int nx = x + ((move == 0) ? -1 : (move == 1) ? 1 : 0);
+				int ny = y + ((move == 2) ? -1 : (move == 3) ? 1 : 0);
+
+				if(nx < 0 || nx >= width || ny < 0 || ny >= height) {
+					continue;
+				}
+
+				int neighbour = (nx * height) + ny;
+
+				if(this.occupancyGrid.isBlocked(neighbour) && neighbour != goalCell) {
+					continue;
+				}
+
+				if(this.stamps[neighbour] != this.stamp || cost < this.costs[neighbour]) {
+					this.stamps[neighbour] = this.stamp;
+					this.costs[neighbour] = cost;
+					this.parents[neighbour] = cell;
+
+					this.open.add(LongHeap.key(cost + Math.abs(nx - goal.x) + Math.abs(ny - goal.y), cost, neighbour));
+				}
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, this.open.size());
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+
+/**
+ * Class responsible for the plain BFS (4-connected) over the occupancy grid of the world's map/grid.
+ *
+ * It's the baseline of the pathfinding benchmark and, in the BFS mode (only kept for the small grids),
+ * the oracle of the static distances of the world, with its scratch arrays reused by all the queries.
+ */
+public class BreadthFirstSearchPathfinder implements GridPathfinder {
+
+	// Global Instance Variables:
+
+	/**
+	 * The occupancy grid of the world's map/grid.
+	 */
+	private final OccupancyGrid occupancyGrid;
+
+	/**
+	 * The parent of each cell visited by the last query.
+	 */
+	private final int[] parents;
+
+	/**
+	 * The stamp of the last query which visited each cell.
+	 */
+	private final int[] stamps;
+
+	/**
+	 * The queue of the cells to visit.
+	 */
+	private final int[] queue;
+
+	/**
+	 * The stamp of the last query.
+	 */
+	private int stamp;
+
+	/**
+	 * The number of nodes expanded by the last query.
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The peak size of the frontier of the last query.
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the BFS pathfinder.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 */
+	public BreadthFirstSearchPathfinder(OccupancyGrid occupancyGrid) {
+		this.occupancyGrid = occupancyGrid;
+
+		int numCells = occupancyGrid.getWidth() * occupancyGrid.getHeight();
+
+		this.parents = new int[numCells];
+		this.stamps = new int[numCells];
+		this.queue = new int[numCells];
+	}
+
+
+
+	// Methods:
+
+	@Override
+	public synchronized int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	@Override
+	public synchronized int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	@Override
+	public synchronized int getDistance(Point start, Point goal) {
+		GridPath path = this.findPath(start, goal);
+
+		return (path.isEmpty() && !start.equals(goal)) ? -1 : path.size();
+	}
+
+	@Override
+	public synchronized GridPath findPath(Point start, Point goal) {
+		int width = this.occupancyGrid.getWidth();
+		int height = this.occupancyGrid.getHeight();
+
+		int startCell = (start.x * height) + start.y;
+		int goalCell = (goal.x * height) + goal.y;
+
+		GridPath path = new GridPath(height);
+
+		this.stamp++;
+		this.lastNumNodesExpanded = 0;
+		this.lastFrontierSize = 1;
+
+		int head = 0;
+		int tail = 0;
+
+		this.queue[tail++] = startCell;
+		this.stamps[startCell] = this.stamp;
+
+		while(head < tail) {
+			int cell = this.queue[head++];
+
+			this.lastNumNodesExpanded++;
+
+			if(cell == goalCell) {
+				for(int c = goalCell; c != startCell; c = this.parents[c]) {
+					path.addCell(c);
+				}
+
+				path.reverse(0);
+
+				return path;
+			}
+
+			int x = cell / height;
+			int y = cell % height;
+
+			for(int move = 0; move < 4; move++) {
+				int nx = x + ((move == 0) ? -1 : (move == 1) ? 1 : 0);
+				int ny = y + ((move == 2) ? -1 : (move == 3) ? 1 : 0);
+
+				if(nx < 0 || nx >= width || ny < 0 || ny >= height) {
+					continue;
+				}
+
+				int neighbour = (nx * height) + ny;
+
+				if(this.stamps[neighbour] == this.stamp || (this.occupancyGrid.isBlocked(neighbour) && neighbour != goalCell)) {
+					continue;
+				}
+
+				this.stamps[neighbour] = this.stamp;
+				this.parents[neighbour] = cell;
+				this.queue[tail++] = neighbour;
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, tail - head);
+		}
+
+		return path;
+	}
+}
@@ -0,0 +1,285 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Class responsible for the heatmap of the fires' occurrences in the world's map/grid.
+ *
+ * Each cell keeps a heat, increased by each fire generated in it and decayed (geometrically) over time,
+ * so the heatmap follows the recent demand of fires. The heatmap gives the demand-weighted k-median positions
+ * of the world, from where the idle aircraft agents reach the next fires with the smallest expected travel.
+ */
+public class FireHeatmap {
+
+	// Constants:
+
+	/**
+	 * The minimum heat of a cell to be considered by the k-median positions.
+	 */
+	private static final float MIN_HEAT = 0.01f;
+
+	/**
+	 * The maximum number of iterations of the k-median positions.
+	 */
+	private static final int MAX_ITERATIONS = 10;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The width of the world's map/grid.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The heat of each cell (indexed by x * height + y).
+	 */
+	private final float[] heat;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the fire heatmap.
+	 *
+	 * Creates a new fire heatmap, where all the cells are cold.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public FireHeatmap(int width, int height) {
+		this.width = width;
+		this.height = height;
+
+		this.heat = new float[width * height];
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the heat of the cell in a given position.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return the heat of the cell in a given position
+	 */
+	public synchronized float getHeat(int x, int y) {
+		return this.heat[(x * this.height) + y];
+	}
+
+	/**
+	 * Records the occurrence of a fire in the cell in a given position.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void record(int x, int y) {
+		this.heat[(x * this.height) + y] += 1.0f;
+	}
+
+	/**
+	 * Decays the heat of all the cells by a given factor.
+	 *
+	 * @param decayFactor the factor of decay, from the set [0, 1]
+	 */
+	public synchronized void decay(float decayFactor) {
+		float[] heat = this.heat;
+
+		for(int cell = 0; cell < heat.length; cell++) {
+			heat[cell] *= decayFactor;
+		}
+	}
+
+	/**
+	 * Returns the demand-weighted k-median positions of the heatmap (in the Manhattan distance),
+	 * or null, if the heatmap is cold.
+	 *
+	 * The medians start in distinct hot cells (the hottest ones far from each other) and are improved by alternating
+	 * the assignment of the cells to their nearest median and the weighted median of the coordinates of each cluster.
+	 * There are never more medians than hot cells, so less than k medians can be returned.
+	 *
+	 * @param k the maximum number of medians
+	 *
+	 * @return the demand-weighted k-median positions of the heatmap (at most, one for each hot cell), or null, if the heatmap is cold
+	 */
+	public synchronized Point[] getKMedians(int k) {
+		if(k <= 0) {
+			return null;
+		}
+
+		// 1) The hot cells
+		int numHotCells = 0;
+
+		for(int cell = 0; cell < this.heat.length; cell++) {
+			if(this.heat[cell] >= MIN_HEAT) {
+				numHotCells++;
+			}
+		}
+
+		if(numHotCells == 0) {
+			return null;
+		}
+
+		// There are never more medians than hot cells (so the medians don't pile up on the same cells)
+		k = Math.min(k, numHotCells);
+
+		int[] xs = new int[numHotCells];
+		int[] ys = new int[numHotCells];
+		float[] ws = new float[numHotCells];
+
+		for(int cell = 0, c = 0; cell < this.heat.length; cell++) {
+			if(this.heat[cell] >= MIN_HEAT) {
+				xs[c] = cell / this.height;
+				ys[c] = cell % this.height;
+				ws[c] = this.heat[cell];
+				c++;
+			}
+		}
+
+		// 2) The initial medians, in distinct hot cells (the hottest cell, then the cells with the largest weighted
+		//    distance to the medians)
+		int[] medianXs = new int[k];
+		int[] medianYs = new int[k];
+		int[] nearestDistances = new int[numHotCells];
+		boolean[] seeded = new boolean[numHotCells];
+
+		for(int m = 0; m < k; m++) {
+			int best = -1;
+			float bestScore = -1.0f;
+
+			for(int c = 0; c < numHotCells; c++) {
+				if(seeded[c]) {
+					continue;
+				}
+
+				float score = (m == 0) ? ws[c] : ws[c] * nearestDistances[c];
+
+				if(score > bestScore) {
+					bestScore = score;
+					best = c;
+				}
+			}
+
+			seeded[best] = true;
+
+			medianXs[m] = xs[best];
+			medianYs[m] = ys[best];
+
+			for(int c = 0; c < numHotCells; c++) {
+				int distance = Math.abs(xs[c] - medianXs[m]) + Math.abs(ys[c] - medianYs[m]);
+
+				nearestDistances[c] = (m == 0) ? distance : Math.min(nearestDistances[c], distance);
+			}
+		}
+
+		// 3) The alternating improvement of the medians
+		float[][] weightsX = new float[k][this.width];
+		float[][] weightsY = new float[k][this.height];
+
+		for(int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			for(int m = 0; m < k; m++) {
+				Arrays.fill(weightsX[m], 0.0f);
+				Arrays.fill(weightsY[m], 0.0f);
+			}
+
+			// Assigns each hot cell to its nearest median
+			for(int c = 0; c < numHotCells; c++) {
+				int nearest = 0;
+				int nearestDistance = Integer.MAX_VALUE;
+
+				for(int m = 0; m < k; m++) {
+					int distance = Math.abs(xs[c] - medianXs[m]) + Math.abs(ys[c] - medianYs[m]);
+
+					if(distance < nearestDistance) {
+						nearestDistance = distance;
+						nearest = m;
+					}
+				}
+
+				weightsX[nearest][xs[c]] += ws[c];
+				weightsY[nearest][ys[c]] += ws[c];
+			}
+
+			// Moves each median to the weighted median of the coordinates of its cluster
+			boolean moved = false;
+
+			for(int m = 0; m < k; m++) {
+				int medianX = weightedMedian(weightsX[m], medianXs[m]);
+				int medianY = weightedMedian(weightsY[m], medianYs[m]);
+
+				if(medianX != medianXs[m] || medianY != medianYs[m]) {
+					medianXs[m] = medianX;
+					medianYs[m] = medianY;
+
+					moved = true;
+				}
+			}
+
+			if(!moved) {
+				break;
+			}
+		}
+
+		Point[] medians = new Point[k];
+
+		for(int m = 0; m < k; m++) {
+			medians[m] = new Point(medianXs[m], medianYs[m]);
+		}
+
+		return medians;
+	}
+
+	/**
+	 * Returns the weighted median of the coordinates, given the total weight of each coordinate,
+	 * or a given default coordinate, if there's no weight.
+	 *
+	 * @param weights the total weight of each coordinate
+	 * @param defaultCoordinate the default coordinate
+	 *
+	 * @return the weighted median of the coordinates
+	 */
+	private static int weightedMedian(float[] weights, int defaultCoordinate) {
+		float totalWeight = 0.0f;
+
+		for(int i = 0; i < weights.length; i++) {
+			totalWeight += weights[i];
+		}
+
+		if(totalWeight <= 0.0f) {
+			return defaultCoordinate;
+		}
+
+		float halfWeight = totalWeight / 2.0f;
+		float cumulativeWeight = 0.0f;
+
+		for(int i = 0; i < weights.length; i++) {
+			cumulativeWeight += weights[i];
+
+			if(cumulativeWeight >= halfWeight) {
+				return i;
+			}
+		}
+
+		return weights.length - 1;
+	}
+}
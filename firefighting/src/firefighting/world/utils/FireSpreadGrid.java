@@ -0,0 +1,371 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.util.SplittableRandom;
+
+import firefighting.world.utils.environment.WindDirection;
+
+/**
+ * Class responsible for the cellular automaton of the fire spreading over the world's map/grid.
+ *
+ * The burning, fuel and burnt cells are kept as packed bitsets (one bit for each cell, row by row,
+ * with each row padded to a whole number of 64 bits words), so the neighbours of all the burning cells
+ * are computed with word-level shifts and masks, and a spread step only touches the words of the fire fronts.
+ */
+public class FireSpreadGrid {
+
+	// Constants:
+
+	/**
+	 * The number of bits of the fixed point representation of the spread probabilities.
+	 */
+	public static final int PROBABILITY_BITS = 8;
+
+	/**
+	 * The fixed point representation of the probability 1 (100%).
+	 */
+	public static final int PROBABILITY_ONE = 1 << PROBABILITY_BITS;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The width of the world's map/grid.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The number of 64 bits words of each row of the world's map/grid.
+	 */
+	private final int wordsPerRow;
+
+	/**
+	 * The bitset of the burning cells.
+	 */
+	private final long[] burning;
+
+	/**
+	 * The bitset of the cells with fuel (that can still be ignited).
+	 */
+	private final long[] fuel;
+
+	/**
+	 * The bitset of the burnt cells (where a fire was already extinguished).
+	 */
+	private final long[] burnt;
+
+	/**
+	 * The bitset of the cells ignited by the current spread step.
+	 */
+	private final long[] ignitions;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the fire spread grid.
+	 *
+	 * Creates a new fire spread grid, where all the cells have fuel and none is burning.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public FireSpreadGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+
+		int numWords = this.wordsPerRow * height;
+
+		this.burning = new long[numWords];
+		this.fuel = new long[numWords];
+		this.burnt = new long[numWords];
+		this.ignitions = new long[numWords];
+
+		// All the cells of each row have fuel, except the padding bits of its last word
+		long lastWordMask = (width & 63) == 0 ? -1L : ((1L << (width & 63)) - 1);
+
+		for(int row = 0; row < height; row++) {
+			for(int w = 0; w < this.wordsPerRow; w++) {
+				this.fuel[(row * this.wordsPerRow) + w] = (w == this.wordsPerRow - 1) ? lastWordMask : -1L;
+			}
+		}
+	}
+
+
+
+	// Basic methods:
+
+	/**
+	 * Returns the width of the world's map/grid.
+	 *
+	 * @return the width of the world's map/grid
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Returns the height of the world's map/grid.
+	 *
+	 * @return the height of the world's map/grid
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	private int wordIndex(int x, int y) {
+		return (y * this.wordsPerRow) + (x >>> 6);
+	}
+
+	/**
+	 * Returns true if a given cell is burning and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell is burning and false, otherwise
+	 */
+	public synchronized boolean isBurning(int x, int y) {
+		return (this.burning[this.wordIndex(x, y)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Returns true if a given cell has fuel (can still be ignited) and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell has fuel and false, otherwise
+	 */
+	public synchronized boolean hasFuel(int x, int y) {
+		return (this.fuel[this.wordIndex(x, y)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Returns true if a given cell is burnt and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell is burnt and false, otherwise
+	 */
+	public synchronized boolean isBurnt(int x, int y) {
+		return (this.burnt[this.wordIndex(x, y)] & (1L << x)) != 0;
+	}
+
+	/**
+	 * Returns the current number of burning cells.
+	 *
+	 * @return the current number of burning cells
+	 */
+	public synchronized int getNumBurningCells() {
+		int numBurningCells = 0;
+
+		for(int i = 0; i < this.burning.length; i++) {
+			numBurningCells += Long.bitCount(this.burning[i]);
+		}
+
+		return numBurningCells;
+	}
+
+	/**
+	 * Marks a given cell as burning (a fire was placed in it).
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void setBurning(int x, int y) {
+		int i = this.wordIndex(x, y);
+		long bit = 1L << x;
+
+		this.burning[i] |= bit;
+		this.fuel[i] &= ~bit;
+		this.burnt[i] &= ~bit;
+	}
+
+	/**
+	 * Marks a given cell as burnt (its fire was extinguished), so it can't be ignited again by spreading.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void setBurnt(int x, int y) {
+		int i = this.wordIndex(x, y);
+		long bit = 1L << x;
+
+		this.burning[i] &= ~bit;
+		this.fuel[i] &= ~bit;
+		this.burnt[i] |= bit;
+	}
+
+	/**
+	 * Removes the fuel of a given cell (e.g., a cell of a water resource or of the fire station),
+	 * so it can never be ignited by spreading.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void removeFuel(int x, int y) {
+		this.fuel[this.wordIndex(x, y)] &= ~(1L << x);
+	}
+
+
+
+	// Spread methods:
+
+	/**
+	 * Converts a given probability, from the set [0, 1], to its fixed point representation.
+	 *
+	 * @param probability the probability, from the set [0, 1]
+	 *
+	 * @return the fixed point representation of the given probability
+	 */
+	public static int toFixedPointProbability(double probability) {
+		return (int) Math.round(Math.min(Math.max(probability, 0.0), 1.0) * PROBABILITY_ONE);
+	}
+
+	/**
+	 * Returns a random word where each bit is set, independently, with a given probability.
+	 *
+	 * The probability's bits are consumed from the least to the most significant one,
+	 * combining a new random word by OR (for each bit set) or AND (for each bit not set),
+	 * without branching.
+	 *
+	 * @param random the random numbers' generator
+	 * @param fixedPointProbability the fixed point representation of the probability
+	 *
+	 * @return a random word where each bit is set with the given probability
+	 */
+	static long randomMask(SplittableRandom random, int fixedPointProbability) {
+		if(fixedPointProbability <= 0) {
+			return 0L;
+		}
+
+		if(fixedPointProbability >= PROBABILITY_ONE) {
+			return -1L;
+		}
+
+		long mask = 0L;
+
+		for(int b = Integer.numberOfTrailingZeros(fixedPointProbability | PROBABILITY_ONE); b < PROBABILITY_BITS; b++) {
+			long randomWord = random.nextLong();
+			long select = -((fixedPointProbability >>> b) & 1L);
+
+			mask = (randomWord & mask) | ((randomWord | mask) & select);
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Makes a spread step: every cell with fuel, neighbour (up, down, left or right) of a burning cell,
+	 * is ignited with the probability of spreading in that direction, given by a spread kernel,
+	 * and the given ignition handler decides if each ignition takes place.
+	 *
+	 * All the ignitions are computed from the burning cells before the step,
+	 * so the fire fronts advance at most one cell for each step.
+	 *
+	 * @param random the random numbers' generator
+	 * @param spreadKernel the fixed point probabilities of spreading to the north, east, south and west (indexed by the wind directions' ids)
+	 * @param ignitionHandler the ignition handler, that places the new fires in the world
+	 *
+	 * @return the number of cells ignited by the spread step
+	 */
+	public synchronized int spread(SplittableRandom random, int[] spreadKernel, IgnitionHandler ignitionHandler) {
+		int northProbability = spreadKernel[WindDirection.NORTH.getID()];
+		int eastProbability = spreadKernel[WindDirection.EAST.getID()];
+		int southProbability = spreadKernel[WindDirection.SOUTH.getID()];
+		int westProbability = spreadKernel[WindDirection.WEST.getID()];
+
+		int lastWord = this.wordsPerRow - 1;
+		int lastRow = this.height - 1;
+
+		// 1) Compute the ignited cells, word by word
+		for(int row = 0, i = 0; row <= lastRow; row++) {
+			for(int w = 0; w <= lastWord; w++, i++) {
+				long burningWord = this.burning[i];
+
+				// The neighbours at left and right, carrying the bits across the words of the row
+				long fromLeft = (burningWord << 1) | (w > 0 ? (this.burning[i - 1] >>> 63) : 0L);
+				long fromRight = (burningWord >>> 1) | (w < lastWord ? (this.burning[i + 1] << 63) : 0L);
+
+				// The neighbours above (north) and below (south), from the same word of the adjacent rows
+				long fromAbove = row > 0 ? this.burning[i - this.wordsPerRow] : 0L;
+				long fromBelow = row < lastRow ? this.burning[i + this.wordsPerRow] : 0L;
+
+				long candidates = (fromLeft | fromRight | fromAbove | fromBelow) & this.fuel[i];
+
+				if(candidates == 0L) {
+					this.ignitions[i] = 0L;
+					continue;
+				}
+
+				// Each burning neighbour tries to ignite the cell with the probability of its own direction of spreading
+				long spreadToEast = fromLeft & randomMask(random, eastProbability);
+				long spreadToWest = fromRight & randomMask(random, westProbability);
+				long spreadToNorth = fromBelow & randomMask(random, northProbability);
+				long spreadToSouth = fromAbove & randomMask(random, southProbability);
+
+				this.ignitions[i] = (spreadToEast | spreadToWest | spreadToNorth | spreadToSouth) & this.fuel[i];
+			}
+		}
+
+		// 2) Apply the ignited cells, placing the new fires in the world
+		int numIgnitions = 0;
+
+		for(int i = 0; i < this.ignitions.length; i++) {
+			long ignitionsWord = this.ignitions[i];
+
+			while(ignitionsWord != 0L) {
+				int bit = Long.numberOfTrailingZeros(ignitionsWord);
+				ignitionsWord &= ignitionsWord - 1;
+
+				int x = ((i % this.wordsPerRow) << 6) + bit;
+				int y = i / this.wordsPerRow;
+
+				if(ignitionHandler.ignite(x, y)) {
+					this.setBurning(x, y);
+					numIgnitions++;
+				}
+			}
+		}
+
+		return numIgnitions;
+	}
+
+
+
+	// Inner interfaces:
+
+	/**
+	 * Interface responsible for placing the new fires of the ignited cells in the world.
+	 */
+	public interface IgnitionHandler {
+
+		/**
+		 * Places a new fire in an ignited cell, if it's possible.
+		 *
+		 * @param x the coordinate X of the ignited cell
+		 * @param y the coordinate Y of the ignited cell
+		 *
+		 * @return true if the new fire was placed in the ignited cell and false, otherwise
+		 */
+		boolean ignite(int x, int y);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import firefighting.utils.Config;
+import firefighting.world.utils.environment.SeasonType;
+import firefighting.world.utils.environment.WindDirection;
+import firefighting.world.utils.environment.WindType;
+
+/**
+ * Class responsible for the precomputed table of the spread kernels of the fires.
+ *
+ * For each combination of wind type, wind direction and season type, the kernel keeps the (fixed point)
+ * probability of a burning cell igniting its neighbour cell in each direction (indexed by the wind directions' ids),
+ * so a spread step only looks up the kernel once and applies it to all the cells, without branching.
+ */
+public class FireSpreadKernel {
+
+	// Global Instance Variables:
+
+	/**
+	 * The table of the spread kernels, indexed by wind type, wind direction and season type.
+	 */
+	private final int[][] kernels;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the fire spread kernel.
+	 *
+	 * Precomputes the spread kernels for all the combinations of wind type, wind direction and season type.
+	 *
+	 * @param baseSpreadProbability the probability of spreading to a neighbour cell, without wind, in a season with factor 1
+	 */
+	public FireSpreadKernel(double baseSpreadProbability) {
+		WindType[] windTypes = WindType.values();
+		WindDirection[] windDirections = WindDirection.values();
+		SeasonType[] seasonTypes = SeasonType.values();
+
+		this.kernels = new int[windTypes.length * windDirections.length * seasonTypes.length][];
+
+		for(WindType windType : windTypes) {
+			for(WindDirection windDirection : windDirections) {
+				for(SeasonType seasonType : seasonTypes) {
+					int[] kernel = new int[windDirections.length];
+
+					double seasonProbability = baseSpreadProbability * seasonType.getFireSpreadFactor();
+					double windFactor = 1.0 + windType.getFireSpreadWindFactor();
+
+					for(WindDirection spreadDirection : windDirections) {
+						double spreadProbability = seasonProbability;
+
+						// Downwind spreads faster and upwind slower, while crosswind isn't affected
+						if(spreadDirection == windDirection) {
+							spreadProbability *= windFactor;
+						}
+						else if(spreadDirection == windDirection.getOpposite()) {
+							spreadProbability /= windFactor;
+						}
+
+						kernel[spreadDirection.getID()] = FireSpreadGrid.toFixedPointProbability(spreadProbability);
+					}
+
+					this.kernels[index(windType, windDirection, seasonType)] = kernel;
+				}
+			}
+		}
+	}
+
+
+
+	// Methods:
+
+	private static int index(WindType windType, WindDirection windDirection, SeasonType seasonType) {
+		return (((windType.getID() * Config.NUM_WIND_DIRECTIONS) + windDirection.getID()) * Config.NUM_SEASONS) + seasonType.getID();
+	}
+
+	/**
+	 * Returns the spread kernel for a given wind type, wind direction and season type:
+	 * the (fixed point) probabilities of spreading in each direction, indexed by the wind directions' ids.
+	 *
+	 * @param windType the current wind type
+	 * @param windDirection the current wind direction
+	 * @param seasonType the current season type
+	 *
+	 * @return the spread kernel for a given wind type, wind direction and season type
+	 */
+	public int[] getKernel(WindType windType, WindDirection windDirection, SeasonType seasonType) {
+		return this.kernels[index(windType, windDirection, seasonType)];
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Class responsible for the flow field of a target of the world's map/grid (e.g., a fire or a water resource).
+ *
+ * The flow field is built by a single reverse BFS (4-connected) from the target, over a given version of
+ * the occupancy grid, keeping, for each cell, its distance to the target and the direction of its next step
+ * towards it. Any number of aircraft agents then follow the flow field from their positions in O(1) by step,
+ * without searching their own paths. The target itself can be a static obstacle (the paths end in it).
+ */
+public class FlowField {
+
+	// Constants:
+
+	/**
+	 * The moves to the neighbour cells (up, down, left and right), indexed by the directions of the flow field.
+	 */
+	private static final int[][] MOVES = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	/**
+	 * The direction of the cells without next step (the target and the unreachable cells).
+	 */
+	private static final byte NO_DIRECTION = -1;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The target of the flow field.
+	 */
+	private final Point target;
+
+	/**
+	 * The version of the occupancy grid from which the flow field was built.
+	 */
+	private final int version;
+
+	/**
+	 * The distances of the cells to the target (-1, if unreachable).
+	 */
+	private final int[] distances;
+
+	/**
+	 * The directions of the next steps of the cells towards the target.
+	 */
+	private final byte[] directions;
+
+	/**
+	 * The number of cells visited by the reverse BFS which built the flow field.
+	 */
+	private final int numCellsVisited;
+
+	/**
+	 * The peak size of the queue of the reverse BFS which built the flow field.
+	 */
+	private final int maxQueueSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the flow field.
+	 *
+	 * Builds the flow field of a given target, by a reverse BFS over the current version of a given occupancy grid.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 * @param target the target of the flow field
+	 */
+	public FlowField(OccupancyGrid occupancyGrid, Point target) {
+		int width = occupancyGrid.getWidth();
+
+		this.height = occupancyGrid.getHeight();
+		this.target = new Point(target);
+		this.version = occupancyGrid.getVersion();
+
+		this.distances = new int[width * this.height];
+		this.directions = new byte[width * this.height];
+
+		Arrays.fill(this.distances, -1);
+		Arrays.fill(this.directions, NO_DIRECTION);
+
+		int[] queue = new int[width * this.height];
+		int head = 0;
+		int tail = 0;
+		int maxQueueSize = 1;
+
+		int targetCell = (target.x * this.height) + target.y;
+
+		this.distances[targetCell] = 0;
+		queue[tail++] = targetCell;
+
+		while(head < tail) {
+			int cell = queue[head++];
+
+			int x = cell / this.height;
+			int y = cell % this.height;
+
+			for(byte direction = 0; direction < MOVES.length; direction++) {
+				int nx = x + MOVES[direction][0];
+				int ny = y + MOVES[direction][1];
+
+				if(nx < 0 || nx >= width || ny < 0 || ny >= this.height) {
+					continue;
+				}
+
+				int neighbour = (nx * this.height) + ny;
+
+				if(this.distances[neighbour] >= 0 || occupancyGrid.isBlocked(neighbour)) {
+					continue;
+				}
+
+				this.distances[neighbour] = this.distances[cell] + 1;
+
+				// The neighbour steps back, in the opposite move (0 <-> 1 and 2 <-> 3)
+				this.directions[neighbour] = (byte) (direction ^ 1);
+
+				queue[tail++] = neighbour;
+			}
+
+			maxQueueSize = Math.max(maxQueueSize, tail - head);
+		}
+
+		this.numCellsVisited = tail;
+		this.maxQueueSize = maxQueueSize;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the target of the flow field.
+	 *
+	 * @return the target of the flow field
+	 */
+	public Point getTarget() {
+		return this.target;
+	}
+
+	/**
+	 * Returns the version of the occupancy grid from which the flow field was built.
+	 *
+	 * @return the version of the occupancy grid from which the flow field was built
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Returns the number of cells visited by the reverse BFS which built the flow field.
+	 *
+	 * @return the number of cells visited by the reverse BFS which built the flow field
+	 */
+	public int getNumCellsVisited() {
+		return this.numCellsVisited;
+	}
+
+	/**
+	 * Returns the peak size of the queue of the reverse BFS which built the flow field.
+	 *
+	 * @return the peak size of the queue of the reverse BFS which built the flow field
+	 */
+	public int getMaxQueueSize() {
+		return this.maxQueueSize;
+	}
+
+	/**
+	 * Returns the distance of a given cell to the target, or -1, if the target is unreachable from it.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return the distance of a given cell to the target, or -1, if the target is unreachable from it
+	 */
+	public int getDistance(int x, int y) {
+		return this.distances[(x * this.height) + y];
+	}
+
+	/**
+	 * Returns the cell id (indexed by x * height + y) of the next step from a given cell towards the target,
+	 * or -1, if it's the target or the target is unreachable from it.
+	 *
+	 * @param cell the cell id
+	 *
+	 * @return the cell id of the next step from a given cell towards the target, or -1
+	 */
+	public int getNextCell(int cell) {
+		byte direction = this.directions[cell];
+
+		if(direction == NO_DIRECTION) {
+			return -1;
+		}
+
+		return cell + (MOVES[direction][0] * this.height) + MOVES[direction][1];
+	}
+
+	/**
+	 * Returns the path from a given start position to the target, following the flow field, in a compact path
+	 * with the positions after the start until the target, or an empty path, if the target is unreachable.
+	 *
+	 * @param start the start position
+	 *
+	 * @return the path from a given start position to the target, or an empty path, if the target is unreachable
+	 */
+	public GridPath getPath(Point start) {
+		int cell = (start.x * this.height) + start.y;
+
+		GridPath path = new GridPath(this.height, Math.max(this.distances[cell], 0));
+
+		for(cell = this.getNextCell(cell); cell >= 0; cell = this.getNextCell(cell)) {
+			path.addCell(cell);
+		}
+
+		return path;
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class responsible for the flow-field routing over the occupancy grid of the world's map/grid, for the aircraft agents
+ * converging on the same targets (the fires and the water resources).
+ *
+ * The flow fields of the hot targets are kept in a LRU cache (a linked hash map in access order), keyed by their cells,
+ * so the reverse BFS of each target is paid once by the first query, for any number of aircraft agents, until
+ * the occupancy grid changes. Each spawn, spread or extinguishment of a fire changes the occupancy grid, so all
+ * the cached flow fields are rebuilt, on their next queries, after any of them (they're only shared between
+ * two versions of the occupancy grid). The flow fields of the targets gone cold are evicted by the most recent ones,
+ * or directly, when their targets are removed (e.g., an extinguished fire).
+ */
+public class FlowFieldPathfinder implements GridPathfinder {
+
+	// Global Instance Variables:
+
+	/**
+	 * The occupancy grid of the world's map/grid.
+	 */
+	private final OccupancyGrid occupancyGrid;
+
+	/**
+	 * The flow fields of the hot targets, keyed by their cells, in the order of their last access.
+	 */
+	private final LinkedHashMap<Integer, FlowField> flowFields;
+
+	/**
+	 * The number of queries answered by a cached flow field.
+	 */
+	private long numFlowFieldsReused;
+
+	/**
+	 * The number of flow fields built.
+	 */
+	private long numFlowFieldsBuilt;
+
+	/**
+	 * The number of nodes expanded by the last query (only by the ones building a flow field).
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The peak size of the frontier of the last query (only by the ones building a flow field).
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the flow-field pathfinder.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 * @param capacity the maximum number of flow fields kept in the cache
+	 */
+	@SuppressWarnings("serial")
+	public FlowFieldPathfinder(OccupancyGrid occupancyGrid, final int capacity) {
+		this.occupancyGrid = occupancyGrid;
+
+		this.flowFields = new LinkedHashMap<Integer, FlowField>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, FlowField> eldest) {
+				return this.size() > capacity;
+			}
+		};
+	}
+
+
+
+	// Methods:
+
+	@Override
+	public synchronized int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	@Override
+	public synchronized int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	/**
+	 * Returns the number of queries answered by a cached flow field.
+	 *
+	 * @return the number of queries answered by a cached flow field
+	 */
+	public synchronized long getNumFlowFieldsReused() {
+		return this.numFlowFieldsReused;
+	}
+
+	/**
+	 * Returns the number of flow fields built.
+	 *
+	 * @return the number of flow fields built
+	 */
+	public synchronized long getNumFlowFieldsBuilt() {
+		return this.numFlowFieldsBuilt;
+	}
+
+	/**
+	 * Returns the flow field of a given target, from the cache or, if it's missing or built from an older version
+	 * of the occupancy grid, built by a reverse BFS (by the first of the concurrent queries, reused by the others).
+	 *
+	 * @param target the target
+	 *
+	 * @return the flow field of a given target
+	 */
+	public synchronized FlowField getFlowField(Point target) {
+		int targetCell = (target.x * this.occupancyGrid.getHeight()) + target.y;
+
+		FlowField flowField = this.flowFields.get(targetCell);
+
+		if(flowField != null && flowField.getVersion() == this.occupancyGrid.getVersion()) {
+			this.numFlowFieldsReused++;
+
+			this.lastNumNodesExpanded = 0;
+			this.lastFrontierSize = 0;
+
+			return flowField;
+		}
+
+		flowField = new FlowField(this.occupancyGrid, target);
+
+		this.flowFields.put(targetCell, flowField);
+		this.numFlowFieldsBuilt++;
+
+		this.lastNumNodesExpanded = flowField.getNumCellsVisited();
+		this.lastFrontierSize = flowField.getMaxQueueSize();
+
+		return flowField;
+	}
+
+	/**
+	 * Evicts the flow field of a given target, gone cold (e.g., an extinguished fire), if it's in the cache.
+	 *
+	 * @param target the target
+	 */
+	public synchronized void evict(Point target) {
+		this.flowFields.remove((target.x * this.occupancyGrid.getHeight()) + target.y);
+	}
+
+	@Override
+	public synchronized int getDistance(Point start, Point goal) {
+		return this.getFlowField(goal).getDistance(start.x, start.y);
+	}
+
+	@Override
+	public synchronized GridPath findPath(Point start, Point goal) {
+		return this.getFlowField(goal).getPath(start);
+	}
+}
@@ -0,0 +1,208 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class responsible for sampling, uniformly and in constant time, the free cells of the world's map/grid.
+ *
+ * The ids of the free cells are kept in a dense array, with an index of the position of each cell in it,
+ * so occupying or releasing a cell swaps it with the last free cell (swap-remove) and sampling a free cell
+ * only picks a random position of the array, regardless of the occupancy of the world.
+ * Since several objects can share a cell (e.g., an aircraft over a fire), each cell keeps a count of its occupants.
+ */
+public class FreeCellSampler {
+
+	// Global Instance Variables:
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The ids of the free cells (from 0 to the number of free cells).
+	 */
+	private final int[] freeCells;
+
+	/**
+	 * The position of each cell in the array of the free cells, or -1, if it's occupied.
+	 */
+	private final int[] freeCellsIndex;
+
+	/**
+	 * The number of occupants of each cell.
+	 */
+	private final int[] numOccupants;
+
+	/**
+	 * The current number of free cells.
+	 */
+	private int numFreeCells;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the free cell sampler.
+	 *
+	 * Creates a new free cell sampler, where all the cells are free.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public FreeCellSampler(int width, int height) {
+		int numCells = width * height;
+
+		this.height = height;
+
+		this.freeCells = new int[numCells];
+		this.freeCellsIndex = new int[numCells];
+		this.numOccupants = new int[numCells];
+
+		for(int cell = 0; cell < numCells; cell++) {
+			this.freeCells[cell] = cell;
+			this.freeCellsIndex[cell] = cell;
+		}
+
+		this.numFreeCells = numCells;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the id of the cell in a given position of the world's map/grid.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return the id of the cell in a given position of the world's map/grid
+	 */
+	public int getCell(int x, int y) {
+		return (x * this.height) + y;
+	}
+
+	/**
+	 * Returns the coordinate X of a given cell.
+	 *
+	 * @param cell the id of the cell
+	 *
+	 * @return the coordinate X of a given cell
+	 */
+	public int getX(int cell) {
+		return cell / this.height;
+	}
+
+	/**
+	 * Returns the coordinate Y of a given cell.
+	 *
+	 * @param cell the id of the cell
+	 *
+	 * @return the coordinate Y of a given cell
+	 */
+	public int getY(int cell) {
+		return cell % this.height;
+	}
+
+	/**
+	 * Returns the current number of free cells.
+	 *
+	 * @return the current number of free cells
+	 */
+	public synchronized int getNumFreeCells() {
+		return this.numFreeCells;
+	}
+
+	/**
+	 * Returns true if the cell in a given position has no occupants and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if the cell in a given position has no occupants and false, otherwise
+	 */
+	public synchronized boolean isFree(int x, int y) {
+		return this.numOccupants[this.getCell(x, y)] == 0;
+	}
+
+	/**
+	 * Adds an occupant to the cell in a given position, removing it from the free cells, if it was free.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void occupy(int x, int y) {
+		int cell = this.getCell(x, y);
+
+		if(this.numOccupants[cell]++ > 0) {
+			return;
+		}
+
+		// Swap-remove of the cell from the free cells
+		int index = this.freeCellsIndex[cell];
+		int lastFreeCell = this.freeCells[--this.numFreeCells];
+
+		this.freeCells[index] = lastFreeCell;
+		this.freeCellsIndex[lastFreeCell] = index;
+
+		this.freeCellsIndex[cell] = -1;
+	}
+
+	/**
+	 * Removes an occupant from the cell in a given position, adding it to the free cells, if it has no more occupants.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void release(int x, int y) {
+		int cell = this.getCell(x, y);
+
+		if(this.numOccupants[cell] == 0 || --this.numOccupants[cell] > 0) {
+			return;
+		}
+
+		this.freeCells[this.numFreeCells] = cell;
+		this.freeCellsIndex[cell] = this.numFreeCells;
+
+		this.numFreeCells++;
+	}
+
+	/**
+	 * Moves an occupant from the cell in a given position to the cell in another position.
+	 *
+	 * @param fromX the coordinate X of the current cell
+	 * @param fromY the coordinate Y of the current cell
+	 * @param toX the coordinate X of the new cell
+	 * @param toY the coordinate Y of the new cell
+	 */
+	public synchronized void move(int fromX, int fromY, int toX, int toY) {
+		this.occupy(toX, toY);
+		this.release(fromX, fromY);
+	}
+
+	/**
+	 * Returns a free cell, chosen uniformly at random, or -1, if there are no free cells.
+	 *
+	 * @param random the random numbers' generator
+	 *
+	 * @return a free cell, chosen uniformly at random, or -1, if there are no free cells
+	 */
+	public synchronized int sample(SplittableRandom random) {
+		if(this.numFreeCells == 0) {
+			return -1;
+		}
+
+		return this.freeCells[random.nextInt(this.numFreeCells)];
+	}
+}
@@ -0,0 +1,294 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Class responsible for a compact path in the world's map/grid, backed by a growable array of packed cell ids
+ * (indexed by x * height + y), instead of a list of boxed and mutable points.
+ *
+ * Each step takes 4 bytes, instead of a reference and a point (of about 24 bytes), and the coordinates of its steps
+ * are read by index or by a cursor, without any allocation.
+ */
+public class GridPath {
+
+	// Constants:
+
+	/**
+	 * The default capacity of the array of cell ids.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The cell ids of the steps of the path.
+	 */
+	private int[] cells;
+
+	/**
+	 * The number of steps of the path.
+	 */
+	private int size;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the path.
+	 *
+	 * Creates a new empty path.
+	 *
+	 * @param height the height of the world's map/grid
+	 */
+	public GridPath(int height) {
+		this(height, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor #2 of the path.
+	 *
+	 * Creates a new empty path, with a given initial capacity.
+	 *
+	 * @param height the height of the world's map/grid
+	 * @param capacity the initial capacity of the path
+	 */
+	public GridPath(int height, int capacity) {
+		this.height = height;
+		this.cells = new int[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Constructor #3 of the path.
+	 *
+	 * Creates a new path with the given cell ids (the array is kept by the path, without being copied).
+	 *
+	 * @param height the height of the world's map/grid
+	 * @param cells the cell ids of the steps of the path
+	 */
+	public GridPath(int height, int[] cells) {
+		this.height = height;
+		this.cells = cells;
+		this.size = cells.length;
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the number of steps of the path.
+	 *
+	 * @return the number of steps of the path
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns true if the path has no steps and false, otherwise.
+	 *
+	 * @return true if the path has no steps and false, otherwise
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Returns the cell id of the step in a given index of the path.
+	 *
+	 * @param index the index of the step
+	 *
+	 * @return the cell id of the step in a given index of the path
+	 */
+	public int getCell(int index) {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+
+		return this.cells[index];
+	}
+
+	/**
+	 * Returns the coordinate X of the step in a given index of the path.
+	 *
+	 * @param index the index of the step
+	 *
+	 * @return the coordinate X of the step in a given index of the path
+	 */
+	public int getX(int index) {
+		return this.getCell(index) / this.height;
+	}
+
+	/**
+	 * Returns the coordinate Y of the step in a given index of the path.
+	 *
+	 * @param index the index of the step
+	 *
+	 * @return the coordinate Y of the step in a given index of the path
+	 */
+	public int getY(int index) {
+		return this.getCell(index) % this.height;
+	}
+
+	/**
+	 * Returns a new point with the position of the step in a given index of the path.
+	 *
+	 * @param index the index of the step
+	 *
+	 * @return a new point with the position of the step in a given index of the path
+	 */
+	public Point getPoint(int index) {
+		int cell = this.getCell(index);
+
+		return new Point(cell / this.height, cell % this.height);
+	}
+
+	/**
+	 * Adds a new step, in a given position, to the end of the path.
+	 *
+	 * @param x the coordinate X of the step
+	 * @param y the coordinate Y of the step
+	 */
+	public void add(int x, int y) {
+		this.addCell((x * this.height) + y);
+	}
+
+	/**
+	 * Adds a new step, in a given cell id, to the end of the path.
+	 *
+	 * @param cell the cell id of the step
+	 */
+	public void addCell(int cell) {
+		if(this.size == this.cells.length) {
+			this.cells = Arrays.copyOf(this.cells, Math.max(this.cells.length * 2, DEFAULT_CAPACITY));
+		}
+
+		this.cells[this.size++] = cell;
+	}
+
+	/**
+	 * Removes the last step of the path, if there's any.
+	 */
+	public void removeLast() {
+		if(this.size > 0) {
+			this.size--;
+		}
+	}
+
+	/**
+	 * Reverses the order of the steps of the path, from a given index until its end.
+	 *
+	 * @param fromIndex the index of the first step to be reversed
+	 */
+	public void reverse(int fromIndex) {
+		for(int i = fromIndex, j = this.size - 1; i < j; i++, j--) {
+			int cell = this.cells[i];
+
+			this.cells[i] = this.cells[j];
+			this.cells[j] = cell;
+		}
+	}
+
+	/**
+	 * Returns a copy of the cell ids of the steps of the path.
+	 *
+	 * @return a copy of the cell ids of the steps of the path
+	 */
+	public int[] toCellArray() {
+		return Arrays.copyOf(this.cells, this.size);
+	}
+
+	/**
+	 * Returns a new cursor over the steps of the path, from its start.
+	 *
+	 * @return a new cursor over the steps of the path
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder("[");
+
+		for(int s = 0; s < this.size; s++) {
+			stringBuilder.append((s > 0) ? ", (" : "(").append(this.getX(s)).append(", ").append(this.getY(s)).append(')');
+		}
+
+		return stringBuilder.append(']').toString();
+	}
+
+	/**
+	 * Class responsible for a cursor over the steps of a path, yielding their coordinates without any allocation.
+	 */
+	public class Cursor {
+
+		/**
+		 * The index of the current step (-1, before the first one).
+		 */
+		private int index = -1;
+
+		private Cursor() {
+		}
+
+		/**
+		 * Advances to the next step of the path, if there's one.
+		 *
+		 * @return true if the cursor advanced to the next step and false, if there are no more steps
+		 */
+		public boolean next() {
+			if(this.index + 1 >= GridPath.this.size) {
+				return false;
+			}
+
+			this.index++;
+
+			return true;
+		}
+
+		/**
+		 * Returns the index of the current step.
+		 *
+		 * @return the index of the current step
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Returns the coordinate X of the current step.
+		 *
+		 * @return the coordinate X of the current step
+		 */
+		public int getX() {
+			return GridPath.this.cells[this.index] / GridPath.this.height;
+		}
+
+		/**
+		 * Returns the coordinate Y of the current step.
+		 *
+		 * @return the coordinate Y of the current step
+		 */
+		public int getY() {
+			return GridPath.this.cells[this.index] % GridPath.this.height;
+		}
+	}
+}
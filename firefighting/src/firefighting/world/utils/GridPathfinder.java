@@ -0,0 +1,56 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+
+/**
+ * Interface responsible for a pathfinder over the occupancy grid of the world's map/grid.
+ *
+ * The goal of a path can be a static obstacle (e.g., a fire), which is only entered in the last move.
+ */
+public interface GridPathfinder {
+
+	/**
+	 * Returns the path from a given start position to a given goal, in a compact path with the positions after the start
+	 * until the goal, or an empty path, if the goal is unreachable.
+	 *
+	 * @param start the start position
+	 * @param goal the goal
+	 *
+	 * @return the path from a given start position to a given goal, or an empty path, if the goal is unreachable
+	 */
+	public GridPath findPath(Point start, Point goal);
+
+	/**
+	 * Returns the number of cells of the path from a given start position to a given goal,
+	 * or -1, if the goal is unreachable.
+	 *
+	 * @param start the start position
+	 * @param goal the goal
+	 *
+	 * @return the number of cells of the path from a given start position to a given goal, or -1, if the goal is unreachable
+	 */
+	public int getDistance(Point start, Point goal);
+
+	/**
+	 * Returns the number of nodes expanded by the last query.
+	 *
+	 * @return the number of nodes expanded by the last query
+	 */
+	public int getLastNumNodesExpanded();
+
+	/**
+	 * Returns the peak size of the frontier of the last query.
+	 *
+	 * @return the peak size of the frontier of the last query
+	 */
+	public int getLastFrontierSize();
+}
@@ -0,0 +1,819 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+/**
+ * Class responsible for the hierarchical pathfinding (HPA*) in the world's map/grid, over its static obstacles
+ * (the fire station, the water resources and the fires).
+ *
+ * The grid is partitioned in square clusters. Along the border of each pair of neighbour clusters, each run of cells
+ * free on both sides is an entrance, with one transition in its middle (or two, in its ends, if it's long), whose
+ * cells are the nodes of the abstract graph. The nodes of the same cluster are linked by their precomputed distances
+ * inside the cluster and the nodes of each transition are linked by a single move.
+ *
+ * A query connects the start and the goal to the nodes of their clusters, searches the abstract graph by A*
+ * and refines only the local segments of the abstract path, by BFS inside a single cluster. The changes of the obstacles
+ * only mark their clusters as dirty, which are rebuilt (with their borders and neighbours) before the next query.
+ */
+public class HierarchicalPathfinder implements GridPathfinder {
+
+	// Constants:
+
+	/**
+	 * The maximum length of an entrance with a single transition, in its middle (the longer ones have two, in their ends).
+	 */
+	private static final int MAX_SINGLE_TRANSITION_LENGTH = 6;
+
+	/**
+	 * The distance between two unreachable cells.
+	 */
+	private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The width of the world's map/grid.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The size of the side of the clusters.
+	 */
+	private final int clusterSize;
+
+	/**
+	 * The number of clusters in the coordinate Y.
+	 */
+	private final int numClustersY;
+
+	/**
+	 * The occupancy grid of the world's map/grid, with its static obstacles.
+	 */
+	private final OccupancyGrid occupancyGrid;
+
+	/**
+	 * The clusters of the world's map/grid (indexed by cx * numClustersY + cy).
+	 */
+	private final Cluster[] clusters;
+
+	/**
+	 * The clusters whose obstacles changed since the last query.
+	 */
+	private final boolean[] dirtyClusters;
+
+	/**
+	 * The indexes of the clusters whose obstacles changed since the last query.
+	 */
+	private final ArrayList<Integer> dirtyClustersIndexes;
+
+	/**
+	 * The distances (in the current stamp) of the last local BFS, indexed by the local index of the cells of the cluster.
+	 */
+	private final int[] localDistances;
+
+	/**
+	 * The parents (in the current stamp) of the last local BFS, indexed by the local index of the cells of the cluster.
+	 */
+	private final int[] localParents;
+
+	/**
+	 * The stamps of the visited cells of the last local BFS, indexed by the local index of the cells of the cluster.
+	 */
+	private final int[] localStamps;
+
+	/**
+	 * The queue of the local BFS.
+	 */
+	private final int[] localQueue;
+
+	/**
+	 * The stamp of the current local BFS.
+	 */
+	private int localStamp;
+
+	/**
+	 * The stamp of the current search in the abstract graph.
+	 */
+	private int searchStamp;
+
+	/**
+	 * The number of nodes (cells and abstract nodes) expanded by the last query.
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The peak size of the frontier of the last query.
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the hierarchical pathfinder.
+	 *
+	 * Creates a new hierarchical pathfinder over a given occupancy grid, building its abstract graph.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 * @param clusterSize the size of the side of the clusters
+	 */
+	public HierarchicalPathfinder(OccupancyGrid occupancyGrid, int clusterSize) {
+		this.occupancyGrid = occupancyGrid;
+		this.width = occupancyGrid.getWidth();
+		this.height = occupancyGrid.getHeight();
+		this.clusterSize = clusterSize;
+
+		int numClustersX = (this.width + clusterSize - 1) / clusterSize;
+		this.numClustersY = (this.height + clusterSize - 1) / clusterSize;
+
+		this.clusters = new Cluster[numClustersX * this.numClustersY];
+		this.dirtyClusters = new boolean[this.clusters.length];
+		this.dirtyClustersIndexes = new ArrayList<Integer>();
+
+		for(int cx = 0; cx < numClustersX; cx++) {
+			for(int cy = 0; cy < this.numClustersY; cy++) {
+				this.clusters[(cx * this.numClustersY) + cy] = new Cluster((cx * this.numClustersY) + cy,
+						cx * clusterSize, cy * clusterSize, Math.min((cx + 1) * clusterSize, this.width), Math.min((cy + 1) * clusterSize, this.height));
+			}
+		}
+
+		this.localDistances = new int[clusterSize * clusterSize];
+		this.localParents = new int[clusterSize * clusterSize];
+		this.localStamps = new int[clusterSize * clusterSize];
+		this.localQueue = new int[clusterSize * clusterSize];
+
+		// The entrances of the borders to the right and to the bottom of each cluster cover all the borders
+		for(Cluster cluster : this.clusters) {
+			this.buildEntrances(cluster, false);
+		}
+
+		for(Cluster cluster : this.clusters) {
+			this.computeIntraDistances(cluster);
+		}
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the number of nodes (cells and abstract nodes) expanded by the last query.
+	 *
+	 * @return the number of nodes expanded by the last query
+	 */
+	@Override
+	public synchronized int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	/**
+	 * Returns the peak size of the frontier of the last query.
+	 *
+	 * @return the peak size of the frontier of the last query
+	 */
+	@Override
+	public synchronized int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	/**
+	 * Returns the number of nodes of the abstract graph.
+	 *
+	 * @return the number of nodes of the abstract graph
+	 */
+	public synchronized int getNumAbstractNodes() {
+		this.applyUpdates();
+
+		int numAbstractNodes = 0;
+
+		for(Cluster cluster : this.clusters) {
+			numAbstractNodes += cluster.nodes.size();
+		}
+
+		return numAbstractNodes;
+	}
+
+	/**
+	 * Marks the cluster of a given cell as dirty, after the cell changed in the occupancy grid.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public synchronized void markChanged(int x, int y) {
+		int clusterIndex = this.getClusterIndex(x, y);
+
+		if(!this.dirtyClusters[clusterIndex]) {
+			this.dirtyClusters[clusterIndex] = true;
+			this.dirtyClustersIndexes.add(clusterIndex);
+		}
+	}
+
+	/**
+	 * Returns the length of the shortest path (through the abstract graph) from a given start position to a given goal,
+	 * without refining it, or -1, if the goal is unreachable (the goal can be a static obstacle, e.g., a fire).
+	 *
+	 * @param start the start position
+	 * @param goal the goal
+	 *
+	 * @return the length of the path from a given start position to a given goal, or -1, if the goal is unreachable
+	 */
+	@Override
+	public synchronized int getDistance(Point start, Point goal) {
+		Node goalNode = this.search(start, goal);
+
+		return (goalNode == null) ? -1 : goalNode.cost;
+	}
+
+	/**
+	 * Returns the path from a given start position to a given goal, in an array list with the positions after the start
+	 * until the goal (the goal can be a static obstacle, e.g., a fire), or an empty path, if the goal is unreachable.
+	 *
+	 * @param start the start position
+	 * @param goal the goal
+	 *
+	 * @return the path from a given start position to a given goal, or an empty path, if the goal is unreachable
+	 */
+	@Override
+	public synchronized GridPath findPath(Point start, Point goal) {
+		GridPath path = new GridPath(this.height);
+
+		Node goalNode = this.search(start, goal);
+
+		if(goalNode == null) {
+			return path;
+		}
+
+		// The path inside the cluster of the start and the goal
+		if(goalNode.parent == null) {
+			this.appendLocalPath(goalNode.cluster, (start.x * this.height) + start.y, goalNode.cell, path);
+
+			return path;
+		}
+
+		// The refinement of the local segments of the abstract path
+		ArrayList<Node> abstractPath = new ArrayList<Node>();
+
+		for(Node node = goalNode; node != null; node = node.parent) {
+			abstractPath.add(node);
+		}
+
+		Collections.reverse(abstractPath);
+
+		for(int n = 1; n < abstractPath.size(); n++) {
+			Node from = abstractPath.get(n - 1);
+			Node to = abstractPath.get(n);
+
+			if(to == goalNode) {
+				this.localBfs(from.cluster, from.cell, from.goalVia);
+				this.appendLocalPath(from.cluster, from.cell, from.goalVia, path);
+
+				if(from.goalVia != goalNode.cell) {
+					path.add(goal.x, goal.y);
+				}
+			}
+			else if(from.cluster == to.cluster) {
+				this.localBfs(from.cluster, from.cell, to.cell);
+				this.appendLocalPath(from.cluster, from.cell, to.cell, path);
+			}
+			else {
+				path.addCell(to.cell);
+			}
+		}
+
+		return path;
+	}
+
+	/**
+	 * Searches the shortest path from a given start position to a given goal, by A* in the abstract graph
+	 * (connecting the start and the goal to the nodes of their clusters), returning the goal's node,
+	 * linked to its parents, or null, if the goal is unreachable.
+	 *
+	 * If the goal is in the cluster of the start and it's connected to it inside the cluster, the goal's node has no parent
+	 * and the last local BFS holds the path.
+	 */
+	private Node search(Point start, Point goal) {
+		this.applyUpdates();
+
+		this.lastNumNodesExpanded = 0;
+		this.lastFrontierSize = 1;
+		this.searchStamp++;
+
+		int startCell = (start.x * this.height) + start.y;
+		int goalCell = (goal.x * this.height) + goal.y;
+
+		Cluster startCluster = this.clusters[this.getClusterIndex(start.x, start.y)];
+		Cluster goalCluster = this.clusters[this.getClusterIndex(goal.x, goal.y)];
+
+		Node startNode = new Node(startCell, startCluster);
+		Node goalNode = new Node(goalCell, goalCluster);
+
+		startNode.stamp = this.searchStamp;
+		startNode.cost = 0;
+
+		if(startCell == goalCell) {
+			goalNode.cost = 0;
+
+			return goalNode;
+		}
+
+		// 1) The start and the goal in the same cluster, connected inside it
+		if(startCluster == goalCluster && this.localBfs(startCluster, startCell, goalCell)) {
+			goalNode.cost = this.localDistances[startCluster.getLocalIndex(goalCell, this.height, this.clusterSize)];
+
+			return goalNode;
+		}
+
+		// 2) The connection of the goal (or, if it's a static obstacle, of its free neighbours) to the nodes of their clusters
+		if(!this.occupancyGrid.isBlocked(goalCell)) {
+			this.connectToGoal(goalCell, 0, startNode);
+		}
+		else {
+			for(int move = 0; move < 4; move++) {
+				int nx = goal.x + ((move == 0) ? -1 : (move == 1) ? 1 : 0);
+				int ny = goal.y + ((move == 2) ? -1 : (move == 3) ? 1 : 0);
+
+				if(nx >= 0 && nx < this.width && ny >= 0 && ny < this.height && !this.occupancyGrid.isBlocked((nx * this.height) + ny)) {
+					this.connectToGoal((nx * this.height) + ny, 1, startNode);
+				}
+			}
+		}
+
+		// 3) The connection of the start to the nodes of its cluster
+		int[] startDistances = this.getDistancesToNodes(startCluster, startCell);
+
+		// 4) The abstract path, by A* in the abstract graph
+		PriorityQueue<Entry> open = new PriorityQueue<Entry>();
+
+		open.add(new Entry(startNode, 0, this.heuristic(startCell, goalCell)));
+
+		while(!open.isEmpty()) {
+			Entry entry = open.poll();
+			Node node = entry.node;
+
+			if(entry.cost > node.cost) {
+				continue;
+			}
+
+			this.lastNumNodesExpanded++;
+
+			if(node == goalNode) {
+				return goalNode;
+			}
+
+			// The edge to the goal
+			if(node.goalStamp == this.searchStamp) {
+				this.relax(node, goalNode, entry.cost + node.goalDistance, goalCell, open);
+			}
+
+			if(node == startNode) {
+				for(int n = 0; n < startCluster.nodes.size(); n++) {
+					if(startDistances[n] != UNREACHABLE) {
+						this.relax(node, startCluster.nodes.get(n), entry.cost + startDistances[n], goalCell, open);
+					}
+				}
+
+				continue;
+			}
+
+			Cluster cluster = node.cluster;
+
+			// Intra-cluster edges
+			int[] intraDistances = cluster.distances[node.index];
+
+			for(int n = 0; n < cluster.nodes.size(); n++) {
+				if(n != node.index && intraDistances[n] != UNREACHABLE) {
+					this.relax(node, cluster.nodes.get(n), entry.cost + intraDistances[n], goalCell, open);
+				}
+			}
+
+			// Inter-cluster edges (the transitions)
+			for(Node transition : node.transitions) {
+				this.relax(node, transition, entry.cost + 1, goalCell, open);
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, open.size());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Connects a given source cell of the goal (the goal or one of its free neighbours) to the nodes of its cluster
+	 * (and to the start, if it's in the same cluster), keeping the shortest edge to the goal of each node.
+	 */
+	private void connectToGoal(int sourceCell, int extraDistance, Node startNode) {
+		Cluster cluster = this.clusters[this.getClusterIndex(sourceCell / this.height, sourceCell % this.height)];
+
+		if(cluster == startNode.cluster && this.localBfs(cluster, sourceCell, startNode.cell)) {
+			this.setGoalEdge(startNode, this.localDistances[cluster.getLocalIndex(startNode.cell, this.height, this.clusterSize)] + extraDistance, sourceCell);
+		}
+
+		int[] distances = this.getDistancesToNodes(cluster, sourceCell);
+
+		for(int n = 0; n < distances.length; n++) {
+			if(distances[n] != UNREACHABLE) {
+				this.setGoalEdge(cluster.nodes.get(n), distances[n] + extraDistance, sourceCell);
+			}
+		}
+	}
+
+	/**
+	 * Sets the edge from a given node to the goal, through a given source cell of the goal, if it's the shortest one.
+	 */
+	private void setGoalEdge(Node node, int distance, int sourceCell) {
+		if(node.goalStamp != this.searchStamp || distance < node.goalDistance) {
+			node.goalStamp = this.searchStamp;
+			node.goalDistance = distance;
+			node.goalVia = sourceCell;
+		}
+	}
+
+	/**
+	 * Relaxes the edge between two given nodes of the abstract graph, with a given cost to the second one.
+	 */
+	private void relax(Node from, Node to, int cost, int goalCell, PriorityQueue<Entry> open) {
+		if(to.stamp != this.searchStamp || cost < to.cost) {
+			to.stamp = this.searchStamp;
+			to.cost = cost;
+			to.parent = from;
+
+			open.add(new Entry(to, cost, cost + this.heuristic(to.cell, goalCell)));
+		}
+	}
+
+	/**
+	 * Returns the Manhattan distance between two given cells.
+	 */
+	private int heuristic(int cell, int goalCell) {
+		return Math.abs((cell / this.height) - (goalCell / this.height)) + Math.abs((cell % this.height) - (goalCell % this.height));
+	}
+
+	/**
+	 * Returns the index of the cluster of a given cell.
+	 */
+	private int getClusterIndex(int x, int y) {
+		return ((x / this.clusterSize) * this.numClustersY) + (y / this.clusterSize);
+	}
+
+	/**
+	 * Returns the distances, inside a given cluster, from a given cell to each node of the cluster.
+	 */
+	private int[] getDistancesToNodes(Cluster cluster, int cell) {
+		this.localBfs(cluster, cell, -1);
+
+		int[] distances = new int[cluster.nodes.size()];
+
+		for(int n = 0; n < distances.length; n++) {
+			int localCell = cluster.getLocalIndex(cluster.nodes.get(n).cell, this.height, this.clusterSize);
+
+			distances[n] = (this.localStamps[localCell] == this.localStamp) ? this.localDistances[localCell] : UNREACHABLE;
+		}
+
+		return distances;
+	}
+
+	/**
+	 * Searches, by BFS inside a given cluster, from a given source cell until a given target cell (or all the cluster, if
+	 * the target is -1). The source and the target are always allowed, even if they're static obstacles.
+	 *
+	 * @return true if the target was reached and false, otherwise
+	 */
+	private boolean localBfs(Cluster cluster, int sourceCell, int targetCell) {
+		this.localStamp++;
+
+		int source = cluster.getLocalIndex(sourceCell, this.height, this.clusterSize);
+		int clusterWidth = cluster.x1 - cluster.x0;
+		int clusterHeight = cluster.y1 - cluster.y0;
+
+		int head = 0;
+		int tail = 0;
+
+		this.localQueue[tail++] = source;
+		this.localStamps[source] = this.localStamp;
+		this.localDistances[source] = 0;
+		this.localParents[source] = -1;
+
+		while(head < tail) {
+			int local = this.localQueue[head++];
+
+			this.lastNumNodesExpanded++;
+
+			int lx = local / this.clusterSize;
+			int ly = local % this.clusterSize;
+			int cell = ((cluster.x0 + lx) * this.height) + (cluster.y0 + ly);
+
+			if(cell == targetCell) {
+				return true;
+			}
+
+			for(int move = 0; move < 4; move++) {
+				int nx = lx + ((move == 0) ? -1 : (move == 1) ? 1 : 0);
+				int ny = ly + ((move == 2) ? -1 : (move == 3) ? 1 : 0);
+
+				if(nx < 0 || nx >= clusterWidth || ny < 0 || ny >= clusterHeight) {
+					continue;
+				}
+
+				int neighbour = (nx * this.clusterSize) + ny;
+				int neighbourCell = ((cluster.x0 + nx) * this.height) + (cluster.y0 + ny);
+
+				if(this.localStamps[neighbour] == this.localStamp || (this.occupancyGrid.isBlocked(neighbourCell) && neighbourCell != targetCell)) {
+					continue;
+				}
+
+				this.localStamps[neighbour] = this.localStamp;
+				this.localDistances[neighbour] = this.localDistances[local] + 1;
+				this.localParents[neighbour] = local;
+				this.localQueue[tail++] = neighbour;
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, tail - head);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Appends to a given path the positions of the path found by the last local BFS, after its source until its target.
+	 */
+	private void appendLocalPath(Cluster cluster, int sourceCell, int targetCell, GridPath path) {
+		int source = cluster.getLocalIndex(sourceCell, this.height, this.clusterSize);
+		int pathStart = path.size();
+
+		for(int local = cluster.getLocalIndex(targetCell, this.height, this.clusterSize); local != source; local = this.localParents[local]) {
+			path.add(cluster.x0 + (local / this.clusterSize), cluster.y0 + (local % this.clusterSize));
+		}
+
+		path.reverse(pathStart);
+	}
+
+	/**
+	 * Rebuilds the dirty clusters, with the entrances of their borders and the intra-cluster distances of their neighbours.
+	 */
+	private void applyUpdates() {
+		if(this.dirtyClustersIndexes.isEmpty()) {
+			return;
+		}
+
+		ArrayList<Cluster> updatedClusters = new ArrayList<Cluster>();
+
+		for(int clusterIndex : this.dirtyClustersIndexes) {
+			Cluster cluster = this.clusters[clusterIndex];
+
+			this.dirtyClusters[clusterIndex] = false;
+
+			// Removes the nodes of the cluster and their transitions
+			for(Node node : cluster.nodes) {
+				for(Node transition : node.transitions) {
+					transition.transitions.remove(node);
+
+					if(transition.transitions.isEmpty()) {
+						transition.cluster.removeNode(transition);
+					}
+				}
+			}
+
+			cluster.nodes.clear();
+			cluster.nodesByCell.clear();
+			cluster.changed = true;
+
+			this.buildEntrances(cluster, true);
+		}
+
+		this.dirtyClustersIndexes.clear();
+
+		// The intra-cluster distances of the dirty clusters and their neighbours
+		for(Cluster cluster : this.clusters) {
+			if(cluster.distances.length != cluster.nodes.size() || cluster.changed) {
+				updatedClusters.add(cluster);
+			}
+		}
+
+		for(Cluster cluster : updatedClusters) {
+			this.computeIntraDistances(cluster);
+		}
+	}
+
+	/**
+	 * Builds the entrances of the borders of a given cluster with its neighbours to the right and to the bottom
+	 * (and to the left and to the top, if all the borders are built).
+	 */
+	private void buildEntrances(Cluster cluster, boolean allBorders) {
+		int cx = cluster.x0 / this.clusterSize;
+		int cy = cluster.y0 / this.clusterSize;
+
+		if(cluster.x1 < this.width) {
+			this.buildBorderEntrances(cluster, this.clusters[((cx + 1) * this.numClustersY) + cy], true);
+		}
+
+		if(cluster.y1 < this.height) {
+			this.buildBorderEntrances(cluster, this.clusters[(cx * this.numClustersY) + cy + 1], false);
+		}
+
+		if(allBorders && cx > 0) {
+			this.buildBorderEntrances(this.clusters[((cx - 1) * this.numClustersY) + cy], cluster, true);
+		}
+
+		if(allBorders && cy > 0) {
+			this.buildBorderEntrances(this.clusters[(cx * this.numClustersY) + cy - 1], cluster, false);
+		}
+	}
+
+	/**
+	 * Builds the entrances of the border between two given neighbour clusters (the first one to the left of,
+	 * or to the top of, the second one), linking the nodes of their transitions.
+	 */
+	private void buildBorderEntrances(Cluster first, Cluster second, boolean vertical) {
+		int length = vertical ? (first.y1 - first.y0) : (first.x1 - first.x0);
+		int runStart = -1;
+
+		for(int i = 0; i <= length; i++) {
+			boolean free = false;
+
+			if(i < length) {
+				int firstCell = vertical ? (((first.x1 - 1) * this.height) + first.y0 + i) : (((first.x0 + i) * this.height) + first.y1 - 1);
+				int secondCell = vertical ? ((second.x0 * this.height) + first.y0 + i) : (((first.x0 + i) * this.height) + second.y0);
+
+				free = !this.occupancyGrid.isBlocked(firstCell) && !this.occupancyGrid.isBlocked(secondCell);
+			}
+
+			if(free && runStart < 0) {
+				runStart = i;
+			}
+			else if(!free && runStart >= 0) {
+				int runLength = i - runStart;
+
+				if(runLength <= MAX_SINGLE_TRANSITION_LENGTH) {
+					this.addTransition(first, second, vertical, runStart + ((runLength - 1) / 2));
+				}
+				else {
+					this.addTransition(first, second, vertical, runStart);
+					this.addTransition(first, second, vertical, i - 1);
+				}
+
+				runStart = -1;
+			}
+		}
+	}
+
+	/**
+	 * Adds the transition in a given offset of the border between two given neighbour clusters.
+	 */
+	private void addTransition(Cluster first, Cluster second, boolean vertical, int offset) {
+		int firstCell = vertical ? (((first.x1 - 1) * this.height) + first.y0 + offset) : (((first.x0 + offset) * this.height) + first.y1 - 1);
+		int secondCell = vertical ? ((second.x0 * this.height) + first.y0 + offset) : (((first.x0 + offset) * this.height) + second.y0);
+
+		Node firstNode = first.getOrAddNode(firstCell);
+		Node secondNode = second.getOrAddNode(secondCell);
+
+		firstNode.transitions.add(secondNode);
+		secondNode.transitions.add(firstNode);
+	}
+
+	/**
+	 * Computes the distances, inside a given cluster, between each pair of its nodes.
+	 */
+	private void computeIntraDistances(Cluster cluster) {
+		int numNodes = cluster.nodes.size();
+
+		cluster.distances = new int[numNodes][];
+
+		for(int n = 0; n < numNodes; n++) {
+			cluster.distances[n] = this.getDistancesToNodes(cluster, cluster.nodes.get(n).cell);
+		}
+
+		cluster.changed = false;
+	}
+
+	/**
+	 * Class responsible for a cluster of the world's map/grid.
+	 */
+	private static class Cluster {
+
+		private final int index;
+		private final int x0;
+		private final int y0;
+		private final int x1;
+		private final int y1;
+
+		private final ArrayList<Node> nodes = new ArrayList<Node>();
+		private final HashMap<Integer, Node> nodesByCell = new HashMap<Integer, Node>();
+
+		private int[][] distances = new int[0][];
+		private boolean changed;
+
+		private Cluster(int index, int x0, int y0, int x1, int y1) {
+			this.index = index;
+			this.x0 = x0;
+			this.y0 = y0;
+			this.x1 = x1;
+			this.y1 = y1;
+		}
+
+		private int getLocalIndex(int cell, int height, int clusterSize) {
+			return (((cell / height) - this.x0) * clusterSize) + ((cell % height) - this.y0);
+		}
+
+		private Node getOrAddNode(int cell) {
+			Node node = this.nodesByCell.get(cell);
+
+			if(node == null) {
+				node = new Node(cell, this);
+				node.index = this.nodes.size();
+
+				this.nodes.add(node);
+				this.nodesByCell.put(cell, node);
+
+				this.changed = true;
+			}
+
+			return node;
+		}
+
+		private void removeNode(Node node) {
+			this.nodes.remove(node.index);
+			this.nodesByCell.remove(node.cell);
+
+			for(int n = node.index; n < this.nodes.size(); n++) {
+				this.nodes.get(n).index = n;
+			}
+
+			this.changed = true;
+		}
+
+		@Override
+		public String toString() {
+			return "C" + this.index;
+		}
+	}
+
+	/**
+	 * Class responsible for a node (a cell of a transition, the start or the goal) of the abstract graph.
+	 */
+	private static class Node {
+
+		private final int cell;
+		private final Cluster cluster;
+		private final ArrayList<Node> transitions = new ArrayList<Node>(2);
+
+		private int index = -1;
+
+		// The state of the node in the search with the current stamp
+		private int stamp;
+		private int cost;
+		private Node parent;
+
+		// The edge of the node to the goal in the search with the current stamp
+		private int goalStamp;
+		private int goalDistance;
+		private int goalVia;
+
+		private Node(int cell, Cluster cluster) {
+			this.cell = cell;
+			this.cluster = cluster;
+		}
+	}
+
+	/**
+	 * Class responsible for an entry of the open set of the A* in the abstract graph.
+	 */
+	private static class Entry implements Comparable<Entry> {
+
+		private final Node node;
+		private final int cost;
+		private final int f;
+
+		private Entry(Node node, int cost, int f) {
+			this.node = node;
+			this.cost = cost;
+			this.f = f;
+		}
+
+		@Override
+		public int compareTo(Entry entry) {
+			// The smallest estimated cost first and, in ties, the nearest entry to the goal (the largest cost)
+			return (this.f != entry.f) ? Integer.compare(this.f, entry.f) : Integer.compare(entry.cost, this.cost);
+		}
+	}
+}
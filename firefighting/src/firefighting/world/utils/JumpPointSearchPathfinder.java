@@ -0,0 +1,539 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+
+/**
+ * Class responsible for the Jump Point Search (JPS) over the occupancy grid of the world's map/grid,
+ * in its 4-connected or 8-connected (without cutting the corners of the obstacles) variants.
+ *
+ * Instead of expanding every neighbour of each node, as the BFS or the A*, the search only expands the neighbours
+ * not reachable by a symmetric path through its parent (the natural and the forced ones) and jumps along each direction,
+ * without adding the cells in between to the open set, until it finds a jump point: the goal, a cell with a forced
+ * neighbour (next to an obstacle) or, in the 4-connected variant moving vertically (or in the 8-connected variant
+ * moving diagonally), a cell from which a straight jump finds a jump point. In largely empty grids, only a few cells
+ * are expanded. The costs are 1 by straight move, in the 4-connected variant, and 10 by straight move and 14 by diagonal
+ * move (the octile distance), in the 8-connected variant, where the number of cells of a path counts each diagonal move
+ * as a single cell.
+ */
+public class JumpPointSearchPathfinder implements GridPathfinder {
+
+	// Constants:
+
+	/**
+	 * The cost of a straight move, in the 8-connected variant.
+	 */
+	private static final int STRAIGHT_COST = 10;
+
+	/**
+	 * The cost of a diagonal move, in the 8-connected variant.
+	 */
+	private static final int DIAGONAL_COST = 14;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The occupancy grid of the world's map/grid.
+	 */
+	private final OccupancyGrid occupancyGrid;
+
+	/**
+	 * True if it's the 8-connected variant and false, if it's the 4-connected variant.
+	 */
+	private final boolean diagonal;
+
+	/**
+	 * The costs (in the current stamp) of the jump points.
+	 */
+	private final int[] costs;
+
+	/**
+	 * The parents (in the current stamp) of the jump points.
+	 */
+	private final int[] parents;
+
+	/**
+	 * The stamps of the jump points reached by the current search.
+	 */
+	private final int[] stamps;
+
+	/**
+	 * The stamps of the jump points expanded by the current search.
+	 */
+	private final int[] closedStamps;
+
+	/**
+	 * The open set of the search.
+	 */
+	private final LongHeap open;
+
+	/**
+	 * The stamp of the current search.
+	 */
+	private int stamp;
+
+	/**
+	 * The goal of the current search (the only static obstacle that can be entered).
+	 */
+	private int goalCell;
+
+	/**
+	 * The number of nodes (jump points) expanded by the last query.
+	 */
+	private int lastNumNodesExpanded;
+
+	/**
+	 * The number of cells scanned by the jumps of the last query.
+	 */
+	private int lastNumCellsScanned;
+
+	/**
+	 * The peak size of the frontier of the last query.
+	 */
+	private int lastFrontierSize;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the Jump Point Search pathfinder.
+	 *
+	 * @param occupancyGrid the occupancy grid of the world's map/grid
+	 * @param diagonal true if it's the 8-connected variant and false, if it's the 4-connected variant
+	 */
+	public JumpPointSearchPathfinder(OccupancyGrid occupancyGrid, boolean diagonal) {
+		this.occupancyGrid = occupancyGrid;
+		this.diagonal = diagonal;
+
+		int numCells = occupancyGrid.getWidth() * occupancyGrid.getHeight();
+
+		this.costs = new int[numCells];
+		this.parents = new int[numCells];
+		this.stamps = new int[numCells];
+		this.closedStamps = new int[numCells];
+		this.open = new LongHeap(256);
+	}
+
+
+
+	// Methods:
+
+	@Override
+	public synchronized int getLastNumNodesExpanded() {
+		return this.lastNumNodesExpanded;
+	}
+
+	/**
+	 * Returns the number of cells scanned by the jumps of the last query.
+	 *
+	 * @return the number of cells scanned by the jumps of the last query
+	 */
+	public synchronized int getLastNumCellsScanned() {
+		return this.lastNumCellsScanned;
+	}
+
+	@Override
+	public synchronized int getLastFrontierSize() {
+		return this.lastFrontierSize;
+	}
+
+	@Override
+	public synchronized int getDistance(Point start, Point goal) {
+		if(!this.search(start, goal)) {
+			return -1;
+		}
+
+		int height = this.occupancyGrid.getHeight();
+		int startCell = (start.x * height) + start.y;
+
+		int distance = 0;
+
+		for(int cell = this.goalCell; cell != startCell; cell = this.parents[cell]) {
+			int parent = this.parents[cell];
+
+			distance += Math.max(Math.abs((cell / height) - (parent / height)), Math.abs((cell % height) - (parent % height)));
+		}
+
+		return distance;
+	}
+
+	@Override
+	public synchronized GridPath findPath(Point start, Point goal) {
+		int height = this.occupancyGrid.getHeight();
+
+		GridPath path = new GridPath(height);
+
+		if(!this.search(start, goal)) {
+			return path;
+		}
+
+		int startCell = (start.x * height) + start.y;
+
+		// The cells between each pair of jump points (always along a straight or a diagonal line)
+		for(int cell = this.goalCell; cell != startCell; cell = this.parents[cell]) {
+			int parent = this.parents[cell];
+
+			int x = cell / height;
+			int y = cell % height;
+			int dx = Integer.signum((parent / height) - x);
+			int dy = Integer.signum((parent % height) - y);
+
+			for(; (x * height) + y != parent; x += dx, y += dy) {
+				path.add(x, y);
+			}
+		}
+
+		path.reverse(0);
+
+		return path;
+	}
+
+	/**
+	 * Returns true if a given cell is inside the grid and isn't a static obstacle (or it's the goal), and false, otherwise.
+	 */
+	private boolean isWalkable(int x, int y) {
+		if(x < 0 || x >= this.occupancyGrid.getWidth() || y < 0 || y >= this.occupancyGrid.getHeight()) {
+			return false;
+		}
+
+		int cell = (x * this.occupancyGrid.getHeight()) + y;
+
+		return !this.occupancyGrid.isBlocked(cell) || cell == this.goalCell;
+	}
+
+	/**
+	 * Returns the estimated cost (the Manhattan distance, or the octile distance) between two given positions.
+	 */
+	private int heuristic(int x, int y, int goalX, int goalY) {
+		int dx = Math.abs(x - goalX);
+		int dy = Math.abs(y - goalY);
+
+		if(!this.diagonal) {
+			return dx + dy;
+		}
+
+		return (DIAGONAL_COST * Math.min(dx, dy)) + (STRAIGHT_COST * (Math.max(dx, dy) - Math.min(dx, dy)));
+	}
+
+	/**
+	 * Searches the shortest path from a given start position to a given goal, by A* over the jump points.
+	 *
+	 * @return true if the goal was reached and false, otherwise
+	 */
+	private boolean search(Point start, Point goal) {
+		int height = this.occupancyGrid.getHeight();
+
+		int startCell = (start.x * height) + start.y;
+
+		this.goalCell = (goal.x * height) + goal.y;
+
+		this.stamp++;
+		this.open.clear();
+
+		this.lastNumNodesExpanded = 0;
+		this.lastNumCellsScanned = 0;
+		this.lastFrontierSize = 1;
+
+		this.stamps[startCell] = this.stamp;
+		this.costs[startCell] = 0;
+		this.parents[startCell] = -1;
+		this.open.add(LongHeap.key(this.heuristic(start.x, start.y, goal.x, goal.y), 0, startCell));
+
+		int[] neighbours = new int[16];
+
+		while(!this.open.isEmpty()) {
+			long key = this.open.poll();
+			int cell = LongHeap.cell(key);
+
+			if(this.closedStamps[cell] == this.stamp || LongHeap.cost(key) > this.costs[cell]) {
+				continue;
+			}
+
+			this.closedStamps[cell] = this.stamp;
+			this.lastNumNodesExpanded++;
+
+			if(cell == this.goalCell) {
+				return true;
+			}
+
+			int x = cell / height;
+			int y = cell % height;
+
+			int numNeighbours = this.diagonal ? this.getPrunedNeighbours8(cell, x, y, neighbours) : this.getPrunedNeighbours4(cell, x, y, neighbours);
+
+			for(int n = 0; n < numNeighbours; n += 2) {
+				int jumpPoint = this.diagonal ? this.jump8(x, y, neighbours[n], neighbours[n + 1]) : this.jump4(x, y, neighbours[n], neighbours[n + 1]);
+
+				if(jumpPoint < 0) {
+					continue;
+				}
+
+				int jx = jumpPoint / height;
+				int jy = jumpPoint % height;
+				int cost = this.costs[cell] + this.heuristic(x, y, jx, jy);
+
+				if(this.stamps[jumpPoint] != this.stamp || cost < this.costs[jumpPoint]) {
+					this.stamps[jumpPoint] = this.stamp;
+					this.costs[jumpPoint] = cost;
+					this.parents[jumpPoint] = cell;
+
+					this.open.add(LongHeap.key(cost + this.heuristic(jx, jy, goal.x, goal.y), cost, jumpPoint));
+				}
+			}
+
+			this.lastFrontierSize = Math.max(this.lastFrontierSize, this.open.size());
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the direction of the move from the parent of a given jump point to it (or 0, if it has no parent).
+	 */
+	private int[] getDirection(int cell, int x, int y) {
+		int parent = this.parents[cell];
+
+		if(parent < 0) {
+			return null;
+		}
+
+		int height = this.occupancyGrid.getHeight();
+
+		return new int[] { Integer.signum(x - (parent / height)), Integer.signum(y - (parent % height)) };
+	}
+
+	/**
+	 * Fills the directions (dx, dy) of the pruned neighbours of a given jump point, in the 4-connected variant,
+	 * returning the number of values filled.
+	 */
+	private int getPrunedNeighbours4(int cell, int x, int y, int[] neighbours) {
+		int[] direction = this.getDirection(cell, x, y);
+		int n = 0;
+
+		if(direction == null) {
+			int[][] moves = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+			for(int[] move : moves) {
+				if(this.isWalkable(x + move[0], y + move[1])) {
+					neighbours[n++] = move[0];
+					neighbours[n++] = move[1];
+				}
+			}
+
+			return n;
+		}
+
+		int dx = direction[0];
+		int dy = direction[1];
+
+		// The move ahead and the perpendicular ones
+		int[][] moves = (dx != 0) ? new int[][] { {dx, 0}, {0, -1}, {0, 1} } : new int[][] { {0, dy}, {-1, 0}, {1, 0} };
+
+		for(int[] move : moves) {
+			if(this.isWalkable(x + move[0], y + move[1])) {
+				neighbours[n++] = move[0];
+				neighbours[n++] = move[1];
+			}
+		}
+
+		return n;
+	}
+
+	/**
+	 * Returns the jump point found by jumping from a given cell in a given direction, in the 4-connected variant,
+	 * or -1, if there's none.
+	 */
+	private int jump4(int x, int y, int dx, int dy) {
+		int height = this.occupancyGrid.getHeight();
+
+		while(true) {
+			x += dx;
+			y += dy;
+
+			if(!this.isWalkable(x, y)) {
+				return -1;
+			}
+
+			this.lastNumCellsScanned++;
+
+			int cell = (x * height) + y;
+
+			if(cell == this.goalCell) {
+				return cell;
+			}
+
+			if(dx != 0) {
+				// Forced neighbours, above or below, next to an obstacle behind
+				if((this.isWalkable(x, y - 1) && !this.isWalkable(x - dx, y - 1)) ||
+				   (this.isWalkable(x, y + 1) && !this.isWalkable(x - dx, y + 1))) {
+					return cell;
+				}
+			}
+			else {
+				// Forced neighbours, to the left or to the right, next to an obstacle behind
+				if((this.isWalkable(x - 1, y) && !this.isWalkable(x - 1, y - dy)) ||
+				   (this.isWalkable(x + 1, y) && !this.isWalkable(x + 1, y - dy))) {
+					return cell;
+				}
+
+				// Moving vertically, the horizontal jumps must be checked
+				if(this.jump4(x, y, 1, 0) >= 0 || this.jump4(x, y, -1, 0) >= 0) {
+					return cell;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills the directions (dx, dy) of the pruned neighbours of a given jump point, in the 8-connected variant
+	 * (without cutting the corners of the obstacles), returning the number of values filled.
+	 */
+	private int getPrunedNeighbours8(int cell, int x, int y, int[] neighbours) {
+		int[] direction = this.getDirection(cell, x, y);
+		int n = 0;
+
+		if(direction == null) {
+			for(int dx = -1; dx <= 1; dx++) {
+				for(int dy = -1; dy <= 1; dy++) {
+					if((dx != 0 || dy != 0) && this.canMove8(x, y, dx, dy)) {
+						neighbours[n++] = dx;
+						neighbours[n++] = dy;
+					}
+				}
+			}
+
+			return n;
+		}
+
+		int dx = direction[0];
+		int dy = direction[1];
+
+		if(dx != 0 && dy != 0) {
+			boolean horizontal = this.isWalkable(x + dx, y);
+			boolean vertical = this.isWalkable(x, y + dy);
+
+			if(vertical) {
+				neighbours[n++] = 0;
+				neighbours[n++] = dy;
+			}
+
+			if(horizontal) {
+				neighbours[n++] = dx;
+				neighbours[n++] = 0;
+			}
+
+			if(horizontal && vertical && this.isWalkable(x + dx, y + dy)) {
+				neighbours[n++] = dx;
+				neighbours[n++] = dy;
+			}
+
+			return n;
+		}
+
+		// The move ahead, the perpendicular ones and the diagonal ones between them
+		int ax = dx;
+		int ay = dy;
+		int px = (dx != 0) ? 0 : 1;
+		int py = (dx != 0) ? 1 : 0;
+
+		boolean ahead = this.isWalkable(x + ax, y + ay);
+		boolean side1 = this.isWalkable(x + px, y + py);
+		boolean side2 = this.isWalkable(x - px, y - py);
+
+		if(ahead) {
+			neighbours[n++] = ax;
+			neighbours[n++] = ay;
+
+			if(side1 && this.isWalkable(x + ax + px, y + ay + py)) {
+				neighbours[n++] = ax + px;
+				neighbours[n++] = ay + py;
+			}
+
+			if(side2 && this.isWalkable(x + ax - px, y + ay - py)) {
+				neighbours[n++] = ax - px;
+				neighbours[n++] = ay - py;
+			}
+		}
+
+		if(side1) {
+			neighbours[n++] = px;
+			neighbours[n++] = py;
+		}
+
+		if(side2) {
+			neighbours[n++] = -px;
+			neighbours[n++] = -py;
+		}
+
+		return n;
+	}
+
+	/**
+	 * Returns true if a move from a given cell in a given direction is possible, in the 8-connected variant
+	 * (a diagonal move needs both cells beside it free), and false, otherwise.
+	 */
+	private boolean canMove8(int x, int y, int dx, int dy) {
+		if(!this.isWalkable(x + dx, y + dy)) {
+			return false;
+		}
+
+		return dx == 0 || dy == 0 || (this.isWalkable(x + dx, y) && this.isWalkable(x, y + dy));
+	}
+
+	/**
+	 * Returns the jump point found by jumping from a given cell in a given direction, in the 8-connected variant
+	 * (without cutting the corners of the obstacles), or -1, if there's none.
+	 */
+	private int jump8(int x, int y, int dx, int dy) {
+		int height = this.occupancyGrid.getHeight();
+
+		while(true) {
+			if(!this.canMove8(x, y, dx, dy)) {
+				return -1;
+			}
+
+			x += dx;
+			y += dy;
+
+			this.lastNumCellsScanned++;
+
+			int cell = (x * height) + y;
+
+			if(cell == this.goalCell) {
+				return cell;
+			}
+
+			if(dx != 0 && dy != 0) {
+				// Moving diagonally, the straight jumps must be checked
+				if(this.jump8(x, y, dx, 0) >= 0 || this.jump8(x, y, 0, dy) >= 0) {
+					return cell;
+				}
+			}
+			else if(dx != 0) {
+				// Forced neighbours, above or below, next to an obstacle behind
+				if((this.isWalkable(x, y - 1) && !this.isWalkable(x - dx, y - 1)) ||
+				   (this.isWalkable(x, y + 1) && !this.isWalkable(x - dx, y + 1))) {
+					return cell;
+				}
+			}
+			else {
+				// Forced neighbours, to the left or to the right, next to an obstacle behind
+				if((this.isWalkable(x - 1, y) && !this.isWalkable(x - 1, y - dy)) ||
+				   (this.isWalkable(x + 1, y) && !this.isWalkable(x + 1, y - dy))) {
+					return cell;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for a binary min-heap of primitive long keys, used as the open set of the grid pathfinders
+ * without boxing their entries.
+ *
+ * The keys of the pathfinders pack, from the most significant bits, the estimated cost (f), the inverted cost (g),
+ * to break the ties in favour of the nodes nearest to the goal, and the cell.
+ */
+class LongHeap {
+
+	// Constants:
+
+	/**
+	 * The number of bits of the cell in the keys.
+	 */
+	private static final int CELL_BITS = 24;
+
+	/**
+	 * The number of bits of each cost in the keys.
+	 */
+	private static final int COST_BITS = 20;
+
+	/**
+	 * The number of bits of the estimated cost in the keys (keeping the keys positive).
+	 */
+	private static final int ESTIMATED_COST_BITS = 63 - COST_BITS - CELL_BITS;
+
+	/**
+	 * The mask of the cell in the keys.
+	 */
+	private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+	/**
+	 * The maximum cost in the keys.
+	 */
+	private static final long MAX_COST = (1L << COST_BITS) - 1;
+
+	/**
+	 * The maximum estimated cost in the keys.
+	 */
+	private static final long MAX_ESTIMATED_COST = (1L << ESTIMATED_COST_BITS) - 1;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The keys of the heap.
+	 */
+	private long[] keys;
+
+	/**
+	 * The number of keys in the heap.
+	 */
+	private int size;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the heap.
+	 *
+	 * @param capacity the initial capacity of the heap
+	 */
+	LongHeap(int capacity) {
+		this.keys = new long[Math.max(capacity, 16)];
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the key of a given cell, with a given estimated cost (f) and a given cost (g).
+	 */
+	static long key(int f, int g, int cell) {
+		return (Math.min(f, MAX_ESTIMATED_COST) << (COST_BITS + CELL_BITS)) | ((MAX_COST - Math.min(g, MAX_COST)) << CELL_BITS) | cell;
+	}
+
+	/**
+	 * Returns the cell of a given key.
+	 */
+	static int cell(long key) {
+		return (int) (key & CELL_MASK);
+	}
+
+	/**
+	 * Returns the cost (g) of a given key.
+	 */
+	static int cost(long key) {
+		return (int) (MAX_COST - ((key >>> CELL_BITS) & MAX_COST));
+	}
+
+	/**
+	 * Returns true if the cells of a grid fit in the keys and false, otherwise.
+	 */
+	static boolean fits(int numCells) {
+		return numCells <= (1 << CELL_BITS);
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	void clear() {
+		this.size = 0;
+	}
+
+	void add(long key) {
+		if(this.size == this.keys.length) {
+			this.keys = Arrays.copyOf(this.keys, this.size * 2);
+		}
+
+		int i = this.size++;
+
+		while(i > 0) {
+			int parent = (i - 1) >>> 1;
+
+			if(this.keys[parent] <= key) {
+				break;
+			}
+
+			this.keys[i] = this.keys[parent];
+			i = parent;
+		}
+
+		this.keys[i] = key;
+	}
+
+	long poll() {
+		long top = this.keys[0];
+		long last = this.keys[--this.size];
+
+		int i = 0;
+		int half = this.size >>> 1;
+
+		while(i < half) {
+			int child = (2 * i) + 1;
+
+			if(child + 1 < this.size && this.keys[child + 1] < this.keys[child]) {
+				child++;
+			}
+
+			if(last <= this.keys[child]) {
+				break;
+			}
+
+			this.keys[i] = this.keys[child];
+			i = child;
+		}
+
+		if(this.size > 0) {
+			this.keys[i] = last;
+		}
+
+		return top;
+	}
+}
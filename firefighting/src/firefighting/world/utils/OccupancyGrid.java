@@ -0,0 +1,134 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+/**
+ * Class responsible for the occupancy grid of the static obstacles (the fire station, the water resources and the fires)
+ * of the world's map/grid, shared by the grid pathfinders.
+ */
+public class OccupancyGrid {
+
+	// Global Instance Variables:
+
+	/**
+	 * The width of the world's map/grid.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The static obstacles of the world's map/grid (indexed by x * height + y).
+	 */
+	private final boolean[] blocked;
+
+	/**
+	 * The version of the occupancy grid, increased by each change of its static obstacles.
+	 */
+	private volatile int version;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the occupancy grid.
+	 *
+	 * Creates a new occupancy grid, without any obstacle.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public OccupancyGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+
+		this.blocked = new boolean[width * height];
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the width of the world's map/grid.
+	 *
+	 * @return the width of the world's map/grid
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Returns the height of the world's map/grid.
+	 *
+	 * @return the height of the world's map/grid
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Returns the version of the occupancy grid, increased by each change of its static obstacles.
+	 *
+	 * @return the version of the occupancy grid
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Returns true if a given cell is a static obstacle and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell is a static obstacle and false, otherwise
+	 */
+	public boolean isBlocked(int x, int y) {
+		return this.blocked[(x * this.height) + y];
+	}
+
+	/**
+	 * Returns true if a given cell (indexed by x * height + y) is a static obstacle and false, otherwise.
+	 *
+	 * @param cell the cell
+	 *
+	 * @return true if a given cell is a static obstacle and false, otherwise
+	 */
+	public boolean isBlocked(int cell) {
+		return this.blocked[cell];
+	}
+
+	/**
+	 * Sets a given cell as a static obstacle or free, increasing the version of the occupancy grid, if it changed.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 * @param blocked true if the cell is a static obstacle and false, otherwise
+	 *
+	 * @return true if the cell changed and false, otherwise
+	 */
+	public synchronized boolean setBlocked(int x, int y, boolean blocked) {
+		int cell = (x * this.height) + y;
+
+		if(this.blocked[cell] == blocked) {
+			return false;
+		}
+
+		this.blocked[cell] = blocked;
+		this.version++;
+
+		return true;
+	}
+}
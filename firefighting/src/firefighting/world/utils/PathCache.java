@@ -0,0 +1,139 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class responsible for the bounded cache of the paths searched over the static obstacles of the world's map/grid,
+ * shared by all the aircraft agents.
+ *
+ * Each path is kept as a compact array of cell ids (indexed by x * height + y), keyed by its source and destination
+ * cells, together with the version of the obstacles' map from which it was searched. A path searched from an older
+ * version is a miss (and it's replaced). The least recently used paths are evicted first, when the cache is full
+ * (a linked hash map in access order).
+ */
+public class PathCache {
+
+	// Global Instance Variables:
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The cached paths, keyed by the pair (source cell, destination cell), in the order of their last access.
+	 */
+	private final LinkedHashMap<Long, CachedPath> paths;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the path cache.
+	 *
+	 * @param height the height of the world's map/grid
+	 * @param capacity the maximum number of paths kept in the cache
+	 */
+	@SuppressWarnings("serial")
+	public PathCache(int height, final int capacity) {
+		this.height = height;
+
+		this.paths = new LinkedHashMap<Long, CachedPath>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, CachedPath> eldest) {
+				return this.size() > capacity;
+			}
+		};
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the key of the path between two given positions.
+	 */
+	private long key(Point source, Point destination) {
+		long sourceCell = (source.x * this.height) + source.y;
+		long destinationCell = (destination.x * this.height) + destination.y;
+
+		return (sourceCell << 32) | destinationCell;
+	}
+
+	/**
+	 * Returns the cached path from a given source to a given destination, searched from a given version
+	 * of the obstacles' map, in a new compact path with the positions after the source until the destination,
+	 * or null, if it's a miss.
+	 *
+	 * @param source the source position
+	 * @param destination the destination position
+	 * @param mapVersion the current version of the obstacles' map
+	 *
+	 * @return the cached path from a given source to a given destination, or null, if it's a miss
+	 */
+	public synchronized GridPath get(Point source, Point destination, int mapVersion) {
+		long key = this.key(source, destination);
+
+		CachedPath cachedPath = this.paths.get(key);
+
+		if(cachedPath == null) {
+			return null;
+		}
+
+		if(cachedPath.mapVersion != mapVersion) {
+			this.paths.remove(key);
+
+			return null;
+		}
+
+		return new GridPath(this.height, Arrays.copyOf(cachedPath.cells, cachedPath.cells.length));
+	}
+
+	/**
+	 * Caches the path from a given source to a given destination, searched from a given version of the obstacles' map.
+	 *
+	 * @param source the source position
+	 * @param destination the destination position
+	 * @param mapVersion the version of the obstacles' map from which the path was searched
+	 * @param path the positions of the path after the source until the destination
+	 */
+	public synchronized void put(Point source, Point destination, int mapVersion, GridPath path) {
+		this.paths.put(this.key(source, destination), new CachedPath(mapVersion, path.toCellArray()));
+	}
+
+	/**
+	 * Returns the number of paths kept in the cache.
+	 *
+	 * @return the number of paths kept in the cache
+	 */
+	public synchronized int size() {
+		return this.paths.size();
+	}
+
+	/**
+	 * Class responsible for a cached path, with the version of the obstacles' map from which it was searched.
+	 */
+	private static class CachedPath {
+
+		private final int mapVersion;
+		private final int[] cells;
+
+		private CachedPath(int mapVersion, int[] cells) {
+			this.mapVersion = mapVersion;
+			this.cells = cells;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ * 
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.world.utils;
+
+/**
+ * Class responsible for the mode of the pathfinding of the aircraft agents in the world's map/grid.
+ */
+public enum PathfindingMode {
+	
+	// Enumeration definition:
+	
+	/**
+	 * Possible enumerations and their parameters.
+	 */
+	BFS((byte) 0, "BFS"),
+	A_STAR((byte) 1, "A*"),
+	JPS((byte) 2, "Jump Point Search (4-connected)"),
+	JPS_DIAGONAL((byte) 3, "Jump Point Search (8-connected)"),
+	HIERARCHICAL((byte) 4, "Hierarchical (HPA*)"),
+	FLOW_FIELD((byte) 5, "Flow fields");
+	
+	
+	
+	// Global Instance Variables:
+	
+	/**
+	 * The id of the mode of the pathfinding.
+	 */
+    private final byte id;
+    
+    /**
+     * The name of the mode of the pathfinding.
+     */
+    private final String name;
+    
+    
+    
+    // Constructors:
+    
+    /**
+     * Constructor #1 of the mode of the pathfinding.
+     * 
+     * @param id the id of the mode of the pathfinding
+     * @param name the name of the mode of the pathfinding
+     */
+    private PathfindingMode(byte id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+    
+    
+    
+    // Basic methods:
+    
+    /**
+     * Returns the id of the mode of the pathfinding.
+     * 
+     * @return the id of the mode of the pathfinding
+     */
+    public byte getID() {
+    	return this.id;
+    }
+
+    /**
+     * Returns the name of the mode of the pathfinding.
+     * 
+     * @return the name of the mode of the pathfinding
+     */
+	public String getName() {
+		return name;
+	}
+}
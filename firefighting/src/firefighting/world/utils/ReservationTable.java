@@ -0,0 +1,265 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Class responsible for the space-time reservation table of the world's map/grid, shared by all the aircraft agents.
+ *
+ * Each reservation is a cell in a time step (of Config.AIRCRAFT_RESERVATION_STEP_DURATION milliseconds), owned by
+ * the aircraft agent which will be there, kept in a hash map keyed by the pair (cell, time step). Besides the timed
+ * reservations of the paths, each aircraft agent parks in the last cell of its path (or where it stands), from a given
+ * time step on, until it reserves a new path, so the other aircraft agents never plan through a stopped aircraft agent.
+ *
+ * The reservations of an aircraft agent expire whenever it reserves a new path (or parks again), since its previous ones
+ * are always released first, so the table only keeps the current paths of the aircraft agents.
+ */
+public class ReservationTable {
+
+	// Global Instance Variables:
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The owners of the timed reservations, keyed by the pair (cell, time step).
+	 */
+	private final HashMap<Long, Object> reservations;
+
+	/**
+	 * The owners of the parked cells, keyed by the cell.
+	 */
+	private final HashMap<Integer, Object> parkingOwners;
+
+	/**
+	 * The time steps from which the parked cells are parked, keyed by the cell.
+	 */
+	private final HashMap<Integer, Integer> parkingSteps;
+
+	/**
+	 * The keys of the timed reservations of each owner.
+	 */
+	private final HashMap<Object, List<Long>> ownerReservations;
+
+	/**
+	 * The parked cell of each owner.
+	 */
+	private final HashMap<Object, Integer> ownerParkings;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the space-time reservation table.
+	 *
+	 * Creates a new space-time reservation table, without any reservation.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public ReservationTable(int width, int height) {
+		this.height = height;
+
+		this.reservations = new HashMap<Long, Object>();
+		this.parkingOwners = new HashMap<Integer, Object>();
+		this.parkingSteps = new HashMap<Integer, Integer>();
+		this.ownerReservations = new HashMap<Object, List<Long>>();
+		this.ownerParkings = new HashMap<Object, Integer>();
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the key of the timed reservation of a given cell in a given time step.
+	 *
+	 * @param cell the cell
+	 * @param step the time step
+	 *
+	 * @return the key of the timed reservation of a given cell in a given time step
+	 */
+	private static long key(int cell, int step) {
+		return (((long) step) << 32) | (cell & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns the owner of a given position in a given time step (by a timed reservation or a parking),
+	 * or null, if it's free.
+	 *
+	 * @param x the coordinate X of the position
+	 * @param y the coordinate Y of the position
+	 * @param step the time step
+	 *
+	 * @return the owner of a given position in a given time step, or null, if it's free
+	 */
+	public synchronized Object getOwner(int x, int y, int step) {
+		int cell = (x * this.height) + y;
+
+		Object owner = this.reservations.get(key(cell, step));
+
+		if(owner != null) {
+			return owner;
+		}
+
+		Integer parkingStep = this.parkingSteps.get(cell);
+
+		if(parkingStep != null && step >= parkingStep) {
+			return this.parkingOwners.get(cell);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns true if a given position is free, or reserved by a given owner, in a given time step, and false, otherwise.
+	 *
+	 * @param x the coordinate X of the position
+	 * @param y the coordinate Y of the position
+	 * @param step the time step
+	 * @param owner the owner
+	 *
+	 * @return true if a given position is free, or reserved by a given owner, in a given time step, and false, otherwise
+	 */
+	public synchronized boolean isFree(int x, int y, int step, Object owner) {
+		Object reservationOwner = this.getOwner(x, y, step);
+
+		return reservationOwner == null || reservationOwner == owner;
+	}
+
+	/**
+	 * Returns true if a given position is free, or reserved by a given owner, in a given number of time steps
+	 * from a given time step, and false, otherwise.
+	 *
+	 * @param x the coordinate X of the position
+	 * @param y the coordinate Y of the position
+	 * @param step the first time step
+	 * @param numSteps the number of time steps
+	 * @param owner the owner
+	 *
+	 * @return true if a given position is free, or reserved by a given owner, in all the given time steps, and false, otherwise
+	 */
+	public synchronized boolean isFree(int x, int y, int step, int numSteps, Object owner) {
+		for(int s = step; s < step + numSteps; s++) {
+			if(!this.isFree(x, y, s, owner)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Reserves a timed path for a given owner, releasing its previous reservations first.
+	 *
+	 * The owner keeps its start position in the start time step, each position of the timed path in each of
+	 * the following time steps, and parks in the last position of the timed path after it. The positions already
+	 * reserved by other owners are kept (it only happens to the paths that ignored the reservations).
+	 *
+	 * @param owner the owner
+	 * @param start the start position
+	 * @param timedPath the position of the owner in each time step after the start time step
+	 * @param startStep the start time step
+	 */
+	public synchronized void reserve(Object owner, Point start, GridPath timedPath, int startStep) {
+		this.release(owner);
+
+		List<Long> keys = new ArrayList<Long>(timedPath.size() + 1);
+
+		int cell = (start.x * this.height) + start.y;
+
+		for(int s = 0; s <= timedPath.size(); s++) {
+			if(s > 0) {
+				cell = timedPath.getCell(s - 1);
+			}
+
+			long key = key(cell, startStep + s);
+
+			if(!this.reservations.containsKey(key)) {
+				this.reservations.put(key, owner);
+				keys.add(key);
+			}
+		}
+
+		this.ownerReservations.put(owner, keys);
+
+		this.park(owner, cell / this.height, cell % this.height, startStep + timedPath.size() + 1);
+	}
+
+	/**
+	 * Parks a given owner in a given position, from a given time step on, releasing its previous parking.
+	 *
+	 * @param owner the owner
+	 * @param x the coordinate X of the position
+	 * @param y the coordinate Y of the position
+	 * @param step the time step from which the position is parked
+	 */
+	public synchronized void park(Object owner, int x, int y, int step) {
+		this.unpark(owner);
+
+		int cell = (x * this.height) + y;
+
+		// Never takes the parking of another owner (it only happens to the paths that ignored the reservations)
+		if(this.parkingOwners.containsKey(cell)) {
+			return;
+		}
+
+		this.parkingOwners.put(cell, owner);
+		this.parkingSteps.put(cell, step);
+		this.ownerParkings.put(owner, cell);
+	}
+
+	/**
+	 * Releases the parking of a given owner, if it has one.
+	 *
+	 * @param owner the owner
+	 */
+	private void unpark(Object owner) {
+		Integer cell = this.ownerParkings.remove(owner);
+
+		if(cell != null) {
+			this.parkingOwners.remove(cell);
+			this.parkingSteps.remove(cell);
+		}
+	}
+
+	/**
+	 * Releases all the timed reservations and the parking of a given owner.
+	 *
+	 * @param owner the owner
+	 */
+	public synchronized void release(Object owner) {
+		List<Long> keys = this.ownerReservations.remove(owner);
+
+		if(keys != null) {
+			for(Long key : keys) {
+				this.reservations.remove(key);
+			}
+		}
+
+		this.unpark(owner);
+	}
+
+	/**
+	 * Returns the number of timed reservations in the table.
+	 *
+	 * @return the number of timed reservations in the table
+	 */
+	public synchronized int getNumReservations() {
+		return this.reservations.size();
+	}
+}
@@ -0,0 +1,193 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+package firefighting.world.utils;
+
+import java.util.Arrays;
+
+/**
+ * Class responsible for the flat and typed encoding of the world's map/grid, kept alongside the matrix of its objects.
+ *
+ * Each cell (indexed by x * height + y) keeps the id of the type of its world object (or EMPTY) and the index of
+ * the object in the array of its type (the water resources and the aircraft agents of the world), so the scans of
+ * the world's map/grid (the searches of paths, the rendering and the spread of the fires) read contiguous primitive
+ * arrays, instead of testing the type of each object of a matrix of references.
+ * The fires move between the slots of the fire store (swap-remove), so their cells keep no index (NO_INDEX).
+ */
+public class WorldGrid {
+
+	// Constants:
+
+	/**
+	 * The type of the cells without any world object.
+	 */
+	public static final byte EMPTY = -1;
+
+	/**
+	 * The index of the cells without any world object, or with a world object without a stable index (a fire).
+	 */
+	public static final int NO_INDEX = -1;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The width of the world's map/grid.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the world's map/grid.
+	 */
+	private final int height;
+
+	/**
+	 * The ids of the types of the world objects of the cells (or EMPTY).
+	 */
+	private final byte[] types;
+
+	/**
+	 * The indexes of the world objects of the cells in the arrays of their types (or NO_INDEX).
+	 */
+	private final int[] indexes;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the world grid.
+	 *
+	 * Creates a new world grid, without any world object.
+	 *
+	 * @param width the width of the world's map/grid
+	 * @param height the height of the world's map/grid
+	 */
+	public WorldGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+
+		this.types = new byte[width * height];
+		this.indexes = new int[width * height];
+
+		Arrays.fill(this.types, EMPTY);
+		Arrays.fill(this.indexes, NO_INDEX);
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns the width of the world's map/grid.
+	 *
+	 * @return the width of the world's map/grid
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Returns the height of the world's map/grid.
+	 *
+	 * @return the height of the world's map/grid
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Returns the id of the type of the world object of a given cell, or EMPTY, if there's none.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return the id of the type of the world object of a given cell, or EMPTY
+	 */
+	public byte getType(int x, int y) {
+		return this.types[(x * this.height) + y];
+	}
+
+	/**
+	 * Returns the id of the type of the world object of a given cell (indexed by x * height + y), or EMPTY, if there's none.
+	 *
+	 * @param cell the cell
+	 *
+	 * @return the id of the type of the world object of a given cell, or EMPTY
+	 */
+	public byte getType(int cell) {
+		return this.types[cell];
+	}
+
+	/**
+	 * Returns true if the world object of a given cell is of a given type and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 * @param worldObjectType the type of world object
+	 *
+	 * @return true if the world object of a given cell is of a given type and false, otherwise
+	 */
+	public boolean is(int x, int y, WorldObjectType worldObjectType) {
+		return this.types[(x * this.height) + y] == worldObjectType.getID();
+	}
+
+	/**
+	 * Returns true if a given cell has no world object and false, otherwise.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return true if a given cell has no world object and false, otherwise
+	 */
+	public boolean isEmpty(int x, int y) {
+		return this.types[(x * this.height) + y] == EMPTY;
+	}
+
+	/**
+	 * Returns the index of the world object of a given cell in the array of its type, or NO_INDEX, if there's none.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 *
+	 * @return the index of the world object of a given cell in the array of its type, or NO_INDEX
+	 */
+	public int getIndex(int x, int y) {
+		return this.indexes[(x * this.height) + y];
+	}
+
+	/**
+	 * Sets the world object of a given cell, by its type and its index in the array of its type.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 * @param worldObjectType the type of the world object
+	 * @param index the index of the world object in the array of its type, or NO_INDEX
+	 */
+	public void set(int x, int y, WorldObjectType worldObjectType, int index) {
+		int cell = (x * this.height) + y;
+
+		this.types[cell] = worldObjectType.getID();
+		this.indexes[cell] = index;
+	}
+
+	/**
+	 * Clears the world object of a given cell.
+	 *
+	 * @param x the coordinate X of the cell
+	 * @param y the coordinate Y of the cell
+	 */
+	public void clear(int x, int y) {
+		int cell = (x * this.height) + y;
+
+		this.types[cell] = EMPTY;
+		this.indexes[cell] = NO_INDEX;
+	}
+}
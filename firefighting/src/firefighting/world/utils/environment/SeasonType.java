@@ -22,10 +22,10 @@ public enum SeasonType {
 	/**
 	 * Possible enumerations and their parameters.
 	 */
-	SPRING((byte) 0, "Spring", Config.RAIN_FACTOR_SPRING, false),
-	SUMMER((byte) 1, "Summer", Config.RAIN_FACTOR_SUMMER, true),
-	AUTUMN((byte) 2, "Autumn", Config.RAIN_FACTOR_AUTUMN, false),
-	WINTER((byte) 3, "Winter", Config.RAIN_FACTOR_WINTER, false);
+	SPRING((byte) 0, "Spring", Config.RAIN_FACTOR_SPRING, false, Config.FIRE_SPREAD_FACTOR_SPRING),
+	SUMMER((byte) 1, "Summer", Config.RAIN_FACTOR_SUMMER, true, Config.FIRE_SPREAD_FACTOR_SUMMER),
+	AUTUMN((byte) 2, "Autumn", Config.RAIN_FACTOR_AUTUMN, false, Config.FIRE_SPREAD_FACTOR_AUTUMN),
+	WINTER((byte) 3, "Winter", Config.RAIN_FACTOR_WINTER, false, Config.FIRE_SPREAD_FACTOR_WINTER);
 	
 	
 	
@@ -52,6 +52,11 @@ public enum SeasonType {
      */
     private final boolean occurrenceOfDroughts;
     
+    /**
+     * The factor that multiplies the probability of the fires spreading, associated to the type of season.
+     */
+    private final double fireSpreadFactor;
+    
     
     
     // Constructors:
@@ -63,12 +68,14 @@ public enum SeasonType {
      * @param name the name of the type of season
      * @param rainFactor
      * @param occurrenceOfDroughts
+     * @param fireSpreadFactor the factor that multiplies the probability of the fires spreading
      */
-    private SeasonType(byte id, String name, int rainFactor, boolean occurrenceOfDroughts) {
+    private SeasonType(byte id, String name, int rainFactor, boolean occurrenceOfDroughts, double fireSpreadFactor) {
         this.id = id;
         this.name = name;
         this.rainFactor = rainFactor;
         this.occurrenceOfDroughts = occurrenceOfDroughts;
+        this.fireSpreadFactor = fireSpreadFactor;
     }
     
     
@@ -112,4 +119,13 @@ public enum SeasonType {
 	public boolean canOccurDroughts() {
 		return this.occurrenceOfDroughts;
 	}
+	
+	/**
+	 * Returns the factor that multiplies the probability of the fires spreading, associated to the type of season.
+	 * 
+	 * @return the factor that multiplies the probability of the fires spreading, associated to the type of season
+	 */
+	public double getFireSpreadFactor() {
+		return this.fireSpreadFactor;
+	}
 }
@@ -0,0 +1,347 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ *
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.world.utils.environment;
+
+import java.util.SplittableRandom;
+
+import firefighting.utils.Config;
+
+/**
+ * Class responsible for the timeline of the weather conditions of a simulation (run).
+ *
+ * The timeline is precomputed, when the world is created, as a compact array of weather epochs
+ * (with a fixed duration), each one packing its season, wind type, wind direction, drought occurrence,
+ * rain frequency and rain amount in a single int, so the current weather conditions are looked up
+ * in constant time by the simulated time, without any random draws during the simulation.
+ * After its last epoch, the timeline starts again from the first one.
+ * If the weather conditions aren't simulated, the timeline has a single epoch, so the weather conditions never change.
+ */
+public class WeatherTimeline {
+
+	// Constants:
+
+	private static final int SEASON_SHIFT = 0;
+
+	private static final int WIND_TYPE_SHIFT = 2;
+
+	private static final int WIND_DIRECTION_SHIFT = 4;
+
+	private static final int DROUGHT_SITUATION_SHIFT = 6;
+
+	private static final int RAIN_FREQUENCY_SHIFT = 8;
+
+	private static final int RAIN_AMOUNT_SHIFT = 16;
+
+	private static final int TWO_BITS_MASK = 0x3;
+
+	private static final int BYTE_MASK = 0xFF;
+
+
+
+	// Global Instance Variables:
+
+	/**
+	 * The duration of each weather epoch, in milliseconds.
+	 */
+	private final long epochDuration;
+
+	/**
+	 * The packed weather conditions of each epoch.
+	 */
+	private final int[] epochs;
+
+	/**
+	 * The lower bound of the probability interval of occurring droughts, of each epoch.
+	 */
+	private final float[] droughtSituationProbabilityMin;
+
+	/**
+	 * The upper bound of the probability interval of occurring droughts, of each epoch.
+	 */
+	private final float[] droughtSituationProbabilityMax;
+
+
+
+	// Constructors:
+
+	/**
+	 * Constructor #1 of the weather timeline.
+	 *
+	 * Precomputes the weather epochs of the whole simulation (run), from a given random numbers' generator.
+	 *
+	 * @param random the random numbers' generator of the world
+	 */
+	public WeatherTimeline(SplittableRandom random) {
+		this.epochDuration = Config.WEATHER_EPOCH_DURATION;
+
+		int numEpochs = Config.WEATHER_CONDITIONS_ENABLED ?
+						(int) Math.max(1L, Config.WEATHER_TIMELINE_DURATION / this.epochDuration) : 1;
+		int numEpochsPerSeason = (int) Math.max(1L, Config.SEASON_DURATION / this.epochDuration);
+
+		this.epochs = new int[numEpochs];
+		this.droughtSituationProbabilityMin = new float[numEpochs];
+		this.droughtSituationProbabilityMax = new float[numEpochs];
+
+		SeasonType[] seasonTypes = SeasonType.values();
+		WindType[] windTypes = WindType.values();
+		WindDirection[] windDirections = WindDirection.values();
+
+		SeasonType seasonType = seasonTypes[random.nextInt(Config.NUM_SEASONS)];
+		WindType windType = windTypes[random.nextInt(Config.NUM_TYPE_WINDS)];
+		WindDirection windDirection = windDirections[random.nextInt(Config.NUM_WIND_DIRECTIONS)];
+
+		float min = 0.0f;
+		float max = 0.0f;
+
+		for(int e = 0; e < numEpochs; e++) {
+
+			// 1) The seasons follow each other, with a fixed number of epochs each
+			if(e > 0 && (e % numEpochsPerSeason) == 0) {
+				seasonType = seasonTypes[(seasonType.getID() + 1) % seasonTypes.length];
+			}
+
+			// A new probability interval of occurring droughts, at the start of each season where it's possible
+			if(e == 0 || (e % numEpochsPerSeason) == 0) {
+				if(seasonType.canOccurDroughts()) {
+					min = (float) random.nextDouble();
+					max = min + ((float) random.nextDouble() * (1.0f - min));
+				}
+				else {
+					min = 0.0f;
+					max = 0.0f;
+				}
+			}
+
+			// 2) The wind keeps its type and direction from one epoch to the next one, or changes randomly
+			if(e > 0 && random.nextDouble() < Config.WEATHER_WIND_CHANGE_PROBABILITY) {
+				windType = windTypes[random.nextInt(Config.NUM_TYPE_WINDS)];
+				windDirection = windDirections[random.nextInt(Config.NUM_WIND_DIRECTIONS)];
+			}
+
+			// 3) The drought occurs in the epoch if a random probability falls in the current probability interval
+			float probabilityOccurDroughtSituation = (float) random.nextDouble();
+
+			boolean droughtSituation = seasonType.canOccurDroughts() &&
+									   (probabilityOccurDroughtSituation >= min) && (probabilityOccurDroughtSituation <= max);
+
+			// 4) The rain frequency and amount of the epoch
+			int rainFrequencyTimeSec = rainFrequencyTimeSec(seasonType, random);
+			int rainAmount = rainAmount(seasonType, random);
+
+			this.epochs[e] = (seasonType.getID() << SEASON_SHIFT) |
+							 (windType.getID() << WIND_TYPE_SHIFT) |
+							 (windDirection.getID() << WIND_DIRECTION_SHIFT) |
+							 ((droughtSituation ? 1 : 0) << DROUGHT_SITUATION_SHIFT) |
+							 (Math.min(rainFrequencyTimeSec, BYTE_MASK) << RAIN_FREQUENCY_SHIFT) |
+							 (Math.min(rainAmount, BYTE_MASK) << RAIN_AMOUNT_SHIFT);
+
+			this.droughtSituationProbabilityMin[e] = min;
+			this.droughtSituationProbabilityMax[e] = max;
+		}
+	}
+
+
+
+	// Methods:
+
+	/**
+	 * Returns a random time frequency in seconds of occurring precipitation/rain, from the global set [0s, 30s],
+	 * accordingly with a given season.
+	 *
+	 * @param seasonType the season type
+	 * @param random the random numbers' generator
+	 *
+	 * @return a random time frequency in seconds of occurring precipitation/rain
+	 */
+	private static int rainFrequencyTimeSec(SeasonType seasonType, SplittableRandom random) {
+		switch(seasonType.getID()) {
+			// SPRING SEASON
+			case 0:
+				// Normal time frequency of occurring precipitation/rain from the set [6s, 14s]
+				return random.nextInt(6, 15);
+			// SUMMER SEASON
+			case 1:
+				// Normal time frequency of occurring precipitation/rain from the set [15s, 20s]
+				return random.nextInt(15, 21);
+			// AUTUMN SEASON
+			case 2:
+				// Normal time frequency of occurring precipitation/rain from the set [6s, 14s]
+				return random.nextInt(6, 15);
+			// WINTER SEASON
+			case 3:
+				// Normal time frequency of occurring precipitation/rain from the set [1s, 5s]
+				return random.nextInt(1, 6);
+			default:
+				return 30;
+		}
+	}
+
+	/**
+	 * Returns a random amount of rain, accordingly with a given season's rain factor.
+	 *
+	 * @param seasonType the season type
+	 * @param random the random numbers' generator
+	 *
+	 * @return a random amount of rain
+	 */
+	private static int rainAmount(SeasonType seasonType, SplittableRandom random) {
+		double rainRatio;
+
+		// Calculate a random ratio of increasing of rain amount, accordingly with the current season's rain factor
+		switch(seasonType.getID()) {
+			// SPRING SEASON
+			case 0:
+				// Normal amounts of rain ([16% , 50%] of precipitation)
+				rainRatio = (random.nextInt(16, 51)) / 100.0;
+				break;
+			// SUMMER SEASON
+			case 1:
+				// Small amounts of rain ([0% , 15%] of precipitation)
+				rainRatio = (random.nextInt(0, 16)) / 100.0;
+				break;
+			// AUTUMN SEASON
+			case 2:
+				// Normal amounts of rain ([16% , 50%] of precipitation)
+				rainRatio = (random.nextInt(16, 51)) / 100.0;
+				break;
+			// WINTER SEASON
+			case 3:
+				// Big amounts of rain ([51% , 100%] of precipitation)
+				rainRatio = (random.nextInt(51, 101)) / 100.0;
+				break;
+			default:
+				rainRatio = 0.0;
+				break;
+		}
+
+		return (int) Math.round(seasonType.getRainFactor() * rainRatio);
+	}
+
+	/**
+	 * Returns the duration of each weather epoch, in milliseconds.
+	 *
+	 * @return the duration of each weather epoch, in milliseconds
+	 */
+	public long getEpochDuration() {
+		return this.epochDuration;
+	}
+
+	/**
+	 * Returns the number of weather epochs of the timeline.
+	 *
+	 * @return the number of weather epochs of the timeline
+	 */
+	public int getNumEpochs() {
+		return this.epochs.length;
+	}
+
+	/**
+	 * Returns the index of the weather epoch of a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the index of the weather epoch of a given simulated time
+	 */
+	public int getEpoch(long simulationTime) {
+		return (int) ((Math.max(0L, simulationTime) / this.epochDuration) % this.epochs.length);
+	}
+
+	/**
+	 * Returns the simulated time of the start of the weather epoch following a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the simulated time of the start of the weather epoch following a given simulated time
+	 */
+	public long getNextEpochTime(long simulationTime) {
+		return ((Math.max(0L, simulationTime) / this.epochDuration) + 1) * this.epochDuration;
+	}
+
+	/**
+	 * Returns the season type at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the season type at a given simulated time
+	 */
+	public SeasonType getSeasonType(long simulationTime) {
+		return SeasonType.values()[(this.epochs[this.getEpoch(simulationTime)] >>> SEASON_SHIFT) & TWO_BITS_MASK];
+	}
+
+	/**
+	 * Returns the wind type at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the wind type at a given simulated time
+	 */
+	public WindType getWindType(long simulationTime) {
+		return WindType.values()[(this.epochs[this.getEpoch(simulationTime)] >>> WIND_TYPE_SHIFT) & TWO_BITS_MASK];
+	}
+
+	/**
+	 * Returns the wind direction at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the wind direction at a given simulated time
+	 */
+	public WindDirection getWindDirection(long simulationTime) {
+		return WindDirection.values()[(this.epochs[this.getEpoch(simulationTime)] >>> WIND_DIRECTION_SHIFT) & TWO_BITS_MASK];
+	}
+
+	/**
+	 * Returns true if a drought (extreme dry situation) occurs at the start of the weather epoch of a given simulated time
+	 * and false, otherwise.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return true if a drought occurs at the start of the weather epoch of a given simulated time and false, otherwise
+	 */
+	public boolean isDroughtSituation(long simulationTime) {
+		return ((this.epochs[this.getEpoch(simulationTime)] >>> DROUGHT_SITUATION_SHIFT) & 1) != 0;
+	}
+
+	/**
+	 * Returns the probability interval of occurring droughts (extreme dry situations) at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the probability interval of occurring droughts at a given simulated time
+	 */
+	public float[] getDroughtSituationProbabilityInterval(long simulationTime) {
+		int epoch = this.getEpoch(simulationTime);
+
+		return new float[] {this.droughtSituationProbabilityMin[epoch], this.droughtSituationProbabilityMax[epoch]};
+	}
+
+	/**
+	 * Returns the time frequency of occurring precipitation/rain, in milliseconds, at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the time frequency of occurring precipitation/rain, in milliseconds, at a given simulated time
+	 */
+	public long getRainFrequencyTime(long simulationTime) {
+		return ((this.epochs[this.getEpoch(simulationTime)] >>> RAIN_FREQUENCY_SHIFT) & BYTE_MASK) * 1000L;
+	}
+
+	/**
+	 * Returns the amount of each precipitation/rain, at a given simulated time.
+	 *
+	 * @param simulationTime the simulated time, in milliseconds
+	 *
+	 * @return the amount of each precipitation/rain, at a given simulated time
+	 */
+	public int getRainAmount(long simulationTime) {
+		return (this.epochs[this.getEpoch(simulationTime)] >>> RAIN_AMOUNT_SHIFT) & BYTE_MASK;
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * Agents and Distributed Artificial Intelligence
+ * Project 1 - Fire Fighting
+ * 
+ * Authors:
+ * 	@author Bernardo Coelho Leite - up201404464@fe.up.pt;
+ * 	@author Bruno Miguel Pinto - up201502960@fe.up.pt;
+ * 	@author Ruben Andre Barreiro - up201808917@fe.up.pt;
+ */
+
+package firefighting.world.utils.environment;
+
+/**
+ * Class responsible for a direction of wind (the direction to where the wind blows).
+ */
+public enum WindDirection {
+	
+	// Enumeration definition:
+	
+	/**
+	 * Possible enumerations and their parameters.
+	 */
+	NORTH((byte) 0, "North", 0, -1),
+	EAST((byte) 1, "East", 1, 0),
+	SOUTH((byte) 2, "South", 0, 1),
+	WEST((byte) 3, "West", -1, 0);
+	
+	
+	
+	// Global Instance Variables:
+	
+	/*
+	 * The id of the direction of wind.
+	 */
+    private final byte id;
+    
+    /**
+     * The name of the direction of wind.
+     */
+    private final String name;
+    
+    /**
+     * The offset in the coordinate X of the world's map/grid, of a movement in the direction of wind.
+     */
+    private final int offsetX;
+    
+    /**
+     * The offset in the coordinate Y of the world's map/grid, of a movement in the direction of wind.
+     */
+    private final int offsetY;
+    
+    
+    
+    // Constructors:
+    
+    /**
+     * Constructor #1 of the wind direction.
+     * 
+     * @param id the id of the direction of wind
+     * @param name the name of the direction of wind
+     * @param offsetX the offset in the coordinate X of the world's map/grid, of a movement in the direction of wind
+     * @param offsetY the offset in the coordinate Y of the world's map/grid, of a movement in the direction of wind
+     */
+    private WindDirection(byte id, String name, int offsetX, int offsetY) {
+        this.id = id;
+        this.name = name;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+    
+    
+    
+    // Basic methods:
+    
+    /**
+     * Returns the id of the direction of wind.
+     * 
+     * @return the id of the direction of wind
+     */
+    public byte getID() {
+    	return this.id;
+    }
+
+    /**
+     * Returns the name of the direction of wind.
+     * 
+     * @return the name of the direction of wind
+     */
+	public String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Returns the offset in the coordinate X of the world's map/grid, of a movement in the direction of wind.
+	 * 
+	 * @return the offset in the coordinate X of the world's map/grid, of a movement in the direction of wind
+	 */
+	public int getOffsetX() {
+		return this.offsetX;
+	}
+	
+	/**
+	 * Returns the offset in the coordinate Y of the world's map/grid, of a movement in the direction of wind.
+	 * 
+	 * @return the offset in the coordinate Y of the world's map/grid, of a movement in the direction of wind
+	 */
+	public int getOffsetY() {
+		return this.offsetY;
+	}
+	
+	/**
+	 * Returns the opposite direction of wind.
+	 * 
+	 * @return the opposite direction of wind
+	 */
+	public WindDirection getOpposite() {
+		return values()[(this.ordinal() + 2) % values().length];
+	}
+}
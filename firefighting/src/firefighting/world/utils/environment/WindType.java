@@ -22,10 +22,10 @@ public enum WindType {
 	/**
 	 * Possible enumerations and their parameters.
 	 */
-	NO_WIND((byte) 0, "No Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_NO_WIND),
-	WEAK_WIND((byte) 1, "Weak Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_WEAK_WIND),
-	NORMAL_WIND((byte) 2, "Normal Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_NORMAL_WIND),
-	STRONG_WIND((byte) 3, "Strong Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_STRONG_WIND);
+	NO_WIND((byte) 0, "No Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_NO_WIND, Config.FIRE_SPREAD_WIND_FACTOR_NO_WIND, Config.AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_NO_WIND),
+	WEAK_WIND((byte) 1, "Weak Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_WEAK_WIND, Config.FIRE_SPREAD_WIND_FACTOR_WEAK_WIND, Config.AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_WEAK_WIND),
+	NORMAL_WIND((byte) 2, "Normal Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_NORMAL_WIND, Config.FIRE_SPREAD_WIND_FACTOR_NORMAL_WIND, Config.AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_NORMAL_WIND),
+	STRONG_WIND((byte) 3, "Strong Wind", Config.AIRCRAFT_MOVEMENT_PENALTY_TIME_STRONG_WIND, Config.FIRE_SPREAD_WIND_FACTOR_STRONG_WIND, Config.AIRCRAFT_FUEL_CONSUMPTION_PER_CELL_STRONG_WIND);
 	
 	
 	
@@ -53,6 +53,18 @@ public enum WindType {
      */
     private final long penaltyAircraftMovementTime;
     
+    /**
+     * The factor of the wind's influence on the fires spreading: the probability of spreading
+     * in the direction of the wind is multiplied by (1 + factor) and against it is divided by (1 + factor).
+     */
+    private final double fireSpreadWindFactor;
+    
+    /**
+     * The fuel consumed by an aircraft agent to fly over a cell, accordingly with the current type of wind assigned to the world
+     * (the stronger the wind, the more fuel it takes to fly against its penalty).
+     */
+    private final int aircraftFuelConsumptionPerCell;
+    
     
     
     // Constructors:
@@ -63,11 +75,15 @@ public enum WindType {
      * @param id the id of the type of wind
      * @param name the name of the type of wind
      * @param penaltyAircraftMovementTime the penalty time that will affect the movement time of all the aircraft agents
+     * @param fireSpreadWindFactor the factor of the wind's influence on the fires spreading
+     * @param aircraftFuelConsumptionPerCell the fuel consumed by an aircraft agent to fly over a cell
      */
-    private WindType(byte id, String name, long penaltyAircraftMovementTime) {
+    private WindType(byte id, String name, long penaltyAircraftMovementTime, double fireSpreadWindFactor, int aircraftFuelConsumptionPerCell) {
         this.id = id;
         this.name = name;
         this.penaltyAircraftMovementTime = penaltyAircraftMovementTime;
+        this.fireSpreadWindFactor = fireSpreadWindFactor;
+        this.aircraftFuelConsumptionPerCell = aircraftFuelConsumptionPerCell;
     }
     
     
@@ -108,4 +124,23 @@ public enum WindType {
 	public long getPenaltyAircraftMovementTime() {
 		return this.penaltyAircraftMovementTime;
 	}
+	
+	/**
+	 * Returns the factor of the wind's influence on the fires spreading: the probability of spreading
+	 * in the direction of the wind is multiplied by (1 + factor) and against it is divided by (1 + factor).
+	 * 
+	 * @return the factor of the wind's influence on the fires spreading
+	 */
+	public double getFireSpreadWindFactor() {
+		return this.fireSpreadWindFactor;
+	}
+	
+	/**
+	 * Returns the fuel consumed by an aircraft agent to fly over a cell, accordingly with the current type of wind assigned to the world.
+	 * 
+	 * @return the fuel consumed by an aircraft agent to fly over a cell
+	 */
+	public int getAircraftFuelConsumptionPerCell() {
+		return this.aircraftFuelConsumptionPerCell;
+	}
 }